@@ -0,0 +1,10 @@
+package com.campusconnect.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background jobs (e.g. the review outbox dispatcher) run on Spring's @Scheduled support
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -59,6 +59,7 @@ public class SecurityConfig {
                     "/api/universities",         // GET all universities (public for registration)
                     "/api/universities/{id}",    // GET university by ID (public)
                     "/api/projects",             // GET all projects (public)
+                    "/api/projects/facets",      // GET facet counts (public)
                     "/api/projects/{id}",        // GET project by ID (public)
                     "/api/skills",               // GET all skills (public)
                     "/api/interests",            // GET all interests (public)
@@ -74,6 +75,7 @@ public class SecurityConfig {
                     "/api/ratings/professor/{id}", // GET ratings by professor (public)
                     "/api/ratings/course/{id}",   // GET ratings by course (public)
                     "/api/users/teammates",       // GET teammates (public for FindTeammates page)
+                    "/api/profile-images/{hash}", // GET profile image by content hash (public)
                     "/ws/**"                     // WebSocket endpoint
                 ).permitAll()
 
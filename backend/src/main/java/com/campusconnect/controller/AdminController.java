@@ -8,6 +8,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -53,4 +54,22 @@ public class AdminController {
         return ResponseEntity.ok("Project deleted successfully");
     }
 
+    // ✅ Hit/miss counters for the public project catalog cache
+    @GetMapping("/cache/projects")
+    public ResponseEntity<Map<String, Object>> getProjectCacheStats() {
+        return ResponseEntity.ok(adminService.getProjectCacheStats());
+    }
+
+    // ✅ Recompute professor/course rating aggregates and monthly rollups from the ratings table
+    @PostMapping("/ratings/aggregates/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildRatingAggregates() {
+        return ResponseEntity.ok(adminService.rebuildRatingAggregates());
+    }
+
+    // ✅ Reviews still queued (or given up on) by the rating-to-review outbox
+    @GetMapping("/outbox/reviews")
+    public ResponseEntity<Map<String, Object>> getReviewOutboxStats() {
+        return ResponseEntity.ok(adminService.getReviewOutboxStats());
+    }
+
 }
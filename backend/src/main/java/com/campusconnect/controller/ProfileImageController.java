@@ -0,0 +1,93 @@
+package com.campusconnect.controller;
+
+import com.campusconnect.service.ProfileImageStore;
+import com.campusconnect.service.ProfileThumbnailService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams profile images out of ProfileImageStore. The URL names the content hash, so a
+ * response can never go stale: it is cached for a year as immutable and its strong ETag is
+ * the hash itself, which lets revalidation answer 304 without touching the disk (a wildcard
+ * If-None-Match still needs the blob to exist). Avatars
+ * ask for a thumbnail size so list pages move a few KB per user instead of the upload.
+ */
+@RestController
+@RequestMapping("/api/profile-images")
+public class ProfileImageController {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    @Autowired
+    private ProfileImageStore profileImageStore;
+
+    @Autowired
+    private ProfileThumbnailService profileThumbnailService;
+
+    // ✅ Get a profile image by content hash (public); ?size=32|64|256 returns a square thumbnail
+    @GetMapping("/{hash}")
+    public ResponseEntity<?> getProfileImage(
+            @PathVariable String hash,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (!ProfileImageStore.isHash(hash)) {
+            return ResponseEntity.notFound().build();
+        }
+        if (size != null && !ProfileThumbnailService.isSupportedSize(size)) {
+            return ResponseEntity.badRequest().body("Unsupported size: " + size);
+        }
+        String etag = "\"" + hash + (size != null ? "-" + size : "") + "\"";
+        if (ifNoneMatch != null && ifNoneMatch.contains(etag)) {
+            return notModified(etag);
+        }
+        // "*" matches any current representation, so it is only answered once one is found
+        boolean anyMatch = ifNoneMatch != null && ifNoneMatch.trim().equals("*");
+
+        if (size != null) {
+            Optional<Path> thumbnail = profileImageStore.findThumbnail(hash, size);
+            if (thumbnail.isPresent()) {
+                return anyMatch ? notModified(etag) : stream(thumbnail.get(), etag, IMMUTABLE);
+            }
+        }
+        Optional<Path> original = profileImageStore.find(hash);
+        if (original.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (anyMatch) {
+            return notModified(etag);
+        }
+        if (size != null) {
+            // Thumbnail not generated (yet): queue it and serve the original without letting it be cached under this URL
+            profileThumbnailService.submit(hash);
+            return stream(original.get(), null, CacheControl.noStore());
+        }
+        return stream(original.get(), etag, IMMUTABLE);
+    }
+
+    private static ResponseEntity<?> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(IMMUTABLE).build();
+    }
+
+    private ResponseEntity<Resource> stream(Path path, String etag, CacheControl cacheControl) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .contentType(MediaType.parseMediaType(profileImageStore.contentTypeOf(path)))
+                .contentLength(path.toFile().length())
+                .header("X-Content-Type-Options", "nosniff");
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(new FileSystemResource(path));
+    }
+}
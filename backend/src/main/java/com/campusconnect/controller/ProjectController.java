@@ -2,16 +2,23 @@ package com.campusconnect.controller;
 
 import com.campusconnect.dto.CollaborationRequestDto;
 import com.campusconnect.dto.ProjectDto;
+import com.campusconnect.dto.ProjectFacetsDto;
+import com.campusconnect.dto.ProjectImportResultDto;
 import com.campusconnect.dto.ProjectMemberDto;
 import com.campusconnect.security.UserPrincipal;
 import com.campusconnect.service.CollaborationRequestService;
+import com.campusconnect.service.ProjectImportService;
 import com.campusconnect.service.ProjectMemberService;
 import com.campusconnect.service.ProjectService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -27,6 +34,9 @@ public class ProjectController {
     @Autowired
     private ProjectMemberService projectMemberService;
 
+    @Autowired
+    private ProjectImportService projectImportService;
+
     // ✅ Create new project (any STUDENT)
     @PreAuthorize("hasRole('STUDENT')")
     @PostMapping
@@ -36,16 +46,47 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.createProject(projectDto, currentUser.getId()));
     }
 
+    // ✅ Bulk import projects (course staff) - JSON array or CSV, streamed; returns a per-row report
+    @PreAuthorize("hasRole('PROFESSOR') or hasRole('ADMIN')")
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, "text/csv"})
+    public ResponseEntity<ProjectImportResultDto> importProjects(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        ProjectImportResultDto result = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_JSON)
+                ? projectImportService.importJson(body)
+                : projectImportService.importCsv(body);
+        return ResponseEntity.ok(result);
+    }
+
     // ✅ Get all projects (public)
+    // Passing cursor/limit/status/skill switches to keyset pagination and returns a ProjectPageDto
+    // facets=true wraps the (search) results as { items, facets }
     @GetMapping
-    public ResponseEntity<List<ProjectDto>> getAllProjects(
-            @RequestParam(required = false) String search) {
+    public ResponseEntity<?> getAllProjects(
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean facets,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String skill) {
+        if (facets) {
+            return ResponseEntity.ok(projectService.searchProjectsWithFacets(search));
+        }
         if (search != null && !search.trim().isEmpty()) {
             return ResponseEntity.ok(projectService.searchProjects(search.trim()));
         }
+        if (cursor != null || limit != null || status != null || skill != null) {
+            return ResponseEntity.ok(projectService.getProjectPage(cursor, limit, status, skill));
+        }
         return ResponseEntity.ok(projectService.getAllProjects());
     }
 
+    // ✅ Facet counts for the project browser filters (public)
+    @GetMapping("/facets")
+    public ResponseEntity<ProjectFacetsDto> getProjectFacets() {
+        return ResponseEntity.ok(projectService.getProjectFacets());
+    }
+
     // ✅ Get project by ID (public)
     @GetMapping("/{id}")
     public ResponseEntity<ProjectDto> getProjectById(@PathVariable Long id) {
@@ -90,6 +131,15 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.getProjectsByStudent(currentUser.getId()));
     }
 
+    // ✅ Recommended open projects for the current student (skill/interest match)
+    @PreAuthorize("hasRole('STUDENT')")
+    @GetMapping("/recommended")
+    public ResponseEntity<List<ProjectDto>> getRecommendedProjects(
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(projectService.getRecommendedProjects(currentUser.getId(), limit));
+    }
+
     // ✅ Send collaboration request (any STUDENT)
     @PreAuthorize("hasRole('STUDENT')")
     @PostMapping("/{projectId}/requests")
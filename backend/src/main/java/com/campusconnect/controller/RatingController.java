@@ -1,6 +1,9 @@
 package com.campusconnect.controller;
 
+import com.campusconnect.dto.LeaderboardPageDto;
+import com.campusconnect.dto.RatingDistributionDto;
 import com.campusconnect.dto.RatingDto;
+import com.campusconnect.dto.RatingSummaryDto;
 import com.campusconnect.service.RatingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -44,6 +47,50 @@ public class RatingController {
         return ResponseEntity.ok(ratingService.getAverageRatingForCourse(courseId));
     }
 
+    @GetMapping("/professor/{professorId}/summary")
+    public ResponseEntity<RatingSummaryDto> getRatingSummaryForProfessor(@PathVariable Long professorId) {
+        return ResponseEntity.ok(ratingService.getRatingSummaryForProfessor(professorId));
+    }
+
+    @GetMapping("/course/{courseId}/summary")
+    public ResponseEntity<RatingSummaryDto> getRatingSummaryForCourse(@PathVariable Long courseId) {
+        return ResponseEntity.ok(ratingService.getRatingSummaryForCourse(courseId));
+    }
+
+    // from/to are yyyy-MM (inclusive); granularity is MONTH or SEMESTER
+    @GetMapping("/professor/{professorId}/distribution")
+    public ResponseEntity<RatingDistributionDto> getRatingDistributionForProfessor(@PathVariable Long professorId,
+                                                                                   @RequestParam(required = false) String from,
+                                                                                   @RequestParam(required = false) String to,
+                                                                                   @RequestParam(required = false) String granularity) {
+        return ResponseEntity.ok(ratingService.getRatingDistributionForProfessor(professorId, from, to, granularity));
+    }
+
+    @GetMapping("/course/{courseId}/distribution")
+    public ResponseEntity<RatingDistributionDto> getRatingDistributionForCourse(@PathVariable Long courseId,
+                                                                                @RequestParam(required = false) String from,
+                                                                                @RequestParam(required = false) String to,
+                                                                                @RequestParam(required = false) String granularity) {
+        return ResponseEntity.ok(ratingService.getRatingDistributionForCourse(courseId, from, to, granularity));
+    }
+
+    // Bayesian-ranked; e.g. /leaderboard/professors?universityId=1 or /leaderboard/courses?department=Computer Science
+    @GetMapping("/leaderboard/professors")
+    public ResponseEntity<LeaderboardPageDto> getProfessorLeaderboard(@RequestParam(required = false) Long universityId,
+                                                                      @RequestParam(required = false) String department,
+                                                                      @RequestParam(defaultValue = "0") int page,
+                                                                      @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ratingService.getProfessorLeaderboard(universityId, department, page, size));
+    }
+
+    @GetMapping("/leaderboard/courses")
+    public ResponseEntity<LeaderboardPageDto> getCourseLeaderboard(@RequestParam(required = false) Long universityId,
+                                                                   @RequestParam(required = false) String department,
+                                                                   @RequestParam(defaultValue = "0") int page,
+                                                                   @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ratingService.getCourseLeaderboard(universityId, department, page, size));
+    }
+
     @PutMapping("/{ratingId}")
     public ResponseEntity<RatingDto> updateRating(@PathVariable Long ratingId, @RequestBody RatingDto ratingDto) {
         return ResponseEntity.ok(ratingService.updateRating(ratingId, ratingDto));
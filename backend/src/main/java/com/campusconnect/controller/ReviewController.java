@@ -1,6 +1,8 @@
 package com.campusconnect.controller;
 
 import com.campusconnect.dto.ReviewDto;
+import com.campusconnect.dto.ReviewPageDto;
+import com.campusconnect.dto.ReviewSearchHitDto;
 import com.campusconnect.service.ReviewService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -47,6 +49,42 @@ public class ReviewController {
         return ResponseEntity.ok(reviewService.getReviewsByProfessor(professorId));
     }
 
+    // Paged feed, sort=helpful (default) or newest; pass nextCursor back as cursor for the next page
+    @GetMapping("/course/{courseDetailId}/feed")
+    public ResponseEntity<ReviewPageDto> getCourseDetailReviewFeed(
+            @PathVariable Long courseDetailId,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(reviewService.getCourseDetailReviewFeed(courseDetailId, sort, cursor, limit));
+    }
+
+    @GetMapping("/professor/{professorId}/feed")
+    public ResponseEntity<ReviewPageDto> getProfessorReviewFeed(
+            @PathVariable Long professorId,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(reviewService.getProfessorReviewFeed(professorId, sort, cursor, limit));
+    }
+
+    // Full-text search within one target: plain words, "quoted phrases" and prefix* terms, all must match
+    @GetMapping("/course/{courseDetailId}/search")
+    public ResponseEntity<List<ReviewSearchHitDto>> searchCourseDetailReviews(
+            @PathVariable Long courseDetailId,
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(reviewService.searchCourseDetailReviews(courseDetailId, q, limit));
+    }
+
+    @GetMapping("/professor/{professorId}/search")
+    public ResponseEntity<List<ReviewSearchHitDto>> searchProfessorReviews(
+            @PathVariable Long professorId,
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(reviewService.searchProfessorReviews(professorId, q, limit));
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<ReviewDto>> getReviewsByUser(@PathVariable Long userId) {
         return ResponseEntity.ok(reviewService.getReviewsByUser(userId));
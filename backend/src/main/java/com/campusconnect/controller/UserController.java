@@ -25,13 +25,22 @@ public class UserController {
     }
 
     // ✅ Get teammates (public endpoint for FindTeammates page)
+    // Passing page/size returns a TeammatePageDto instead of the full list
     @GetMapping("/teammates")
-    public List<UserDto> getTeammates(
+    public ResponseEntity<?> getTeammates(
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String major,
             @RequestParam(required = false) String year,
-            @RequestParam(required = false) String availability) {
-        return userService.getTeammates(search, major, year, availability);
+            @RequestParam(required = false) String availability,
+            @RequestParam(required = false) String skill,
+            @RequestParam(required = false) String interest,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        if (page != null || size != null) {
+            return ResponseEntity.ok(userService.getTeammatePage(search, major, year, availability, skill, interest,
+                    page != null ? page : 0, size != null ? size : 20));
+        }
+        return ResponseEntity.ok(userService.getTeammates(search, major, year, availability, skill, interest));
     }
 
     // ✅ Update last seen (for online status)
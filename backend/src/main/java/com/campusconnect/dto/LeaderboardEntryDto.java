@@ -0,0 +1,36 @@
+package com.campusconnect.dto;
+
+// One ranked professor or course; score is the Bayesian-smoothed average used for ordering
+public class LeaderboardEntryDto {
+    private int rank;
+    private Long targetId;
+    private String name;
+    private Long universityId;
+    private String department;
+    private double average;
+    private long count;
+    private double score;
+
+    public LeaderboardEntryDto() {}
+
+    public LeaderboardEntryDto(int rank, Long targetId, String name, Long universityId, String department,
+                               double average, long count, double score) {
+        this.rank = rank;
+        this.targetId = targetId;
+        this.name = name;
+        this.universityId = universityId;
+        this.department = department;
+        this.average = average;
+        this.count = count;
+        this.score = score;
+    }
+
+    public int getRank() { return rank; }
+    public Long getTargetId() { return targetId; }
+    public String getName() { return name; }
+    public Long getUniversityId() { return universityId; }
+    public String getDepartment() { return department; }
+    public double getAverage() { return average; }
+    public long getCount() { return count; }
+    public double getScore() { return score; }
+}
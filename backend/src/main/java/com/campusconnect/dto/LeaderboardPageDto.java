@@ -0,0 +1,25 @@
+package com.campusconnect.dto;
+
+import java.util.List;
+
+public class LeaderboardPageDto {
+    private List<LeaderboardEntryDto> items;
+    private int page;
+    private int size;
+    private int total; // ranked entries in this leaderboard
+
+    public LeaderboardPageDto() {}
+
+    public LeaderboardPageDto(List<LeaderboardEntryDto> items, int page, int size, int total) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.total = total;
+    }
+
+    public List<LeaderboardEntryDto> getItems() { return items; }
+    public int getPage() { return page; }
+    public int getSize() { return size; }
+    public int getTotal() { return total; }
+    public boolean isHasMore() { return (long) (page + 1) * size < total; }
+}
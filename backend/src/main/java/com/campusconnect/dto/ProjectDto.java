@@ -18,6 +18,21 @@ public class ProjectDto {
     private Set<SkillDto> skills;
     private Set<Long> memberIds;
 
+    public ProjectDto() {}
+
+    // Used by JPQL constructor expressions; skills and memberIds are filled in separately
+    public ProjectDto(Long projectId, String title, String description, Long creatorId, Project.Status status,
+                      Timestamp createdAt, Integer membersRequired, Date deadline) {
+        this.projectId = projectId;
+        this.title = title != null ? title : "";
+        this.description = description != null ? description : "";
+        this.creatorId = creatorId;
+        this.status = status != null ? status.name() : "OPEN";
+        this.createdAt = createdAt;
+        this.membersRequired = membersRequired;
+        this.deadline = deadline;
+    }
+
     public Long getProjectId() { return projectId; }
     public void setProjectId(Long projectId) { this.projectId = projectId; }
     public String getTitle() { return title; }
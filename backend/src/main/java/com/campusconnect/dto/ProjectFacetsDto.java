@@ -0,0 +1,23 @@
+package com.campusconnect.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Filter counts shown next to the project browser, e.g. "OPEN (312) / ONGOING (80)"
+public class ProjectFacetsDto {
+    private Map<String, Integer> status = new LinkedHashMap<>();
+    private Map<String, Integer> skills = new LinkedHashMap<>();    // most used first
+    private Map<String, Integer> deadlines = new LinkedHashMap<>(); // NONE, OVERDUE, THIS_WEEK, THIS_MONTH, LATER
+    private int total;
+
+    public ProjectFacetsDto() {}
+
+    public Map<String, Integer> getStatus() { return status; }
+    public void setStatus(Map<String, Integer> status) { this.status = status; }
+    public Map<String, Integer> getSkills() { return skills; }
+    public void setSkills(Map<String, Integer> skills) { this.skills = skills; }
+    public Map<String, Integer> getDeadlines() { return deadlines; }
+    public void setDeadlines(Map<String, Integer> deadlines) { this.deadlines = deadlines; }
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+}
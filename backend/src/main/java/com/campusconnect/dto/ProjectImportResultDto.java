@@ -0,0 +1,55 @@
+package com.campusconnect.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Per-row outcome of a bulk project import
+public class ProjectImportResultDto {
+    private int total;
+    private int created;
+    private int failed;
+    private List<Row> rows = new ArrayList<>();
+
+    public ProjectImportResultDto() {}
+
+    public void addCreated(int row, String title, Long projectId) {
+        rows.add(new Row(row, title, "CREATED", projectId, null));
+        total++;
+        created++;
+    }
+
+    public void addFailed(int row, String title, String error) {
+        rows.add(new Row(row, title, "FAILED", null, error));
+        total++;
+        failed++;
+    }
+
+    public int getTotal() { return total; }
+    public int getCreated() { return created; }
+    public int getFailed() { return failed; }
+    public List<Row> getRows() { return rows; }
+
+    public static class Row {
+        private int row;          // 1-based position in the input (CSV header excluded)
+        private String title;
+        private String status;    // CREATED or FAILED
+        private Long projectId;
+        private String error;
+
+        public Row() {}
+
+        public Row(int row, String title, String status, Long projectId, String error) {
+            this.row = row;
+            this.title = title;
+            this.status = status;
+            this.projectId = projectId;
+            this.error = error;
+        }
+
+        public int getRow() { return row; }
+        public String getTitle() { return title; }
+        public String getStatus() { return status; }
+        public Long getProjectId() { return projectId; }
+        public String getError() { return error; }
+    }
+}
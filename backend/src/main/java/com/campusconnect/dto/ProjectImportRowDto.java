@@ -0,0 +1,35 @@
+package com.campusconnect.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// One project in a bulk import (JSON element or CSV record)
+public class ProjectImportRowDto {
+    private String title;
+    private String description;
+    private String status;          // OPEN / ONGOING / COMPLETED, defaults to OPEN
+    private Integer membersRequired; // defaults to 5
+    private String deadline;        // yyyy-MM-dd
+    private List<String> skills = new ArrayList<>();
+    private String leaderEmail;     // leader is looked up by email or ID
+    private Long leaderId;
+
+    public ProjectImportRowDto() {}
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public Integer getMembersRequired() { return membersRequired; }
+    public void setMembersRequired(Integer membersRequired) { this.membersRequired = membersRequired; }
+    public String getDeadline() { return deadline; }
+    public void setDeadline(String deadline) { this.deadline = deadline; }
+    public List<String> getSkills() { return skills; }
+    public void setSkills(List<String> skills) { this.skills = skills; }
+    public String getLeaderEmail() { return leaderEmail; }
+    public void setLeaderEmail(String leaderEmail) { this.leaderEmail = leaderEmail; }
+    public Long getLeaderId() { return leaderId; }
+    public void setLeaderId(Long leaderId) { this.leaderId = leaderId; }
+}
@@ -0,0 +1,25 @@
+package com.campusconnect.dto;
+
+import java.util.List;
+
+public class ProjectPageDto {
+    private List<ProjectDto> items;
+    private String nextCursor; // null when there are no more pages
+    private int limit;
+
+    public ProjectPageDto() {}
+
+    public ProjectPageDto(List<ProjectDto> items, String nextCursor, int limit) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    public List<ProjectDto> getItems() { return items; }
+    public void setItems(List<ProjectDto> items) { this.items = items; }
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+    public int getLimit() { return limit; }
+    public void setLimit(int limit) { this.limit = limit; }
+    public boolean isHasMore() { return nextCursor != null; }
+}
@@ -0,0 +1,20 @@
+package com.campusconnect.dto;
+
+import java.util.List;
+
+public class ProjectSearchResultDto {
+    private List<ProjectDto> items;
+    private ProjectFacetsDto facets;
+
+    public ProjectSearchResultDto() {}
+
+    public ProjectSearchResultDto(List<ProjectDto> items, ProjectFacetsDto facets) {
+        this.items = items;
+        this.facets = facets;
+    }
+
+    public List<ProjectDto> getItems() { return items; }
+    public void setItems(List<ProjectDto> items) { this.items = items; }
+    public ProjectFacetsDto getFacets() { return facets; }
+    public void setFacets(ProjectFacetsDto facets) { this.facets = facets; }
+}
@@ -0,0 +1,61 @@
+package com.campusconnect.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Star histogram and per-period trend for one professor or course over a month range
+public class RatingDistributionDto {
+    private String targetType;
+    private Long targetId;
+    private String from;          // yyyy-MM, inclusive
+    private String to;            // yyyy-MM, inclusive
+    private String granularity;   // MONTH or SEMESTER
+    private long count;
+    private double average;
+    private Map<Integer, Long> histogram = new LinkedHashMap<>();
+    private List<TrendPoint> trend = new ArrayList<>();
+
+    public RatingDistributionDto() {}
+
+    public RatingDistributionDto(String targetType, Long targetId, String from, String to, String granularity) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.from = from;
+        this.to = to;
+        this.granularity = granularity;
+    }
+
+    public String getTargetType() { return targetType; }
+    public Long getTargetId() { return targetId; }
+    public String getFrom() { return from; }
+    public String getTo() { return to; }
+    public String getGranularity() { return granularity; }
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+    public double getAverage() { return average; }
+    public void setAverage(double average) { this.average = average; }
+    public Map<Integer, Long> getHistogram() { return histogram; }
+    public List<TrendPoint> getTrend() { return trend; }
+
+    public static class TrendPoint {
+        private String period;    // e.g. 2025-03 or 2025-SPRING
+        private long count;
+        private double average;
+        private Map<Integer, Long> histogram = new LinkedHashMap<>();
+
+        public TrendPoint() {}
+
+        public TrendPoint(String period) {
+            this.period = period;
+        }
+
+        public String getPeriod() { return period; }
+        public long getCount() { return count; }
+        public void setCount(long count) { this.count = count; }
+        public double getAverage() { return average; }
+        public void setAverage(double average) { this.average = average; }
+        public Map<Integer, Long> getHistogram() { return histogram; }
+    }
+}
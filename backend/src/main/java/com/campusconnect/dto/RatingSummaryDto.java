@@ -0,0 +1,36 @@
+package com.campusconnect.dto;
+
+import com.campusconnect.entity.RatingAggregate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Average, count and star histogram for one professor or course
+public class RatingSummaryDto {
+    private String targetType;
+    private Long targetId;
+    private double average;
+    private long count;
+    private Map<Integer, Long> histogram = new LinkedHashMap<>();
+
+    public RatingSummaryDto() {}
+
+    public RatingSummaryDto(RatingAggregate.TargetType targetType, Long targetId, RatingAggregate aggregate) {
+        this.targetType = targetType.name();
+        this.targetId = targetId;
+        long[] stars = aggregate != null ? aggregate.getHistogram() : new long[5];
+        for (int i = 0; i < stars.length; i++) {
+            histogram.put(i + 1, stars[i]);
+        }
+        if (aggregate != null) {
+            this.average = aggregate.getAverage();
+            this.count = aggregate.getRatingCount();
+        }
+    }
+
+    public String getTargetType() { return targetType; }
+    public Long getTargetId() { return targetId; }
+    public double getAverage() { return average; }
+    public long getCount() { return count; }
+    public Map<Integer, Long> getHistogram() { return histogram; }
+}
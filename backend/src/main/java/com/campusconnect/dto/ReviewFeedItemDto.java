@@ -0,0 +1,52 @@
+package com.campusconnect.dto;
+
+import java.time.LocalDateTime;
+
+// Lean review row for paged feeds: no nested course/professor, just the author's name and rating value
+public class ReviewFeedItemDto {
+    private Long reviewId;
+    private String title;
+    private String content;
+    private Integer helpfulCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long userId;
+    private String userName;
+    private Integer ratingValue;
+
+    public ReviewFeedItemDto() {}
+
+    // Used by JPQL constructor expressions
+    public ReviewFeedItemDto(Long reviewId, String title, String content, Integer helpfulCount,
+                             LocalDateTime createdAt, LocalDateTime updatedAt,
+                             Long userId, String userName, Integer ratingValue) {
+        this.reviewId = reviewId;
+        this.title = title;
+        this.content = content;
+        this.helpfulCount = helpfulCount != null ? helpfulCount : 0;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.userId = userId;
+        this.userName = userName;
+        this.ratingValue = ratingValue;
+    }
+
+    public Long getReviewId() { return reviewId; }
+    public void setReviewId(Long reviewId) { this.reviewId = reviewId; }
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public String getContent() { return content; }
+    public void setContent(String content) { this.content = content; }
+    public Integer getHelpfulCount() { return helpfulCount; }
+    public void setHelpfulCount(Integer helpfulCount) { this.helpfulCount = helpfulCount; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public String getUserName() { return userName; }
+    public void setUserName(String userName) { this.userName = userName; }
+    public Integer getRatingValue() { return ratingValue; }
+    public void setRatingValue(Integer ratingValue) { this.ratingValue = ratingValue; }
+}
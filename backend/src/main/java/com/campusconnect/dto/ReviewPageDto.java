@@ -0,0 +1,29 @@
+package com.campusconnect.dto;
+
+import java.util.List;
+
+public class ReviewPageDto {
+    private List<ReviewFeedItemDto> items;
+    private String sort;
+    private String nextCursor; // null when there are no more pages
+    private int limit;
+
+    public ReviewPageDto() {}
+
+    public ReviewPageDto(List<ReviewFeedItemDto> items, String sort, String nextCursor, int limit) {
+        this.items = items;
+        this.sort = sort;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    public List<ReviewFeedItemDto> getItems() { return items; }
+    public void setItems(List<ReviewFeedItemDto> items) { this.items = items; }
+    public String getSort() { return sort; }
+    public void setSort(String sort) { this.sort = sort; }
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+    public int getLimit() { return limit; }
+    public void setLimit(int limit) { this.limit = limit; }
+    public boolean isHasMore() { return nextCursor != null; }
+}
@@ -0,0 +1,33 @@
+package com.campusconnect.dto;
+
+import java.time.LocalDateTime;
+
+// snippet is HTML-escaped text with matched words wrapped in <mark></mark>
+public class ReviewSearchHitDto {
+    private Long reviewId;
+    private String title;
+    private String snippet;
+    private LocalDateTime createdAt;
+    private double score;
+
+    public ReviewSearchHitDto() {}
+
+    public ReviewSearchHitDto(Long reviewId, String title, String snippet, LocalDateTime createdAt, double score) {
+        this.reviewId = reviewId;
+        this.title = title;
+        this.snippet = snippet;
+        this.createdAt = createdAt;
+        this.score = score;
+    }
+
+    public Long getReviewId() { return reviewId; }
+    public void setReviewId(Long reviewId) { this.reviewId = reviewId; }
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public String getSnippet() { return snippet; }
+    public void setSnippet(String snippet) { this.snippet = snippet; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+}
@@ -5,13 +5,17 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.campusconnect.entity.User;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 public class UserDto {
     private Long userId;
     private String name;
     private String email;
     private String bio;
+    // Upload only; responses carry profileImageUrl instead of the bytes
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private byte[] profileImage;
+    private String profileImageUrl;
     private String role;
     private Timestamp createdAt;
     private Set<SkillDto> skills;
@@ -24,6 +28,7 @@ public class UserDto {
     private String availability;
     private String hoursPerWeek;
     private Timestamp lastSeen;
+    private Boolean online; // Set on teammate listings from in-memory presence
     // Computed fields for teammate display
     private Integer projectCount;
     private Double rating;
@@ -40,6 +45,8 @@ public class UserDto {
     public void setBio(String bio) { this.bio = bio; }
     public byte[] getProfileImage() { return profileImage; }
     public void setProfileImage(byte[] profileImage) { this.profileImage = profileImage; }
+    public String getProfileImageUrl() { return profileImageUrl; }
+    public void setProfileImageUrl(String profileImageUrl) { this.profileImageUrl = profileImageUrl; }
     public String getRole() { return role; }
     public void setRole(String role) { this.role = role; }
     public Timestamp getCreatedAt() { return createdAt; }
@@ -68,6 +75,9 @@ public class UserDto {
     public Timestamp getLastSeen() { return lastSeen; }
     public void setLastSeen(Timestamp lastSeen) { this.lastSeen = lastSeen; }
 
+    public Boolean getOnline() { return online; }
+    public void setOnline(Boolean online) { this.online = online; }
+
     public Integer getProjectCount() { return projectCount; }
     public void setProjectCount(Integer projectCount) { this.projectCount = projectCount; }
 
@@ -79,12 +89,17 @@ public class UserDto {
 
     public UserDto() {}
 
+    // Served by ProfileImageController; the hash in the path makes the URL change with the image
+    public static String profileImageUrl(String profileImageHash) {
+        return profileImageHash != null ? "/api/profile-images/" + profileImageHash : null;
+    }
+
     public UserDto(User user) {
         this.userId = user.getUserId();
         this.name = user.getName();
         this.email = user.getEmail();
         this.bio = user.getBio();
-        this.profileImage = user.getProfileImage();
+        this.profileImageUrl = profileImageUrl(user.getProfileImageHash());
         this.role = user.getRole().name();
         this.createdAt = user.getCreatedAt();
 
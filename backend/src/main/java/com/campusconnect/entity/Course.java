@@ -22,6 +22,10 @@ public class Course {
     
     private String description;
 
+    // The CourseDetail this legacy row stands in for; unique so concurrent first ratings share one row
+    @Column(name = "course_detail_id", unique = true)
+    private Long courseDetailId;
+
     public Course(){};
 
     public Course(Long courseId) {
@@ -32,6 +36,9 @@ public class Course {
     public Long getCourseId() { return courseId; }
     public void setCourseId(Long courseId) { this.courseId = courseId; }
 
+    public Long getCourseDetailId() { return courseDetailId; }
+    public void setCourseDetailId(Long courseDetailId) { this.courseDetailId = courseDetailId; }
+
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
 
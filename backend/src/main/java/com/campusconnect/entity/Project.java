@@ -5,10 +5,15 @@ import java.sql.Timestamp;
 import java.util.Set;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+    // Keyset pagination: ORDER BY created_at DESC, project_id DESC
+    @Index(name = "idx_projects_created_id", columnList = "created_at, project_id"),
+    @Index(name = "idx_projects_status_created_id", columnList = "status, created_at, project_id")
+})
 public class Project {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "project_id")
     private Long projectId;
 
     @Column(nullable = false, length = 150)
@@ -23,10 +28,10 @@ public class Project {
     private User creator;
 
     @Convert(converter = ProjectStatusConverter.class)
-    @Column(nullable = false)
+    @Column(name = "status", nullable = false)
     private Status status = Status.OPEN;
 
-    @Column(nullable = false)
+    @Column(name = "created_at", nullable = false)
     private Timestamp createdAt = new Timestamp(System.currentTimeMillis());
 
     @Column(name = "members_required")
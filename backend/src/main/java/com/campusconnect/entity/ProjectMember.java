@@ -5,7 +5,8 @@ import java.sql.Timestamp;
 
 @Entity
 @Table(name = "project_members",
-       uniqueConstraints = @UniqueConstraint(columnNames = {"project_id", "user_id"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"project_id", "user_id"}),
+       indexes = @Index(name = "idx_project_members_user_project", columnList = "user_id, project_id"))
 public class ProjectMember {
 
     @Id
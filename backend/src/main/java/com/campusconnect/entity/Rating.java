@@ -4,9 +4,16 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "ratings")
+@Table(name = "ratings", uniqueConstraints = {
+        // One rating per user per target; user_id leads so the duplicate check is an index probe
+        @UniqueConstraint(name = Rating.UNIQUE_USER_PROFESSOR, columnNames = {"user_id", "professor_id"}),
+        @UniqueConstraint(name = Rating.UNIQUE_USER_COURSE, columnNames = {"user_id", "course_id"})
+})
 public class Rating {
 
+    public static final String UNIQUE_USER_PROFESSOR = "uk_rating_user_professor";
+    public static final String UNIQUE_USER_COURSE = "uk_rating_user_course";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long ratingId;
@@ -0,0 +1,86 @@
+package com.campusconnect.entity;
+
+import jakarta.persistence.*;
+
+// Running sum, count and 1-5 star histogram of the ratings for one professor or course
+@Entity
+@Table(name = "rating_aggregates",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rating_aggregate_target", columnNames = {"target_type", "target_id"}))
+public class RatingAggregate {
+
+    public enum TargetType {
+        PROFESSOR, COURSE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 16)
+    private TargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+
+    @Column(name = "star1", nullable = false)
+    private long star1;
+
+    @Column(name = "star2", nullable = false)
+    private long star2;
+
+    @Column(name = "star3", nullable = false)
+    private long star3;
+
+    @Column(name = "star4", nullable = false)
+    private long star4;
+
+    @Column(name = "star5", nullable = false)
+    private long star5;
+
+    public double getAverage() {
+        return ratingCount > 0 ? (double) ratingSum / ratingCount : 0.0;
+    }
+
+    // Index 0 holds 1-star counts, index 4 holds 5-star counts
+    public long[] getHistogram() {
+        return new long[]{star1, star2, star3, star4, star5};
+    }
+
+    // Getters and Setters
+    public Long getAggregateId() { return aggregateId; }
+    public void setAggregateId(Long aggregateId) { this.aggregateId = aggregateId; }
+
+    public TargetType getTargetType() { return targetType; }
+    public void setTargetType(TargetType targetType) { this.targetType = targetType; }
+
+    public Long getTargetId() { return targetId; }
+    public void setTargetId(Long targetId) { this.targetId = targetId; }
+
+    public long getRatingSum() { return ratingSum; }
+    public void setRatingSum(long ratingSum) { this.ratingSum = ratingSum; }
+
+    public long getRatingCount() { return ratingCount; }
+    public void setRatingCount(long ratingCount) { this.ratingCount = ratingCount; }
+
+    public long getStar1() { return star1; }
+    public void setStar1(long star1) { this.star1 = star1; }
+
+    public long getStar2() { return star2; }
+    public void setStar2(long star2) { this.star2 = star2; }
+
+    public long getStar3() { return star3; }
+    public void setStar3(long star3) { this.star3 = star3; }
+
+    public long getStar4() { return star4; }
+    public void setStar4(long star4) { this.star4 = star4; }
+
+    public long getStar5() { return star5; }
+    public void setStar5(long star5) { this.star5 = star5; }
+}
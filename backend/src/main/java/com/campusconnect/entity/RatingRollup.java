@@ -0,0 +1,52 @@
+package com.campusconnect.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+// Number of ratings with a given star value for one professor or course in one calendar month
+@Entity
+@Table(name = "rating_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rating_rollup_bucket",
+                columnNames = {"target_type", "target_id", "bucket_month", "star"}))
+public class RatingRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long rollupId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 16)
+    private RatingAggregate.TargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    // Always the first day of the month
+    @Column(name = "bucket_month", nullable = false)
+    private LocalDate bucketMonth;
+
+    @Column(nullable = false)
+    private int star;
+
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+
+    // Getters and Setters
+    public Long getRollupId() { return rollupId; }
+    public void setRollupId(Long rollupId) { this.rollupId = rollupId; }
+
+    public RatingAggregate.TargetType getTargetType() { return targetType; }
+    public void setTargetType(RatingAggregate.TargetType targetType) { this.targetType = targetType; }
+
+    public Long getTargetId() { return targetId; }
+    public void setTargetId(Long targetId) { this.targetId = targetId; }
+
+    public LocalDate getBucketMonth() { return bucketMonth; }
+    public void setBucketMonth(LocalDate bucketMonth) { this.bucketMonth = bucketMonth; }
+
+    public int getStar() { return star; }
+    public void setStar(int star) { this.star = star; }
+
+    public long getRatingCount() { return ratingCount; }
+    public void setRatingCount(long ratingCount) { this.ratingCount = ratingCount; }
+}
@@ -4,7 +4,13 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+    // Keyset review feeds: ORDER BY helpful_count DESC / created_at DESC, review_id DESC per target
+    @Index(name = "idx_reviews_course_helpful_id", columnList = "course_detail_id, helpful_count, review_id"),
+    @Index(name = "idx_reviews_course_created_id", columnList = "course_detail_id, created_at, review_id"),
+    @Index(name = "idx_reviews_professor_helpful_id", columnList = "professor_id, helpful_count, review_id"),
+    @Index(name = "idx_reviews_professor_created_id", columnList = "professor_id, created_at, review_id")
+})
 public class Review {
 
     @Id
@@ -34,7 +40,7 @@ public class Review {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
-    @Column(name = "helpful_count")
+    @Column(name = "helpful_count", nullable = false)
     private Integer helpfulCount = 0;
 
     @Column(name = "created_at", nullable = false)
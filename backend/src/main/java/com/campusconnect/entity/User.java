@@ -1,6 +1,7 @@
 package com.campusconnect.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import java.sql.Timestamp;
 import java.util.Set;
 
@@ -23,8 +24,9 @@ public class User {
     @Lob
     private String bio;
 
-    @Lob
-    private byte[] profileImage;
+    // SHA-256 of the image in ProfileImageStore; the bytes themselves live on disk
+    @Column(name = "profile_image_hash", length = 64)
+    private String profileImageHash;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, columnDefinition = "VARCHAR(20) CHECK (role IN ('STUDENT', 'PROFESSOR', 'ADMIN'))")
@@ -41,7 +43,9 @@ public class User {
     )
     private Set<Skill> skills;
 
+    // Listings fetch-join skills only; interests load for up to 100 users per query
     @ManyToMany
+    @BatchSize(size = 100)
     @JoinTable(
         name = "user_interests",
         joinColumns = @JoinColumn(name = "user_id"),
@@ -93,8 +97,8 @@ public class User {
     public void setPasswordHash(String passwordHash) { this.passwordHash = passwordHash; }
     public String getBio() { return bio; }
     public void setBio(String bio) { this.bio = bio; }
-    public byte[] getProfileImage() { return profileImage; }
-    public void setProfileImage(byte[] profileImage) { this.profileImage = profileImage; }
+    public String getProfileImageHash() { return profileImageHash; }
+    public void setProfileImageHash(String profileImageHash) { this.profileImageHash = profileImageHash; }
     public Role getRole() { return role; }
     public void setRole(Role role) { this.role = role; }
     public Timestamp getCreatedAt() { return createdAt; }
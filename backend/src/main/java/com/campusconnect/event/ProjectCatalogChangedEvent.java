@@ -0,0 +1,57 @@
+package com.campusconnect.event;
+
+/**
+ * Published whenever something shown in the public project catalog changes.
+ * Listeners that care about consistency should react after the publishing transaction commits.
+ */
+public class ProjectCatalogChangedEvent {
+
+    public enum Kind {
+        CREATED,          // new project: only first pages and the full list can change
+        UPDATED,          // title, description, capacity, deadline or skills changed
+        MEMBERS_CHANGED,  // member IDs of one project changed
+        DELETED,
+        RESET             // bulk change (e.g. a user and their projects removed)
+    }
+
+    private final Kind kind;
+    private final Long projectId;
+
+    public ProjectCatalogChangedEvent(Kind kind, Long projectId) {
+        this.kind = kind;
+        this.projectId = projectId;
+    }
+
+    public static ProjectCatalogChangedEvent created(Long projectId) {
+        return new ProjectCatalogChangedEvent(Kind.CREATED, projectId);
+    }
+
+    public static ProjectCatalogChangedEvent updated(Long projectId) {
+        return new ProjectCatalogChangedEvent(Kind.UPDATED, projectId);
+    }
+
+    public static ProjectCatalogChangedEvent membersChanged(Long projectId) {
+        return new ProjectCatalogChangedEvent(Kind.MEMBERS_CHANGED, projectId);
+    }
+
+    public static ProjectCatalogChangedEvent deleted(Long projectId) {
+        return new ProjectCatalogChangedEvent(Kind.DELETED, projectId);
+    }
+
+    public static ProjectCatalogChangedEvent reset() {
+        return new ProjectCatalogChangedEvent(Kind.RESET, null);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectCatalogChangedEvent{" + kind + ", projectId=" + projectId + "}";
+    }
+}
@@ -15,7 +15,7 @@ public class UserMapper {
         dto.setName(user.getName());
         dto.setEmail(user.getEmail());
         dto.setBio(user.getBio());
-        dto.setProfileImage(user.getProfileImage());
+        dto.setProfileImageUrl(UserDto.profileImageUrl(user.getProfileImageHash()));
         dto.setRole(user.getRole().name());
         dto.setCreatedAt(user.getCreatedAt());
 
@@ -46,7 +46,6 @@ public class UserMapper {
         user.setName(dto.getName());
         user.setEmail(dto.getEmail());
         user.setBio(dto.getBio());
-        user.setProfileImage(dto.getProfileImage());
 
         if (dto.getSkills() != null) {
             Set<Skill> skills = dto.getSkills().stream()
@@ -78,7 +77,6 @@ public class UserMapper {
     public static void updateUserFromDto(User user, UserDto dto) {
         if (dto.getName() != null) user.setName(dto.getName());
         if (dto.getBio() != null) user.setBio(dto.getBio());
-        if (dto.getProfileImage() != null) user.setProfileImage(dto.getProfileImage());
 
         if (dto.getSkills() != null) {
             user.setSkills(dto.getSkills().stream()
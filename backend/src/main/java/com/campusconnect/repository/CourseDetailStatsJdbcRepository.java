@@ -0,0 +1,46 @@
+package com.campusconnect.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Recomputes the denormalized rating/reviews columns of course_details in one statement per
+ * batch. The average comes from rating_aggregates of the linked courses row (see
+ * courses.course_detail_id), the count from reviews, so no ratings are scanned.
+ */
+@Repository
+public class CourseDetailStatsJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CourseDetailStatsJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // A course detail that was never rated keeps its current (e.g. seeded) rating; once an
+    // aggregate row exists it owns the value, so deleting the last rating clears it
+    public int refresh(Collection<Long> courseDetailIds) {
+        if (courseDetailIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(courseDetailIds.size(), "?"));
+        return jdbcTemplate.update(
+                "UPDATE course_details d SET "
+                        + "d.rating = (SELECT CASE WHEN COUNT(*) = 0 THEN d.rating "
+                        + "WHEN SUM(a.rating_count) > 0 THEN ROUND(SUM(a.rating_sum) / SUM(a.rating_count), 1) END "
+                        + "FROM rating_aggregates a "
+                        + "JOIN courses c ON a.target_type = 'COURSE' AND a.target_id = c.course_id "
+                        + "WHERE c.course_detail_id = d.course_id), "
+                        + "d.reviews = (SELECT COUNT(*) FROM reviews r WHERE r.course_detail_id = d.course_id) "
+                        + "WHERE d.course_id IN (" + placeholders + ")",
+                courseDetailIds.toArray());
+    }
+
+    public List<Long> findAllIds() {
+        return jdbcTemplate.queryForList("SELECT course_id FROM course_details", Long.class);
+    }
+}
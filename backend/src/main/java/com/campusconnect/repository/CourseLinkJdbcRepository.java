@@ -0,0 +1,103 @@
+package com.campusconnect.repository;
+
+import com.campusconnect.entity.CourseDetail;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Links legacy courses rows to course_details through courses.course_detail_id (unique).
+ * Linking only claims unlinked rows and creation tolerates a duplicate course_detail_id, so
+ * concurrent resolvers of the same CourseDetail converge on one course; any other error still
+ * fails the statement. Callers own the transaction.
+ */
+@Repository
+public class CourseLinkJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CourseLinkJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Long findCourseIdByDetailId(Long courseDetailId) {
+        return first(jdbcTemplate.queryForList(
+                "SELECT course_id FROM courses WHERE course_detail_id = ?", Long.class, courseDetailId));
+    }
+
+    // Locking read: sees a link another resolver committed after this transaction's snapshot
+    public Long findCourseIdByDetailIdForUpdate(Long courseDetailId) {
+        return first(jdbcTemplate.queryForList(
+                "SELECT course_id FROM courses WHERE course_detail_id = ? FOR UPDATE", Long.class, courseDetailId));
+    }
+
+    // A legacy course rated by its own ID, unless that row already stands in for another CourseDetail
+    public boolean isLegacyCourse(Long courseId) {
+        return first(jdbcTemplate.queryForList(
+                "SELECT course_id FROM courses WHERE course_id = ? AND (course_detail_id IS NULL OR course_detail_id = ?)",
+                Long.class, courseId, courseId)) != null;
+    }
+
+    public Long findCourseDetailIdByCourseId(Long courseId) {
+        return first(jdbcTemplate.queryForList(
+                "SELECT course_detail_id FROM courses WHERE course_id = ? AND course_detail_id IS NOT NULL", Long.class, courseId));
+    }
+
+    // Legacy pairing rules: a courses row with the same ID, else one with the same name and professor
+    public Long findUnlinkedCandidate(CourseDetail detail) {
+        Long sameId = first(jdbcTemplate.queryForList(
+                "SELECT course_id FROM courses WHERE course_id = ? AND course_detail_id IS NULL", Long.class, detail.getCourseId()));
+        if (sameId != null || detail.getProfessor() == null) {
+            return sameId;
+        }
+        return first(jdbcTemplate.queryForList(
+                "SELECT course_id FROM courses WHERE name = ? AND professor_id = ? AND course_detail_id IS NULL ORDER BY course_id LIMIT 1",
+                Long.class, detail.getName(), detail.getProfessor().getProfessorId()));
+    }
+
+    // False when the row was linked (or the detail claimed) by someone else first
+    public boolean link(Long courseId, Long courseDetailId) {
+        try {
+            return jdbcTemplate.update(
+                    "UPDATE courses SET course_detail_id = ? WHERE course_id = ? AND course_detail_id IS NULL",
+                    courseDetailId, courseId) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    // Detach the course row from a CourseDetail that is being deleted; its ratings stay on the course
+    public void unlink(Long courseDetailId) {
+        jdbcTemplate.update("UPDATE courses SET course_detail_id = NULL WHERE course_detail_id = ?", courseDetailId);
+    }
+
+    public void insertIfAbsent(CourseDetail detail) {
+        jdbcTemplate.update(
+                "INSERT INTO courses (name, description, professor_id, university_id, course_detail_id) VALUES (?, ?, ?, ?, ?)"
+                        + " ON DUPLICATE KEY UPDATE course_detail_id = course_detail_id",
+                ps -> {
+                    ps.setString(1, detail.getName());
+                    // courses.description is a plain VARCHAR(255)
+                    String description = detail.getDescription();
+                    ps.setString(2, description != null && description.length() > 255 ? description.substring(0, 255) : description);
+                    if (detail.getProfessor() != null) {
+                        ps.setLong(3, detail.getProfessor().getProfessorId());
+                    } else {
+                        ps.setNull(3, Types.BIGINT);
+                    }
+                    if (detail.getUniversity() != null) {
+                        ps.setLong(4, detail.getUniversity().getUniversityId());
+                    } else {
+                        ps.setNull(4, Types.BIGINT);
+                    }
+                    ps.setLong(5, detail.getCourseId());
+                });
+    }
+
+    private static Long first(List<Long> ids) {
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+}
@@ -1,10 +1,25 @@
 package com.campusconnect.repository;
 
 import com.campusconnect.entity.Interest;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface InterestRepository extends JpaRepository<Interest, Long> {
     boolean existsByName(String name);
     Optional<Interest> findByName(String name);
-}
\ No newline at end of file
+
+    // Bulk lookup for the tag dictionary
+    List<Interest> findByNameIn(Collection<String> names);
+
+    // Locking read sees rows committed by concurrent creators after our snapshot started
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT t FROM Interest t WHERE t.name IN :names")
+    List<Interest> findLockedByNameIn(@Param("names") Collection<String> names);
+}
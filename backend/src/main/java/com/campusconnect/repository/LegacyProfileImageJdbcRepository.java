@@ -0,0 +1,42 @@
+package com.campusconnect.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Reads and clears the old users.profile_image BLOB column, which is no longer mapped on User.
+ * Only used to move existing images into ProfileImageStore; the column can be dropped once
+ * {@link #findLegacyImages(int)} comes back empty.
+ */
+@Repository
+public class LegacyProfileImageJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LegacyProfileImageJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // False on databases created after the move, which never had the column
+    public boolean hasLegacyColumn() {
+        Integer columns = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns "
+                        + "WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'profile_image'",
+                Integer.class);
+        return columns != null && columns > 0;
+    }
+
+    // (user_id, profile_image) rows still holding bytes
+    public List<Object[]> findLegacyImages(int limit) {
+        return jdbcTemplate.query(
+                "SELECT user_id, profile_image FROM users WHERE profile_image IS NOT NULL ORDER BY user_id LIMIT ?",
+                (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getBytes(2)},
+                limit);
+    }
+
+    public void moveToHash(Long userId, String hash) {
+        jdbcTemplate.update("UPDATE users SET profile_image_hash = ?, profile_image = NULL WHERE user_id = ?", hash, userId);
+    }
+}
@@ -0,0 +1,39 @@
+package com.campusconnect.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batched users.last_seen writes for {@link com.campusconnect.service.PresenceTracker}. Only
+ * the one column is touched, and a row is never moved backwards in time.
+ */
+@Repository
+public class PresenceJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PresenceJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // userId -> last-seen epoch millis
+    public void updateLastSeen(Map<Long, Long> lastSeenByUser) {
+        if (lastSeenByUser.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Long>> rows = new ArrayList<>(lastSeenByUser.entrySet());
+        jdbcTemplate.batchUpdate(
+                "UPDATE users SET last_seen = ? WHERE user_id = ? AND (last_seen IS NULL OR last_seen < ?)",
+                rows, rows.size(), (ps, row) -> {
+                    Timestamp lastSeen = new Timestamp(row.getValue());
+                    ps.setTimestamp(1, lastSeen);
+                    ps.setLong(2, row.getKey());
+                    ps.setTimestamp(3, lastSeen);
+                });
+    }
+}
@@ -0,0 +1,103 @@
+package com.campusconnect.repository;
+
+import com.campusconnect.entity.Project;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC batch writes for bulk project import: projects, project_skills and leader rows
+ * go out as one batch each instead of several JPA statements per project.
+ * Callers own the transaction.
+ */
+@Repository
+public class ProjectImportJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProjectImportJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Inserts the projects and returns their generated IDs in input order
+    public long[] insertProjects(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return new long[0];
+        }
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(
+                        "INSERT INTO projects (title, description, creator_id, status, created_at, members_required, deadline) "
+                                + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                        Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Project project = projects.get(i);
+                        ps.setString(1, project.getTitle());
+                        ps.setString(2, project.getDescription());
+                        ps.setLong(3, project.getCreator().getUserId());
+                        // Same lower-case form ProjectStatusConverter writes
+                        ps.setString(4, project.getStatus().name().toLowerCase());
+                        ps.setTimestamp(5, project.getCreatedAt());
+                        ps.setInt(6, project.getMembersRequired());
+                        if (project.getDeadline() != null) {
+                            ps.setDate(7, project.getDeadline());
+                        } else {
+                            ps.setNull(7, Types.DATE);
+                        }
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return projects.size();
+                    }
+                },
+                keys);
+
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        if (keyList.size() != projects.size()) {
+            throw new IllegalStateException("Expected " + projects.size() + " generated keys but got " + keyList.size());
+        }
+        long[] ids = new long[projects.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = ((Number) keyList.get(i).values().iterator().next()).longValue();
+        }
+        return ids;
+    }
+
+    // Each pair is {projectId, skillId}
+    public void insertProjectSkills(List<long[]> projectSkillPairs) {
+        if (projectSkillPairs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO project_skills (project_id, skill_id) VALUES (?, ?)",
+                projectSkillPairs, projectSkillPairs.size(), (ps, pair) -> {
+                    ps.setLong(1, pair[0]);
+                    ps.setLong(2, pair[1]);
+                });
+    }
+
+    // Each pair is {projectId, userId}
+    public void insertLeaders(List<long[]> projectUserPairs, Timestamp joinedAt) {
+        if (projectUserPairs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO project_members (project_id, user_id, role, joined_at) VALUES (?, ?, 'LEADER', ?)",
+                projectUserPairs, projectUserPairs.size(), (ps, pair) -> {
+                    ps.setLong(1, pair[0]);
+                    ps.setLong(2, pair[1]);
+                    ps.setTimestamp(3, joinedAt);
+                });
+    }
+}
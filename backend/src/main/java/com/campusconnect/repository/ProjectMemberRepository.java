@@ -1,16 +1,15 @@
 
-<<<<<<< HEAD
-
-=======
->>>>>>> 244baa639e5dee559808362d1c1f96d113340e9a
 package com.campusconnect.repository;
 
 import com.campusconnect.entity.ProjectMember;
 import com.campusconnect.entity.Project;
 import com.campusconnect.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,4 +30,27 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
 
     // Count projects for a user
     long countByUser_UserId(Long userId);
+
+    // (userId, projectCount) for a batch of users; users without projects are absent
+    @Query("SELECT pm.user.userId, COUNT(pm) FROM ProjectMember pm WHERE pm.user.userId IN :userIds GROUP BY pm.user.userId")
+    List<Object[]> countProjectsGroupedByUser(@Param("userIds") Collection<Long> userIds);
+
+    // (projectId, userId) pairs for a batch of projects - avoids loading ProjectMember/User entities
+    @Query("SELECT pm.project.projectId, pm.user.userId FROM ProjectMember pm WHERE pm.project.projectId IN :projectIds")
+    List<Object[]> findMemberPairsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    // Count members of a single project
+    long countByProject_ProjectId(Long projectId);
+
+    // (projectId, memberCount) for every project with members
+    @Query("SELECT pm.project.projectId, COUNT(pm) FROM ProjectMember pm GROUP BY pm.project.projectId")
+    List<Object[]> countMembersGroupedByProject();
+
+    // (projectId, memberCount) for the given projects that still have members
+    @Query("SELECT pm.project.projectId, COUNT(pm) FROM ProjectMember pm WHERE pm.project.projectId IN :projectIds GROUP BY pm.project.projectId")
+    List<Object[]> countMembersGroupedByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    // IDs of all projects a user belongs to
+    @Query("SELECT pm.project.projectId FROM ProjectMember pm WHERE pm.user.userId = :userId")
+    List<Long> findProjectIdsByUserId(@Param("userId") Long userId);
 }
@@ -1,14 +1,24 @@
 package com.campusconnect.repository;
 
+import com.campusconnect.dto.ProjectDto;
 import com.campusconnect.entity.Project;
 import com.campusconnect.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    // Constructor projection for read paths: no Project/User entities (or User blobs) are hydrated
+    String PROJECT_DTO = "new com.campusconnect.dto.ProjectDto(p.projectId, p.title, p.description, c.userId, " +
+                         "p.status, p.createdAt, p.membersRequired, p.deadline)";
+
     // Find all projects where the given user is a member
     List<Project> findByMembersContaining(User user);
 
@@ -24,10 +34,68 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.members WHERE p.projectId = :id")
     java.util.Optional<Project> findByIdWithMembers(@Param("id") Long id);
 
+    // Projects a user created or belongs to
+    @Query("SELECT p.projectId FROM Project p WHERE p.creator.userId = :userId " +
+           "OR p.projectId IN (SELECT pm.project.projectId FROM ProjectMember pm WHERE pm.user.userId = :userId)")
+    List<Long> findProjectIdsByCreatorOrMember(@Param("userId") Long userId);
+
+    @Query("SELECT p.projectId FROM Project p WHERE p.projectId IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> projectIds);
+
     @Query("SELECT p FROM Project p JOIN ProjectMember pm ON p = pm.project WHERE pm.user.userId = :userId")
     List<Project> findAllByUserId(@Param("userId") Long userId);
     List<Project> findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String title, String description);
+
+    @Query("SELECT " + PROJECT_DTO + " FROM Project p LEFT JOIN p.creator c ORDER BY p.projectId")
+    List<ProjectDto> findAllDtos();
+
+    @Query("SELECT " + PROJECT_DTO + " FROM Project p LEFT JOIN p.creator c WHERE p.projectId = :id")
+    Optional<ProjectDto> findDtoById(@Param("id") Long id);
+
+    // Unordered; callers restore their own ranking
+    @Query("SELECT " + PROJECT_DTO + " FROM Project p LEFT JOIN p.creator c WHERE p.projectId IN :ids")
+    List<ProjectDto> findDtosByIds(@Param("ids") Collection<Long> projectIds);
+
+    // Case-insensitive substring match on title/description (fallback while the search index warms up)
+    @Query("SELECT " + PROJECT_DTO + " FROM Project p LEFT JOIN p.creator c " +
+           "WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :q, '%')) " +
+           "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :q, '%'))")
+    List<ProjectDto> searchDtos(@Param("q") String query);
     
+    // Keyset pagination, newest first. Status/skill filters are optional (null = no filter).
+    @Query("SELECT " + PROJECT_DTO + " FROM Project p LEFT JOIN p.creator c " +
+           "WHERE (:status IS NULL OR p.status = :status) " +
+           "AND (:skill IS NULL OR EXISTS (SELECT s.skillId FROM Project p2 JOIN p2.skills s " +
+           "     WHERE p2 = p AND LOWER(s.name) = :skill)) " +
+           "ORDER BY p.createdAt DESC, p.projectId DESC")
+    List<ProjectDto> findFirstPage(@Param("status") Project.Status status,
+                                   @Param("skill") String skill,
+                                   Pageable pageable);
+
+    // Next page strictly after (createdAt, projectId); the leading <= keeps the predicate index-range friendly
+    @Query("SELECT " + PROJECT_DTO + " FROM Project p LEFT JOIN p.creator c " +
+           "WHERE (:status IS NULL OR p.status = :status) " +
+           "AND (:skill IS NULL OR EXISTS (SELECT s.skillId FROM Project p2 JOIN p2.skills s " +
+           "     WHERE p2 = p AND LOWER(s.name) = :skill)) " +
+           "AND p.createdAt <= :createdAt " +
+           "AND (p.createdAt < :createdAt OR p.projectId < :projectId) " +
+           "ORDER BY p.createdAt DESC, p.projectId DESC")
+    List<ProjectDto> findPageAfter(@Param("status") Project.Status status,
+                                   @Param("skill") String skill,
+                                   @Param("createdAt") Timestamp createdAt,
+                                   @Param("projectId") Long projectId,
+                                   Pageable pageable);
+
+    // Projects a user belongs to (via ProjectMember), as DTO projections - no entity hydration
+    @Query("SELECT " + PROJECT_DTO + " " +
+           "FROM ProjectMember pm JOIN pm.project p LEFT JOIN p.creator c " +
+           "WHERE pm.user.userId = :userId ORDER BY p.createdAt DESC, p.projectId DESC")
+    List<ProjectDto> findDtosByMemberUserId(@Param("userId") Long userId);
+
+    // (projectId, skillId, skillName) rows for a batch of projects
+    @Query("SELECT p.projectId, s.skillId, s.name FROM Project p JOIN p.skills s WHERE p.projectId IN :ids")
+    List<Object[]> findSkillRowsByProjectIds(@Param("ids") Collection<Long> projectIds);
+
     // Native query to fix status values in database
     @org.springframework.data.jpa.repository.Modifying
     @org.springframework.data.jpa.repository.Query(value = "UPDATE projects SET status = 'OPEN' WHERE LOWER(status) = 'open'", nativeQuery = true)
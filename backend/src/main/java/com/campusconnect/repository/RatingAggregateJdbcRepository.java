@@ -0,0 +1,91 @@
+package com.campusconnect.repository;
+
+import com.campusconnect.entity.RatingAggregate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * Atomic writes to rating_aggregates and rating_rollups. Deltas are applied with a single
+ * upsert so concurrent raters of the same target serialize on the row lock instead of
+ * losing updates.
+ * Callers own the transaction.
+ */
+@Repository
+public class RatingAggregateJdbcRepository {
+
+    private static final String STAR_SUMS =
+            "SUM(rating_value <= 1), SUM(rating_value = 2), SUM(rating_value = 3), SUM(rating_value = 4), SUM(rating_value >= 5)";
+
+    // Same 1-5 clamping as RatingAggregateService uses for live deltas
+    private static final String STAR_BUCKET = "LEAST(GREATEST(rating_value, 1), 5)";
+    private static final String MONTH_BUCKET = "DATE_FORMAT(created_at, '%Y-%m-01')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RatingAggregateJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // starDeltas[0] adjusts the 1-star bucket, starDeltas[4] the 5-star bucket
+    public void applyDelta(RatingAggregate.TargetType targetType, Long targetId,
+                           long sumDelta, long countDelta, long[] starDeltas) {
+        jdbcTemplate.update(
+                "INSERT INTO rating_aggregates (target_type, target_id, rating_sum, rating_count, star1, star2, star3, star4, star5) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) "
+                        + "ON DUPLICATE KEY UPDATE rating_sum = rating_sum + VALUES(rating_sum), "
+                        + "rating_count = rating_count + VALUES(rating_count), "
+                        + "star1 = star1 + VALUES(star1), star2 = star2 + VALUES(star2), star3 = star3 + VALUES(star3), "
+                        + "star4 = star4 + VALUES(star4), star5 = star5 + VALUES(star5)",
+                targetType.name(), targetId, sumDelta, countDelta,
+                starDeltas[0], starDeltas[1], starDeltas[2], starDeltas[3], starDeltas[4]);
+    }
+
+    public void applyRollupDelta(RatingAggregate.TargetType targetType, Long targetId,
+                                 LocalDate bucketMonth, int star, long countDelta) {
+        jdbcTemplate.update(
+                "INSERT INTO rating_rollups (target_type, target_id, bucket_month, star, rating_count) VALUES (?, ?, ?, ?, ?) "
+                        + "ON DUPLICATE KEY UPDATE rating_count = rating_count + VALUES(rating_count)",
+                targetType.name(), targetId, Date.valueOf(bucketMonth), star, countDelta);
+    }
+
+    // Recomputes every monthly rollup from the ratings table; returns the number of rollup rows
+    public int rebuildRollups() {
+        jdbcTemplate.update("DELETE FROM rating_rollups");
+        int professors = jdbcTemplate.update(
+                "INSERT INTO rating_rollups (target_type, target_id, bucket_month, star, rating_count) "
+                        + "SELECT 'PROFESSOR', professor_id, " + MONTH_BUCKET + ", " + STAR_BUCKET + ", COUNT(*)"
+                        + " FROM ratings WHERE professor_id IS NOT NULL"
+                        + " GROUP BY professor_id, " + MONTH_BUCKET + ", " + STAR_BUCKET);
+        int courses = jdbcTemplate.update(
+                "INSERT INTO rating_rollups (target_type, target_id, bucket_month, star, rating_count) "
+                        + "SELECT 'COURSE', course_id, " + MONTH_BUCKET + ", " + STAR_BUCKET + ", COUNT(*)"
+                        + " FROM ratings WHERE course_id IS NOT NULL"
+                        + " GROUP BY course_id, " + MONTH_BUCKET + ", " + STAR_BUCKET);
+        return professors + courses;
+    }
+
+    // True until both tables have been populated, e.g. on a fresh database or the first deploy with aggregates
+    public boolean isEmpty() {
+        Integer populated = jdbcTemplate.queryForObject(
+                "SELECT EXISTS(SELECT 1 FROM rating_aggregates) AND EXISTS(SELECT 1 FROM rating_rollups)",
+                Integer.class);
+        return populated == null || populated == 0;
+    }
+
+    // Recomputes every aggregate from the ratings table; returns the number of aggregate rows
+    public int rebuildAll() {
+        jdbcTemplate.update("DELETE FROM rating_aggregates");
+        int professors = jdbcTemplate.update(
+                "INSERT INTO rating_aggregates (target_type, target_id, rating_sum, rating_count, star1, star2, star3, star4, star5) "
+                        + "SELECT 'PROFESSOR', professor_id, SUM(rating_value), COUNT(*), " + STAR_SUMS
+                        + " FROM ratings WHERE professor_id IS NOT NULL GROUP BY professor_id");
+        int courses = jdbcTemplate.update(
+                "INSERT INTO rating_aggregates (target_type, target_id, rating_sum, rating_count, star1, star2, star3, star4, star5) "
+                        + "SELECT 'COURSE', course_id, SUM(rating_value), COUNT(*), " + STAR_SUMS
+                        + " FROM ratings WHERE course_id IS NOT NULL GROUP BY course_id");
+        return professors + courses;
+    }
+}
@@ -0,0 +1,24 @@
+package com.campusconnect.repository;
+
+import com.campusconnect.entity.RatingAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface RatingAggregateRepository extends JpaRepository<RatingAggregate, Long> {
+    Optional<RatingAggregate> findByTargetTypeAndTargetId(RatingAggregate.TargetType targetType, Long targetId);
+
+    // [professorId, ratingSum, ratingCount, name, universityId, department]
+    @Query("SELECT a.targetId, a.ratingSum, a.ratingCount, p.name, u.universityId, p.department "
+            + "FROM RatingAggregate a JOIN Professor p ON p.professorId = a.targetId LEFT JOIN p.university u "
+            + "WHERE a.targetType = com.campusconnect.entity.RatingAggregate.TargetType.PROFESSOR AND a.ratingCount > 0")
+    List<Object[]> findProfessorLeaderboardRows();
+
+    // [courseId, ratingSum, ratingCount, name, universityId, department and ID of the teaching professor]
+    @Query("SELECT a.targetId, a.ratingSum, a.ratingCount, c.name, u.universityId, p.department, p.professorId "
+            + "FROM RatingAggregate a JOIN Course c ON c.courseId = a.targetId LEFT JOIN c.university u LEFT JOIN c.professor p "
+            + "WHERE a.targetType = com.campusconnect.entity.RatingAggregate.TargetType.COURSE AND a.ratingCount > 0")
+    List<Object[]> findCourseLeaderboardRows();
+}
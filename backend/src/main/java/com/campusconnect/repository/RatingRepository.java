@@ -13,4 +13,7 @@ public interface RatingRepository extends JpaRepository<Rating, Long> {
     List<Rating> findByCourse(Course course);
     List<Rating> findByProfessorAndCourse(Professor professor, Course course);
 
+    boolean existsByUser_UserIdAndProfessor_ProfessorId(Long userId, Long professorId);
+    boolean existsByUser_UserIdAndCourse_CourseId(Long userId, Long courseId);
+
 }
@@ -0,0 +1,14 @@
+package com.campusconnect.repository;
+
+import com.campusconnect.entity.RatingAggregate;
+import com.campusconnect.entity.RatingRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RatingRollupRepository extends JpaRepository<RatingRollup, Long> {
+    // Served by the (target_type, target_id, bucket_month, star) unique index
+    List<RatingRollup> findByTargetTypeAndTargetIdAndBucketMonthBetweenOrderByBucketMonth(
+            RatingAggregate.TargetType targetType, Long targetId, LocalDate from, LocalDate to);
+}
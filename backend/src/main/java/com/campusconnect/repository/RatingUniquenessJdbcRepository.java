@@ -0,0 +1,47 @@
+package com.campusconnect.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Duplicate cleanup and index DDL for the one-rating-per-user-per-target unique indexes on
+ * ratings. targetColumn is always professor_id or course_id, never user input.
+ */
+@Repository
+public class RatingUniquenessJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RatingUniquenessJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean hasIndex(String indexName) {
+        Integer indexes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics "
+                        + "WHERE table_schema = DATABASE() AND table_name = 'ratings' AND index_name = ?",
+                Integer.class, indexName);
+        return indexes != null && indexes > 0;
+    }
+
+    /**
+     * Keeps the newest rating of each (user, target) pair: reviews of the older ratings move to
+     * it and their pending outbox rows are dropped before the older ratings are deleted.
+     * Returns the number of ratings deleted.
+     */
+    @Transactional
+    public int mergeDuplicates(String targetColumn) {
+        String duplicates = "JOIN (SELECT user_id, " + targetColumn + " AS target_id, MAX(rating_id) AS kept_id FROM ratings"
+                + " WHERE " + targetColumn + " IS NOT NULL GROUP BY user_id, " + targetColumn + " HAVING COUNT(*) > 1) k"
+                + " ON d.user_id = k.user_id AND d." + targetColumn + " = k.target_id AND d.rating_id <> k.kept_id";
+        jdbcTemplate.update("UPDATE reviews r JOIN ratings d ON r.rating_id = d.rating_id " + duplicates
+                + " SET r.rating_id = k.kept_id");
+        jdbcTemplate.update("DELETE o FROM review_outbox o JOIN ratings d ON o.rating_id = d.rating_id " + duplicates);
+        return jdbcTemplate.update("DELETE d FROM ratings d " + duplicates);
+    }
+
+    public void addUniqueIndex(String indexName, String targetColumn) {
+        jdbcTemplate.execute("ALTER TABLE ratings ADD CONSTRAINT " + indexName + " UNIQUE (user_id, " + targetColumn + ")");
+    }
+}
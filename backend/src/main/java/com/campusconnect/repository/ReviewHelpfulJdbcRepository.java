@@ -0,0 +1,100 @@
+package com.campusconnect.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helpful-vote writes that never touch the reviews row of the vote itself: the vote is an
+ * INSERT IGNORE into review_helpful_votes, and counts are added to reviews.helpful_count in
+ * batches by {@link com.campusconnect.service.HelpfulVoteCounter}. Each vote row is flagged
+ * counted in the same transaction that adds it, so a vote is counted exactly once even when
+ * the process dies before a flush.
+ */
+@Repository
+public class ReviewHelpfulJdbcRepository {
+
+    private static final RowMapper<long[]> VOTE_ROW = (rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2) };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReviewHelpfulJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // vote_id of the new vote, or null when the user has already voted for this review
+    public Long insertVote(Long reviewId, Long userId) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted = jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "INSERT IGNORE INTO review_helpful_votes (review_id, user_id, counted, created_at) VALUES (?, ?, FALSE, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, reviewId);
+            ps.setLong(2, userId);
+            ps.setTimestamp(3, new Timestamp(System.currentTimeMillis()));
+            return ps;
+        }, keyHolder);
+        return inserted > 0 && keyHolder.getKey() != null ? keyHolder.getKey().longValue() : null;
+    }
+
+    // Counts the given votes that are not counted yet; votes already counted or deleted are skipped
+    @Transactional
+    public void countVotes(Collection<Long> voteIds) {
+        if (voteIds.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(",", Collections.nCopies(voteIds.size(), "?"));
+        countLocked(jdbcTemplate.query(
+                "SELECT vote_id, review_id FROM review_helpful_votes WHERE counted = FALSE AND vote_id IN ("
+                        + placeholders + ") FOR UPDATE",
+                VOTE_ROW, voteIds.toArray()));
+    }
+
+    // Counts up to limit uncounted votes of any review, e.g. those left by a crashed run; returns how many
+    @Transactional
+    public int countUncountedVotes(int limit) {
+        List<long[]> votes = jdbcTemplate.query(
+                "SELECT vote_id, review_id FROM review_helpful_votes WHERE counted = FALSE ORDER BY vote_id LIMIT ? FOR UPDATE",
+                VOTE_ROW, limit);
+        countLocked(votes);
+        return votes.size();
+    }
+
+    // votes are {vote_id, review_id} rows locked by the caller's SELECT ... FOR UPDATE
+    private void countLocked(List<long[]> votes) {
+        if (votes.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> deltas = new HashMap<>();
+        for (long[] vote : votes) {
+            deltas.merge(vote[1], 1L, Long::sum);
+        }
+        List<Map.Entry<Long, Long>> rows = new ArrayList<>(deltas.entrySet());
+        jdbcTemplate.batchUpdate(
+                "UPDATE reviews SET helpful_count = COALESCE(helpful_count, 0) + ? WHERE review_id = ?",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row.getValue());
+                    ps.setLong(2, row.getKey());
+                });
+        jdbcTemplate.batchUpdate(
+                "UPDATE review_helpful_votes SET counted = TRUE WHERE vote_id = ?",
+                votes, votes.size(), (ps, vote) -> ps.setLong(1, vote[0]));
+    }
+
+    public void deleteVotes(Long reviewId) {
+        jdbcTemplate.update("DELETE FROM review_helpful_votes WHERE review_id = ?", reviewId);
+    }
+}
@@ -0,0 +1,49 @@
+package com.campusconnect.repository;
+
+import com.campusconnect.entity.ReviewOutbox;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Batched review inserts for the review outbox dispatcher. Rows already carry every ID the
+ * review needs, so nothing is re-read per review. Callers own the transaction.
+ */
+@Repository
+public class ReviewOutboxJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReviewOutboxJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertReviews(List<ReviewOutbox> rows, Timestamp now) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO reviews (user_id, rating_id, course_detail_id, professor_id, content, helpful_count, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, 0, ?, ?)",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row.getUserId());
+                    ps.setLong(2, row.getRatingId());
+                    if (row.getCourseDetailId() != null) {
+                        ps.setLong(3, row.getCourseDetailId());
+                    } else {
+                        ps.setNull(3, Types.BIGINT);
+                    }
+                    if (row.getProfessorId() != null) {
+                        ps.setLong(4, row.getProfessorId());
+                    } else {
+                        ps.setNull(4, Types.BIGINT);
+                    }
+                    ps.setString(5, row.getContent());
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                });
+    }
+}
@@ -0,0 +1,36 @@
+package com.campusconnect.repository;
+
+import com.campusconnect.entity.ReviewOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReviewOutboxRepository extends JpaRepository<ReviewOutbox, Long> {
+
+    // lock.timeout -2 = SKIP LOCKED: concurrent dispatchers claim disjoint rows instead of blocking
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM ReviewOutbox o WHERE o.status = :status AND o.nextAttemptAt <= :now ORDER BY o.outboxId")
+    List<ReviewOutbox> claimDue(@Param("status") ReviewOutbox.Status status, @Param("now") LocalDateTime now, Pageable page);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM ReviewOutbox o WHERE o.outboxId = :id AND o.status = :status")
+    Optional<ReviewOutbox> claimById(@Param("id") Long outboxId, @Param("status") ReviewOutbox.Status status);
+
+    long countByStatus(ReviewOutbox.Status status);
+
+    @Modifying
+    @Query("DELETE FROM ReviewOutbox o WHERE o.ratingId = :ratingId")
+    int deleteByRatingId(@Param("ratingId") Long ratingId);
+}
@@ -1,21 +1,91 @@
 package com.campusconnect.repository;
 
+import com.campusconnect.dto.ReviewFeedItemDto;
 import com.campusconnect.entity.Review;
 import com.campusconnect.entity.CourseDetail;
 import com.campusconnect.entity.Professor;
 import com.campusconnect.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+    // Constructor projection for review feeds: one row per review, author and rating joined in the same query
+    String FEED_ITEM_DTO = "new com.campusconnect.dto.ReviewFeedItemDto(r.reviewId, r.title, r.content, r.helpfulCount, " +
+                           "r.createdAt, r.updatedAt, u.userId, u.name, rt.ratingValue)";
+    String FEED_FROM = " FROM Review r JOIN r.user u LEFT JOIN r.rating rt ";
+
     List<Review> findByCourseDetail(CourseDetail courseDetail);
     List<Review> findByProfessor(Professor professor);
     List<Review> findByUser(User user);
     List<Review> findByRating_RatingId(Long ratingId);
     List<Review> findByCourseDetail_CourseId(Long courseDetailId);
     List<Review> findByProfessor_ProfessorId(Long professorId);
+
+    // Rows for ReviewSearchIndex: reviewId, courseDetailId, professorId, title, content, createdAt
+    @Query("SELECT r.reviewId, r.courseDetail.courseId, r.professor.professorId, r.title, r.content, r.createdAt FROM Review r")
+    List<Object[]> findSearchRows();
+
+    @Query("SELECT r.reviewId, r.courseDetail.courseId, r.professor.professorId, r.title, r.content, r.createdAt " +
+           "FROM Review r WHERE r.rating.ratingId IN :ratingIds")
+    List<Object[]> findSearchRowsByRatingIds(@Param("ratingIds") Collection<Long> ratingIds);
+
+    // Keyset feeds for one course detail, most helpful / newest first; the leading <= keeps the predicate index-range friendly
+    @Query("SELECT " + FEED_ITEM_DTO + FEED_FROM + "WHERE r.courseDetail.courseId = :courseDetailId " +
+           "ORDER BY r.helpfulCount DESC, r.reviewId DESC")
+    List<ReviewFeedItemDto> findCourseDetailFeedByHelpful(@Param("courseDetailId") Long courseDetailId, Pageable pageable);
+
+    @Query("SELECT " + FEED_ITEM_DTO + FEED_FROM + "WHERE r.courseDetail.courseId = :courseDetailId " +
+           "AND r.helpfulCount <= :helpfulCount AND (r.helpfulCount < :helpfulCount OR r.reviewId < :reviewId) " +
+           "ORDER BY r.helpfulCount DESC, r.reviewId DESC")
+    List<ReviewFeedItemDto> findCourseDetailFeedByHelpfulAfter(@Param("courseDetailId") Long courseDetailId,
+                                                               @Param("helpfulCount") Integer helpfulCount,
+                                                               @Param("reviewId") Long reviewId,
+                                                               Pageable pageable);
+
+    @Query("SELECT " + FEED_ITEM_DTO + FEED_FROM + "WHERE r.courseDetail.courseId = :courseDetailId " +
+           "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<ReviewFeedItemDto> findCourseDetailFeedByNewest(@Param("courseDetailId") Long courseDetailId, Pageable pageable);
+
+    @Query("SELECT " + FEED_ITEM_DTO + FEED_FROM + "WHERE r.courseDetail.courseId = :courseDetailId " +
+           "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.reviewId < :reviewId) " +
+           "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<ReviewFeedItemDto> findCourseDetailFeedByNewestAfter(@Param("courseDetailId") Long courseDetailId,
+                                                              @Param("createdAt") LocalDateTime createdAt,
+                                                              @Param("reviewId") Long reviewId,
+                                                              Pageable pageable);
+
+    // Same feeds for one professor
+    @Query("SELECT " + FEED_ITEM_DTO + FEED_FROM + "WHERE r.professor.professorId = :professorId " +
+           "ORDER BY r.helpfulCount DESC, r.reviewId DESC")
+    List<ReviewFeedItemDto> findProfessorFeedByHelpful(@Param("professorId") Long professorId, Pageable pageable);
+
+    @Query("SELECT " + FEED_ITEM_DTO + FEED_FROM + "WHERE r.professor.professorId = :professorId " +
+           "AND r.helpfulCount <= :helpfulCount AND (r.helpfulCount < :helpfulCount OR r.reviewId < :reviewId) " +
+           "ORDER BY r.helpfulCount DESC, r.reviewId DESC")
+    List<ReviewFeedItemDto> findProfessorFeedByHelpfulAfter(@Param("professorId") Long professorId,
+                                                            @Param("helpfulCount") Integer helpfulCount,
+                                                            @Param("reviewId") Long reviewId,
+                                                            Pageable pageable);
+
+    @Query("SELECT " + FEED_ITEM_DTO + FEED_FROM + "WHERE r.professor.professorId = :professorId " +
+           "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<ReviewFeedItemDto> findProfessorFeedByNewest(@Param("professorId") Long professorId, Pageable pageable);
+
+    @Query("SELECT " + FEED_ITEM_DTO + FEED_FROM + "WHERE r.professor.professorId = :professorId " +
+           "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.reviewId < :reviewId) " +
+           "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<ReviewFeedItemDto> findProfessorFeedByNewestAfter(@Param("professorId") Long professorId,
+                                                           @Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("reviewId") Long reviewId,
+                                                           Pageable pageable);
 }
 
@@ -0,0 +1,38 @@
+package com.campusconnect.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Batched inserts for skill/interest names. ON DUPLICATE KEY UPDATE lets concurrent creators
+ * of the same name race safely against the unique index, while any other error (e.g. a name
+ * too long for the column) still fails the statement instead of being downgraded to a warning.
+ */
+@Repository
+public class TagJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TagJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertSkillsIfAbsent(Collection<String> names) {
+        insertIfAbsent("skills", names);
+    }
+
+    public void insertInterestsIfAbsent(Collection<String> names) {
+        insertIfAbsent("interests", names);
+    }
+
+    private void insertIfAbsent(String table, Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO " + table + " (name) VALUES (?) ON DUPLICATE KEY UPDATE name = name",
+                new ArrayList<>(names), names.size(), (ps, name) -> ps.setString(1, name));
+    }
+}
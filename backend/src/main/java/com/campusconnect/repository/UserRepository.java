@@ -2,10 +2,52 @@ package com.campusconnect.repository;
 
 import com.campusconnect.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
+    List<User> findByEmailIn(Collection<String> emails);
+
     long countByRole(User.Role role);
+
+    // Rows for TeammateIndex: userId, name, role, major, year, availability
+    @Query("SELECT u.userId, u.name, u.role, u.major, u.year, u.availability FROM User u")
+    List<Object[]> findTeammateIndexRows();
+
+    @Query("SELECT u.userId, s.name FROM User u JOIN u.skills s")
+    List<Object[]> findUserSkillNameRows();
+
+    @Query("SELECT u.userId, i.name FROM User u JOIN u.interests i")
+    List<Object[]> findUserInterestNameRows();
+
+    // All users for listings. Fetching one collection avoids a skills x interests row product;
+    // interests are batch-loaded through @BatchSize on User.interests
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.skills LEFT JOIN FETCH u.university")
+    List<User> findAllWithProfile();
+
+    // Teammate cards, same fetch plan as findAllWithProfile; callers keep ids to a bounded chunk
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.skills LEFT JOIN FETCH u.university WHERE u.userId IN :ids")
+    List<User> findAllWithProfileByIds(@Param("ids") Collection<Long> ids);
+
+    // TeammateIndex fallback while it warms up: IDs of users with the role matching the filters, in ID order.
+    // Filters are optional (null); major and search are lowercase LIKE patterns, skill and interest lowercase names
+    @Query("SELECT u.userId FROM User u WHERE u.role = :role" +
+           " AND (:year IS NULL OR u.year = :year)" +
+           " AND (:availability IS NULL OR u.availability = :availability)" +
+           " AND (:major IS NULL OR LOWER(u.major) LIKE :major)" +
+           " AND (:skill IS NULL OR :skill IN (SELECT LOWER(s.name) FROM User su JOIN su.skills s WHERE su = u))" +
+           " AND (:interest IS NULL OR :interest IN (SELECT LOWER(i.name) FROM User iu JOIN iu.interests i WHERE iu = u))" +
+           " AND (:search IS NULL OR LOWER(u.name) LIKE :search OR LOWER(u.major) LIKE :search" +
+           " OR EXISTS (SELECT s2 FROM User su2 JOIN su2.skills s2 WHERE su2 = u AND LOWER(s2.name) LIKE :search)" +
+           " OR EXISTS (SELECT i2 FROM User iu2 JOIN iu2.interests i2 WHERE iu2 = u AND LOWER(i2.name) LIKE :search))" +
+           " ORDER BY u.userId")
+    List<Long> searchTeammateIds(@Param("role") User.Role role, @Param("search") String search,
+                                 @Param("major") String major, @Param("year") User.Year year,
+                                 @Param("availability") User.Availability availability,
+                                 @Param("skill") String skill, @Param("interest") String interest);
 }
@@ -17,4 +17,10 @@ public interface AdminService {
     UserDto getUserById(Long id);
     
     void deleteProject(Long projectId);
+
+    Map<String, Object> getProjectCacheStats();
+
+    Map<String, Integer> rebuildRatingAggregates();
+
+    Map<String, Object> getReviewOutboxStats();
 }
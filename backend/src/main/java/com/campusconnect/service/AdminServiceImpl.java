@@ -1,14 +1,23 @@
 package com.campusconnect.service;
 
 import com.campusconnect.dto.UserDto;
+import com.campusconnect.entity.ReviewOutbox;
 import com.campusconnect.entity.User;
+import com.campusconnect.event.ProjectCatalogChangedEvent;
+import com.campusconnect.repository.ProjectMemberRepository;
 import com.campusconnect.repository.ProjectRepository;
+import com.campusconnect.repository.ReviewOutboxRepository;
 import com.campusconnect.repository.UserRepository;
+import com.campusconnect.util.AfterCommit;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,17 +29,54 @@ public class AdminServiceImpl implements AdminService {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private ProjectSearchIndex projectSearchIndex;
+
+    @Autowired
+    private ProjectFacetIndex projectFacetIndex;
+
+    @Autowired
+    private ProjectRecommendationIndex projectRecommendationIndex;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private ProjectCatalogCache projectCatalogCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private RatingAggregateService ratingAggregateService;
+
+    @Autowired
+    private ReviewOutboxRepository reviewOutboxRepository;
+
+    @Autowired
+    private TeammateIndex teammateIndex;
+
+    @Autowired
+    private ProjectCountLoader projectCountLoader;
+
     @Override
     public List<UserDto> getAllUsers() {
-        return userRepository.findAll()
+        List<UserDto> users = userRepository.findAllWithProfile()
                 .stream()
                 .map(UserDto::new)
                 .collect(Collectors.toList());
+        projectCountLoader.fillProjectCounts(users);
+        return users;
     }
 
     @Override
     public void deleteUser(Long id) {
+        // Projects the user created or joined may be deleted with them or lose a member
+        List<Long> affectedProjectIds = projectRepository.findProjectIdsByCreatorOrMember(id);
         userRepository.deleteById(id);
+        teammateIndex.remove(id);
+        AfterCommit.run(() -> pruneProjectIndexes(affectedProjectIds));
+        eventPublisher.publishEvent(ProjectCatalogChangedEvent.reset());
     }
 
     @Override
@@ -45,6 +91,7 @@ public class AdminServiceImpl implements AdminService {
         }
 
         userRepository.save(user);
+        teammateIndex.index(user);
         return new UserDto(user);
     }
 
@@ -77,6 +124,52 @@ public class AdminServiceImpl implements AdminService {
             throw new RuntimeException("Project not found");
         }
         projectRepository.deleteById(projectId);
+        AfterCommit.run(() -> {
+            projectSearchIndex.remove(projectId);
+            projectRecommendationIndex.remove(projectId);
+            projectFacetIndex.remove(projectId);
+        });
+        eventPublisher.publishEvent(ProjectCatalogChangedEvent.deleted(projectId));
     }
 
+    // Drop projects that no longer exist from the indexes and refresh member counts of the rest
+    private void pruneProjectIndexes(List<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        Set<Long> existing = new HashSet<>(projectRepository.findExistingIds(projectIds));
+        Map<Long, Integer> memberCounts = new HashMap<>();
+        if (!existing.isEmpty()) {
+            for (Object[] row : projectMemberRepository.countMembersGroupedByProjectIds(existing)) {
+                memberCounts.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+            }
+        }
+        for (Long projectId : projectIds) {
+            if (existing.contains(projectId)) {
+                projectRecommendationIndex.updateMemberCount(projectId, memberCounts.getOrDefault(projectId, 0));
+            } else {
+                projectSearchIndex.remove(projectId);
+                projectRecommendationIndex.remove(projectId);
+                projectFacetIndex.remove(projectId);
+            }
+        }
+    }
+
+    @Override
+    public Map<String, Object> getProjectCacheStats() {
+        return projectCatalogCache.stats();
+    }
+
+    @Override
+    public Map<String, Integer> rebuildRatingAggregates() {
+        return ratingAggregateService.rebuild();
+    }
+
+    @Override
+    public Map<String, Object> getReviewOutboxStats() {
+        return Map.of(
+                "pending", reviewOutboxRepository.countByStatus(ReviewOutbox.Status.PENDING),
+                "failed", reviewOutboxRepository.countByStatus(ReviewOutbox.Status.FAILED)
+        );
+    }
 }
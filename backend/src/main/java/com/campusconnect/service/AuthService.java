@@ -14,6 +14,7 @@ import org.springframework.security.authentication.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
 import java.util.Set;
 import java.util.HashSet;
 
@@ -41,6 +42,12 @@ public class AuthService {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TagDictionary tagDictionary;
+
+    @Autowired
+    private TeammateIndex teammateIndex;
+
     public AuthResponseDto register(RegisterDto registerDto) {
         // ✅ Check if user already exists
         if (userRepository.findByEmail(registerDto.getEmail()).isPresent()) {
@@ -67,45 +74,22 @@ public class AuthService {
                     .ifPresent(user::setUniversity);
         }
 
-        // Process and set skills
+        // Process and set skills (resolved in bulk through the shared dictionary)
         Set<Skill> skills = new HashSet<>();
         if (registerDto.getSkills() != null && !registerDto.getSkills().trim().isEmpty()) {
-            String[] skillNames = registerDto.getSkills().split(",");
-            for (String skillNameRaw : skillNames) {
-                final String skillName = skillNameRaw.trim();
-                if (!skillName.isEmpty()) {
-                    Skill skill = skillRepository.findByName(skillName)
-                            .orElseGet(() -> {
-                                Skill newSkill = new Skill();
-                                newSkill.setName(skillName);
-                                return skillRepository.save(newSkill);
-                            });
-                    skills.add(skill);
-                }
-            }
+            skills = tagDictionary.resolveSkills(Arrays.asList(registerDto.getSkills().split(",")));
         }
         user.setSkills(skills);
 
         // Process and set interests
         Set<Interest> interests = new HashSet<>();
         if (registerDto.getInterests() != null && !registerDto.getInterests().trim().isEmpty()) {
-            String[] interestNames = registerDto.getInterests().split(",");
-            for (String interestNameRaw : interestNames) {
-                final String interestName = interestNameRaw.trim();
-                if (!interestName.isEmpty()) {
-                    Interest interest = interestRepository.findByName(interestName)
-                            .orElseGet(() -> {
-                                Interest newInterest = new Interest();
-                                newInterest.setName(interestName);
-                                return interestRepository.save(newInterest);
-                            });
-                    interests.add(interest);
-                }
-            }
+            interests = tagDictionary.resolveInterests(Arrays.asList(registerDto.getInterests().split(",")));
         }
         user.setInterests(interests);
 
         userRepository.save(user);
+        teammateIndex.index(user);
 
         // ✅ Generate JWT
         String token = jwtUtil.generateToken(user.getEmail(), user.getRole().name());
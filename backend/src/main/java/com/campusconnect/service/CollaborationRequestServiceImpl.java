@@ -2,13 +2,16 @@ package com.campusconnect.service;
 
 import com.campusconnect.dto.CollaborationRequestDto;
 import com.campusconnect.entity.*;
+import com.campusconnect.event.ProjectCatalogChangedEvent;
 import com.campusconnect.exception.ResourceNotFoundException;
 import com.campusconnect.mapper.CollaborationRequestMapper;
 import com.campusconnect.repository.CollaborationRequestRepository;
 import com.campusconnect.repository.ProjectMemberRepository;
 import com.campusconnect.repository.ProjectRepository;
 import com.campusconnect.repository.UserRepository;
+import com.campusconnect.util.AfterCommit;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -29,6 +32,12 @@ public class CollaborationRequestServiceImpl implements CollaborationRequestServ
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ProjectRecommendationIndex projectRecommendationIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public CollaborationRequestDto sendRequest(Long projectId, Long studentId) {
         Project project = projectRepository.findById(projectId)
@@ -77,6 +86,11 @@ public class CollaborationRequestServiceImpl implements CollaborationRequestServ
                 member.setUser(request.getStudent());
                 member.setRole(ProjectMember.Role.MEMBER); // Default role
                 projectMemberRepository.save(member);
+
+                Long projectId = project.getProjectId();
+                int memberCount = (int) projectMemberRepository.countByProject_ProjectId(projectId);
+                AfterCommit.run(() -> projectRecommendationIndex.updateMemberCount(projectId, memberCount));
+                eventPublisher.publishEvent(ProjectCatalogChangedEvent.membersChanged(projectId));
             }
 
         } else if (action.equalsIgnoreCase("reject")) {
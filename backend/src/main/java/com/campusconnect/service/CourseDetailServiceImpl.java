@@ -6,8 +6,10 @@ import com.campusconnect.entity.Professor;
 import com.campusconnect.entity.University;
 import com.campusconnect.mapper.CourseDetailMapper;
 import com.campusconnect.repository.CourseDetailRepository;
+import com.campusconnect.repository.CourseLinkJdbcRepository;
 import com.campusconnect.repository.ProfessorRepository;
 import com.campusconnect.repository.UniversityRepository;
+import com.campusconnect.util.AfterCommit;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +33,12 @@ public class CourseDetailServiceImpl implements CourseDetailService {
     @Autowired
     private CourseDetailMapper courseDetailMapper;
 
+    @Autowired
+    private CourseIdentityResolver courseIdentityResolver;
+
+    @Autowired
+    private CourseLinkJdbcRepository courseLinkJdbcRepository;
+
     @Override
     public CourseDetailDto createCourseDetail(CourseDetailDto courseDetailDto) {
         if (courseDetailDto.getCode() == null || courseDetailDto.getCode().trim().isEmpty()) {
@@ -209,7 +217,10 @@ public class CourseDetailServiceImpl implements CourseDetailService {
         if (!courseDetailRepository.existsById(id)) {
             throw new IllegalArgumentException("Course detail not found");
         }
+        // Clear the link in the same transaction, or the resolver would map the ID to a dead detail
+        courseLinkJdbcRepository.unlink(id);
         courseDetailRepository.deleteById(id);
+        AfterCommit.run(() -> courseIdentityResolver.evictCourseDetail(id));
     }
 }
 
@@ -0,0 +1,84 @@
+package com.campusconnect.service;
+
+import com.campusconnect.repository.CourseDetailStatsJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps course_details.rating and course_details.reviews in line with live ratings and
+ * reviews. Writes only mark a course detail dirty (after commit); a scheduled flush
+ * recomputes all dirty rows in batched UPDATEs, so a burst of ratings on one course
+ * becomes a single row write. difficulty and the per-category ratings have no live source
+ * (ratings carry a single value) and stay editable through updateCourseDetail.
+ */
+@Component
+public class CourseDetailStatsUpdater {
+
+    static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private CourseDetailStatsJdbcRepository courseDetailStatsJdbcRepository;
+
+    @Autowired
+    private CourseIdentityResolver courseIdentityResolver;
+
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public void markCourseDetail(Long courseDetailId) {
+        if (courseDetailId != null) {
+            dirty.add(courseDetailId);
+        }
+    }
+
+    // Ratings point at legacy courses rows; only those linked to a CourseDetail have columns to update
+    public void markCourse(Long courseId) {
+        if (courseId != null) {
+            markCourseDetail(courseIdentityResolver.findCourseDetailId(courseId));
+        }
+    }
+
+    public void markAll() {
+        dirty.addAll(courseDetailStatsJdbcRepository.findAllIds());
+    }
+
+    @Scheduled(fixedDelay = 5000, initialDelay = 5000)
+    @PreDestroy
+    public void flush() {
+        List<Long> batch = new ArrayList<>(BATCH_SIZE);
+        Iterator<Long> it = dirty.iterator();
+        while (it.hasNext()) {
+            batch.add(it.next());
+            it.remove();
+            if (batch.size() == BATCH_SIZE) {
+                write(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        write(batch);
+    }
+
+    int pending() {
+        return dirty.size();
+    }
+
+    private void write(List<Long> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            courseDetailStatsJdbcRepository.refresh(batch);
+        } catch (RuntimeException e) {
+            // Retry on the next flush
+            dirty.addAll(batch);
+            System.err.println("Warning: Failed to refresh course detail stats: " + e.getMessage());
+        }
+    }
+}
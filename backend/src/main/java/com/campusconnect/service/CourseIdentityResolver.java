@@ -0,0 +1,138 @@
+package com.campusconnect.service;
+
+import com.campusconnect.entity.CourseDetail;
+import com.campusconnect.repository.CourseDetailRepository;
+import com.campusconnect.repository.CourseLinkJdbcRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import com.campusconnect.util.AfterCommit;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bidirectional CourseDetail <-> Course ID map. The frontend rates CourseDetail IDs while
+ * ratings reference the legacy courses table; once a pair is known, bridging them costs
+ * no queries. Pairs are persisted in courses.course_detail_id and resolved on first use.
+ * Only positive links are cached: a CourseDetail created later may reuse a legacy course ID,
+ * so a courses row linked to one CourseDetail never answers for another with its ID.
+ */
+@Component
+public class CourseIdentityResolver {
+
+    @Autowired
+    private CourseDetailRepository courseDetailRepository;
+
+    @Autowired
+    private CourseLinkJdbcRepository courseLinkJdbcRepository;
+
+    private final Map<Long, Long> courseByDetail = new ConcurrentHashMap<>();
+    private final Map<Long, Long> detailByCourse = new ConcurrentHashMap<>();
+
+    /**
+     * Course row to attach a rating of the given ID to, creating and linking one when a
+     * CourseDetail has none yet. IDs that are not CourseDetails must be legacy courses.
+     */
+    public CourseIds resolveForRating(Long ratedId) {
+        Long cached = courseByDetail.get(ratedId);
+        if (cached != null) {
+            return new CourseIds(ratedId, cached);
+        }
+        CourseDetail detail = courseDetailRepository.findById(ratedId).orElse(null);
+        if (detail == null) {
+            if (!courseLinkJdbcRepository.isLegacyCourse(ratedId)) {
+                throw new EntityNotFoundException("Course not found");
+            }
+            return new CourseIds(null, ratedId);
+        }
+        Long courseId = linkOrCreate(detail);
+        // A link made in the caller's transaction only exists once it commits
+        AfterCommit.run(() -> remember(ratedId, courseId));
+        return new CourseIds(ratedId, courseId);
+    }
+
+    // Read-only variant for lookups: never creates a course; null when there is none
+    public Long findCourseId(Long ratedId) {
+        Long cached = courseByDetail.get(ratedId);
+        if (cached != null) {
+            return cached;
+        }
+        if (courseDetailRepository.existsById(ratedId)) {
+            Long linked = courseLinkJdbcRepository.findCourseIdByDetailId(ratedId);
+            if (linked != null) {
+                remember(ratedId, linked);
+                return linked;
+            }
+        }
+        // Legacy behaviour: ratings stored against a courses row with the same ID
+        return courseLinkJdbcRepository.isLegacyCourse(ratedId) ? ratedId : null;
+    }
+
+    // Like findCourseId, but an ID that is neither a CourseDetail nor a legacy course is not found
+    public Long findCourseIdOrThrow(Long ratedId) {
+        Long courseId = findCourseId(ratedId);
+        if (courseId == null && !courseDetailRepository.existsById(ratedId)) {
+            throw new EntityNotFoundException("Course not found");
+        }
+        return courseId;
+    }
+
+    // CourseDetail a course row stands in for, or null for courses never linked
+    public Long findCourseDetailId(Long courseId) {
+        Long cached = detailByCourse.get(courseId);
+        if (cached != null) {
+            return cached;
+        }
+        Long detailId = courseLinkJdbcRepository.findCourseDetailIdByCourseId(courseId);
+        if (detailId != null) {
+            remember(detailId, courseId);
+        }
+        return detailId;
+    }
+
+    public void evictCourseDetail(Long courseDetailId) {
+        Long courseId = courseByDetail.remove(courseDetailId);
+        if (courseId != null) {
+            detailByCourse.remove(courseId);
+        }
+    }
+
+    // Runs in the caller's transaction; the unique course_detail_id makes a concurrent resolver
+    // wait on the insert and then find the same row through the locking read
+    private Long linkOrCreate(CourseDetail detail) {
+        Long detailId = detail.getCourseId();
+        Long linked = courseLinkJdbcRepository.findCourseIdByDetailId(detailId);
+        if (linked != null) {
+            return linked;
+        }
+        Long candidate = courseLinkJdbcRepository.findUnlinkedCandidate(detail);
+        if (candidate != null && courseLinkJdbcRepository.link(candidate, detailId)) {
+            return candidate;
+        }
+        courseLinkJdbcRepository.insertIfAbsent(detail);
+        linked = courseLinkJdbcRepository.findCourseIdByDetailIdForUpdate(detailId);
+        if (linked == null) {
+            throw new IllegalStateException("Could not resolve course for course detail " + detailId);
+        }
+        return linked;
+    }
+
+    private void remember(Long courseDetailId, Long courseId) {
+        courseByDetail.put(courseDetailId, courseId);
+        detailByCourse.put(courseId, courseDetailId);
+    }
+
+    public static final class CourseIds {
+        private final Long courseDetailId; // null for legacy courses without a CourseDetail
+        private final Long courseId;
+
+        public CourseIds(Long courseDetailId, Long courseId) {
+            this.courseDetailId = courseDetailId;
+            this.courseId = courseId;
+        }
+
+        public Long getCourseDetailId() { return courseDetailId; }
+        public Long getCourseId() { return courseId; }
+    }
+}
@@ -2,11 +2,11 @@ package com.campusconnect.service;
 
 import com.campusconnect.dto.*;
 import com.campusconnect.mapper.DashboardMapper;
-import com.campusconnect.mapper.ProjectMapper;
 import com.campusconnect.mapper.TaskMapper;
 import com.campusconnect.mapper.MessageMapper;
 import com.campusconnect.repository.*;
 import org.springframework.stereotype.Service;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,39 +17,40 @@ public class DashboardServiceImpl implements DashboardService {
     private final CollaborationRequestRepository collaborationRequestRepository;
     private final MessageRepository messageRepository;
 
-    private final ProjectMapper projectMapper;
     private final TaskMapper taskMapper;
     private final DashboardMapper dashboardMapper;
     private final MessageMapper messageMapper;
+    private final ProjectMembershipLoader projectMembershipLoader;
+    private final ProjectSkillLoader projectSkillLoader;
 
     public DashboardServiceImpl(ProjectRepository projectRepository,
                                 TaskRepository taskRepository,
                                 CollaborationRequestRepository collaborationRequestRepository,
                                 MessageRepository messageRepository,
-                                ProjectMapper projectMapper,
                                 TaskMapper taskMapper,
                                 DashboardMapper dashboardMapper,
-                                MessageMapper messageMapper) {
+                                MessageMapper messageMapper,
+                                ProjectMembershipLoader projectMembershipLoader,
+                                ProjectSkillLoader projectSkillLoader) {
         this.projectRepository = projectRepository;
         this.taskRepository = taskRepository;
         this.collaborationRequestRepository = collaborationRequestRepository;
         this.messageRepository = messageRepository;
-        this.projectMapper = projectMapper;
         this.taskMapper = taskMapper;
         this.dashboardMapper = dashboardMapper;
         this.messageMapper = messageMapper;
+        this.projectMembershipLoader = projectMembershipLoader;
+        this.projectSkillLoader = projectSkillLoader;
     }
 
     @Override
     public DashboardDto getDashboardForUser(Long userId) {
         DashboardDto dto = new DashboardDto();
 
-        dto.setProjects(
-                projectRepository.findAllByUserId(userId)
-                        .stream()
-                        .map(projectMapper::toDto)
-                        .collect(Collectors.toList())
-        );
+        List<ProjectDto> projects = projectRepository.findDtosByMemberUserId(userId);
+        projectSkillLoader.fillSkills(projects);
+        projectMembershipLoader.fillMemberIds(projects);
+        dto.setProjects(projects);
 
         dto.setAssignedTasks(
                 taskRepository.findByAssignedTo_UserId(userId)
@@ -0,0 +1,103 @@
+package com.campusconnect.service;
+
+import com.campusconnect.repository.ReviewHelpfulJdbcRepository;
+import com.campusconnect.util.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind counter for review "helpful" votes. A vote is deduped by its row in
+ * review_helpful_votes and then only bumps an in-memory per-review count, so concurrent votes
+ * on a hot review never queue on its row lock. A scheduled flush adds the pending votes to
+ * reviews.helpful_count in batches and flags their rows counted in the same transaction; a
+ * failed flush keeps them pending, and the final flush runs on shutdown. Votes whose flush
+ * was lost with the process are still uncounted in the table and are recounted on startup.
+ */
+@Component
+public class HelpfulVoteCounter {
+
+    static final int FLUSH_BATCH_SIZE = 500;
+    static final int RECOUNT_BATCH_SIZE = 1000;
+
+    @Autowired
+    private ReviewHelpfulJdbcRepository reviewHelpfulJdbcRepository;
+
+    // vote_id -> review_id of acknowledged votes not yet flushed
+    private final ConcurrentHashMap<Long, Long> unflushed = new ConcurrentHashMap<>();
+    // Per-review number of unflushed votes; an entry is removed as soon as it drains to zero
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    // Returns false when the user has already voted for this review
+    public boolean vote(Long reviewId, Long userId) {
+        Long voteId = reviewHelpfulJdbcRepository.insertVote(reviewId, userId);
+        if (voteId == null) {
+            return false;
+        }
+        AfterCommit.run(() -> {
+            unflushed.put(voteId, reviewId);
+            pending.merge(reviewId, 1L, Long::sum);
+        });
+        return true;
+    }
+
+    // Votes acknowledged but not yet written to reviews.helpful_count
+    public long pendingFor(Long reviewId) {
+        Long count = reviewId != null ? pending.get(reviewId) : null;
+        return count != null ? count : 0;
+    }
+
+    // Unflushed votes of a deleted review find no row at the next flush and are dropped then
+    public void discard(Long reviewId) {
+        pending.remove(reviewId);
+    }
+
+    @Scheduled(fixedDelay = 1000, initialDelay = 1000)
+    @PreDestroy
+    public synchronized void flush() {
+        List<Long> voteIds = new ArrayList<>(unflushed.keySet());
+        for (int from = 0; from < voteIds.size(); from += FLUSH_BATCH_SIZE) {
+            List<Long> batch = voteIds.subList(from, Math.min(from + FLUSH_BATCH_SIZE, voteIds.size()));
+            try {
+                reviewHelpfulJdbcRepository.countVotes(batch);
+            } catch (RuntimeException e) {
+                // Rolled back: this batch and the rest stay pending for the next flush
+                System.err.println("Warning: Failed to flush helpful votes: " + e.getMessage());
+                return;
+            }
+            // Every vote of the batch is counted now, by this flush or by the startup recount
+            for (Long voteId : batch) {
+                Long reviewId = unflushed.remove(voteId);
+                if (reviewId != null) {
+                    pending.computeIfPresent(reviewId, (id, count) -> count > 1 ? count - 1 : null);
+                }
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized int recount() {
+        int recounted = 0;
+        try {
+            int counted;
+            do {
+                counted = reviewHelpfulJdbcRepository.countUncountedVotes(RECOUNT_BATCH_SIZE);
+                recounted += counted;
+            } while (counted == RECOUNT_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            // The rest stay flagged uncounted and are picked up by the next startup
+            System.err.println("Warning: Failed to recount helpful votes: " + e.getMessage());
+        }
+        if (recounted > 0) {
+            System.err.println("Warning: Recounted " + recounted + " helpful votes missing from helpful_count");
+        }
+        return recounted;
+    }
+}
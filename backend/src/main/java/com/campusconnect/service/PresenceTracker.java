@@ -0,0 +1,111 @@
+package com.campusconnect.service;
+
+import com.campusconnect.repository.PresenceJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory presence for heartbeats. A heartbeat only records the time in a concurrent map;
+ * online/offline is answered from that map, and a scheduled flush writes the latest time of
+ * every user seen since the last flush to users.last_seen in one batch. Users who have gone
+ * offline and been flushed are dropped from memory, so the map only holds recent users.
+ */
+@Component
+public class PresenceTracker {
+
+    // Matches the "online" window the teammate list has always used
+    public static final long ONLINE_WINDOW_MILLIS = 5 * 60 * 1000;
+
+    static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private PresenceJdbcRepository presenceJdbcRepository;
+
+    private final ConcurrentHashMap<Long, Long> lastSeen = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public void touch(Long userId) {
+        touch(userId, System.currentTimeMillis());
+    }
+
+    void touch(Long userId, long epochMillis) {
+        if (userId == null) {
+            return;
+        }
+        lastSeen.merge(userId, epochMillis, Math::max);
+        dirty.add(userId);
+    }
+
+    // Heartbeat time held in memory, or null if none since the user was last evicted
+    public Long lastSeenMillis(Long userId) {
+        return userId != null ? lastSeen.get(userId) : null;
+    }
+
+    // Newest of the in-memory heartbeat and the stored column
+    public Timestamp lastSeen(Long userId, Timestamp stored) {
+        Long recent = lastSeenMillis(userId);
+        if (recent == null || (stored != null && stored.getTime() >= recent)) {
+            return stored;
+        }
+        return new Timestamp(recent);
+    }
+
+    public boolean isOnline(Long userId, Timestamp stored) {
+        Timestamp seen = lastSeen(userId, stored);
+        return seen != null && System.currentTimeMillis() - seen.getTime() <= ONLINE_WINDOW_MILLIS;
+    }
+
+    @Scheduled(fixedDelay = 30000, initialDelay = 30000)
+    @PreDestroy
+    public synchronized void flush() {
+        Map<Long, Long> batch = new HashMap<>();
+        Iterator<Long> it = dirty.iterator();
+        while (it.hasNext()) {
+            Long userId = it.next();
+            // Remove before reading: a heartbeat arriving afterwards marks the user dirty again
+            it.remove();
+            Long seen = lastSeen.get(userId);
+            if (seen != null) {
+                batch.put(userId, seen);
+            }
+            if (batch.size() == BATCH_SIZE) {
+                write(batch);
+                batch = new HashMap<>();
+            }
+        }
+        write(batch);
+        evictOffline();
+    }
+
+    private void write(Map<Long, Long> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            presenceJdbcRepository.updateLastSeen(batch);
+        } catch (RuntimeException e) {
+            dirty.addAll(batch.keySet());
+            System.err.println("Warning: Failed to flush last_seen: " + e.getMessage());
+        }
+    }
+
+    // Offline users that are fully flushed read their last_seen from the row again
+    private void evictOffline() {
+        long cutoff = System.currentTimeMillis() - ONLINE_WINDOW_MILLIS;
+        lastSeen.forEach((userId, seen) -> {
+            if (seen < cutoff && !dirty.contains(userId)) {
+                // Conditional remove keeps a heartbeat that raced in after the check
+                lastSeen.remove(userId, seen);
+            }
+        });
+    }
+}
@@ -2,6 +2,7 @@ package com.campusconnect.service;
 
 import com.campusconnect.dto.ProfessorDto;
 import com.campusconnect.entity.Professor;
+import com.campusconnect.entity.RatingAggregate;
 import com.campusconnect.entity.University;
 import com.campusconnect.mapper.ProfessorMapper;
 import com.campusconnect.repository.ProfessorRepository;
@@ -24,6 +25,9 @@ public class ProfessorService {
     @Autowired
     private UniversityRepository universityRepository;
 
+    @Autowired
+    private RatingLeaderboard ratingLeaderboard;
+
     // ✅ Create or update a professor
     public ProfessorDto saveProfessor(ProfessorDto dto) {
         if (dto.getName() == null || dto.getName().trim().isEmpty()) {
@@ -71,6 +75,7 @@ public class ProfessorService {
         }
 
         Professor saved = professorRepository.save(professor);
+        ratingLeaderboard.refreshProfessor(saved);
         return professorMapper.toDto(saved);
     }
 
@@ -104,5 +109,6 @@ public class ProfessorService {
             throw new IllegalArgumentException("Professor not found");
         }
         professorRepository.deleteById(id);
+        ratingLeaderboard.remove(RatingAggregate.TargetType.PROFESSOR, id);
     }
 }
@@ -0,0 +1,51 @@
+package com.campusconnect.service;
+
+import com.campusconnect.repository.LegacyProfileImageJdbcRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * One-off move of profile images stored inline in users.profile_image into ProfileImageStore,
+ * run at startup in small batches so no large result set of BLOBs is ever held in memory.
+ * Databases created after the move never had the column and are skipped. A failure stops the
+ * run with a warning instead of failing startup; rows already moved stay moved and the next
+ * start picks up the rest.
+ */
+@Component
+public class ProfileImageMigration {
+
+    static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private LegacyProfileImageJdbcRepository legacyProfileImageJdbcRepository;
+
+    @Autowired
+    private ProfileImageStore profileImageStore;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public int migrate() {
+        int moved = 0;
+        if (!legacyProfileImageJdbcRepository.hasLegacyColumn()) {
+            return moved;
+        }
+        try {
+            List<Object[]> batch;
+            do {
+                batch = legacyProfileImageJdbcRepository.findLegacyImages(BATCH_SIZE);
+                for (Object[] row : batch) {
+                    // Stored unvalidated: these were accepted before uploads were type-checked
+                    String hash = profileImageStore.put((byte[]) row[1]);
+                    legacyProfileImageJdbcRepository.moveToHash((Long) row[0], hash);
+                    moved++;
+                }
+            } while (batch.size() == BATCH_SIZE);
+        } catch (RuntimeException e) {
+            System.err.println("Warning: Profile image migration stopped after " + moved + " images: " + e.getMessage());
+        }
+        return moved;
+    }
+}
@@ -0,0 +1,199 @@
+package com.campusconnect.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed store for profile images on local disk. A blob lives at
+ * {@code <dir>/<first two hex chars>/<sha-256>}, so identical uploads share one file and a
+ * stored blob never changes, which is what lets the image endpoint hand out immutable,
+ * strongly-validated responses. Resized copies live under {@code <dir>/thumbs/<size>/}. Files
+ * are written to a temp file and moved into place, so a reader never sees a partial image.
+ * Uploads are also capped in pixels, read from the image header, since a few compressed KB
+ * can declare dimensions that take gigabytes to decode.
+ */
+@Component
+public class ProfileImageStore {
+
+    public static final int MAX_IMAGE_BYTES = 5 * 1024 * 1024;
+    public static final long MAX_IMAGE_PIXELS = 16_000_000L;
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+
+    public ProfileImageStore(@Value("${app.profile-images.dir:data/profile-images}") String directory) {
+        this.root = Paths.get(directory).toAbsolutePath().normalize();
+    }
+
+    // Validate an uploaded image and store it; returns its hash
+    public String store(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            throw new IllegalArgumentException("Profile image is empty");
+        }
+        if (bytes.length > MAX_IMAGE_BYTES) {
+            throw new IllegalArgumentException("Profile image must be at most " + (MAX_IMAGE_BYTES / (1024 * 1024)) + " MB");
+        }
+        if (contentTypeOf(bytes) == null) {
+            throw new IllegalArgumentException("Profile image must be a PNG, JPEG, GIF or WebP image");
+        }
+        if (exceedsPixelLimit(bytes)) {
+            throw new IllegalArgumentException("Profile image must be at most " + (MAX_IMAGE_PIXELS / 1_000_000) + " megapixels");
+        }
+        return put(bytes);
+    }
+
+    // Store bytes as-is (used when moving legacy images out of the users table)
+    public String put(byte[] bytes) {
+        String hash = sha256(bytes);
+        write(pathFor(hash), bytes);
+        return hash;
+    }
+
+    // Thumbnails are derived from the blob, so they are as immutable as the blob itself
+    public void putThumbnail(String hash, int size, byte[] bytes) {
+        write(thumbnailPathFor(hash, size), bytes);
+    }
+
+    // Path of a stored blob, or empty for unknown or malformed hashes
+    public Optional<Path> find(String hash) {
+        if (!isHash(hash)) {
+            return Optional.empty();
+        }
+        Path path = pathFor(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    public Optional<Path> findThumbnail(String hash, int size) {
+        if (!isHash(hash)) {
+            return Optional.empty();
+        }
+        Path path = thumbnailPathFor(hash, size);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    // Sniffed from the first bytes of the blob; octet-stream if the format is not recognised
+    public String contentTypeOf(Path path) {
+        byte[] header = new byte[12];
+        int read;
+        try (InputStream in = Files.newInputStream(path)) {
+            read = in.readNBytes(header, 0, header.length);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read profile image", e);
+        }
+        String type = contentTypeOf(read == header.length ? header : Arrays.copyOf(header, read));
+        return type != null ? type : "application/octet-stream";
+    }
+
+    public static boolean isHash(String hash) {
+        return hash != null && HASH.matcher(hash).matches();
+    }
+
+    static String contentTypeOf(byte[] bytes) {
+        if (startsWith(bytes, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "image/png";
+        }
+        if (startsWith(bytes, 0, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (startsWith(bytes, 0, 'G', 'I', 'F', '8')) {
+            return "image/gif";
+        }
+        if (startsWith(bytes, 0, 'R', 'I', 'F', 'F') && startsWith(bytes, 8, 'W', 'E', 'B', 'P')) {
+            return "image/webp";
+        }
+        return null;
+    }
+
+    // Only the header is read; formats ImageIO cannot parse (e.g. WebP) are never decoded server-side
+    private static boolean exceedsPixelLimit(byte[] bytes) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return false;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return exceedsPixelLimit(reader);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            // Unreadable header: the thumbnail service cannot decode it either, so it is served as-is
+            return false;
+        }
+    }
+
+    static boolean exceedsPixelLimit(ImageReader reader) throws IOException {
+        return (long) reader.getWidth(0) * reader.getHeight(0) > MAX_IMAGE_PIXELS;
+    }
+
+    private static boolean startsWith(byte[] bytes, int offset, int... magic) {
+        if (bytes.length < offset + magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if ((bytes[offset + i] & 0xFF) != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Path pathFor(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Path thumbnailPathFor(String hash, int size) {
+        return root.resolve("thumbs").resolve(Integer.toString(size)).resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    // Write via a temp file and an atomic move; an existing target already holds the same bytes
+    private static void write(Path target, byte[] bytes) {
+        if (Files.exists(target)) {
+            return;
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temp, bytes);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // A concurrent writer of the same content won the race
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store profile image", e);
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
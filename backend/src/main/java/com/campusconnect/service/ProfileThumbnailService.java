@@ -0,0 +1,179 @@
+package com.campusconnect.service;
+
+import com.campusconnect.util.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates the square avatar thumbnails clients display (32, 64 and 256 px) for images in
+ * ProfileImageStore. Uploads enqueue the work after commit on a small bounded pool, so a
+ * profile update never waits on image decoding; a thumbnail that is not there yet (queue
+ * full, legacy image, restart) is requested again by the first read that misses it.
+ * Formats ImageIO cannot decode (e.g. WebP), and originals above the store's pixel cap (legacy
+ * blobs were never checked), keep serving the original.
+ */
+@Component
+public class ProfileThumbnailService {
+
+    public static final int[] SIZES = {32, 64, 256};
+
+    static final int WORKERS = 2;
+    static final int QUEUE_CAPACITY = 100;
+
+    private final ProfileImageStore profileImageStore;
+    private final ThreadPoolExecutor executor;
+    // Hashes queued or being resized, so repeated misses do not pile up duplicate jobs
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    // Originals ImageIO cannot (or should not) decode; never retried, they are served as-is
+    private final Set<String> undecodable = ConcurrentHashMap.newKeySet();
+
+    public ProfileThumbnailService(ProfileImageStore profileImageStore) {
+        this.profileImageStore = profileImageStore;
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(WORKERS, WORKERS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "profile-thumbnails-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public static boolean isSupportedSize(int size) {
+        for (int supported : SIZES) {
+            if (supported == size) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Queue thumbnail generation once the surrounding transaction commits
+    public void generateAfterCommit(String hash) {
+        if (ProfileImageStore.isHash(hash)) {
+            AfterCommit.run(() -> submit(hash));
+        }
+    }
+
+    // Best effort: a full queue drops the job and a later read re-requests it
+    public void submit(String hash) {
+        if (undecodable.contains(hash) || !pending.add(hash)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(hash);
+                } finally {
+                    pending.remove(hash);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(hash);
+        }
+    }
+
+    // Resize the original to every missing size; returns false if it cannot be decoded
+    boolean generate(String hash) {
+        Optional<Path> original = profileImageStore.find(hash);
+        if (original.isEmpty()) {
+            return false;
+        }
+        try {
+            BufferedImage source = read(original.get());
+            if (source == null) {
+                undecodable.add(hash);
+                return false;
+            }
+            for (int size : SIZES) {
+                if (profileImageStore.findThumbnail(hash, size).isEmpty()) {
+                    profileImageStore.putThumbnail(hash, size, encode(resize(source, size)));
+                }
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // Malformed image data or a failed write; a read miss would otherwise retry it forever
+            undecodable.add(hash);
+            return false;
+        }
+    }
+
+    // Decoded image, or null when no reader understands it or its header declares too many pixels
+    private static BufferedImage read(Path path) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if (ProfileImageStore.exceedsPixelLimit(reader)) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Centre-crop to a square, then halve repeatedly before the final step so downscaling stays sharp
+    static BufferedImage resize(BufferedImage source, int size) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        boolean alpha = source.getColorModel().hasAlpha();
+        BufferedImage current = source.getSubimage(
+                (source.getWidth() - side) / 2, (source.getHeight() - side) / 2, side, side);
+        int currentSide = side;
+        // Always redraw at least once so the result has a plain RGB/ARGB layout the encoders accept
+        do {
+            int next = currentSide / 2 >= size ? currentSide / 2 : size;
+            BufferedImage scaled = new BufferedImage(next, next,
+                    alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = scaled.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, next, next, null);
+            } finally {
+                g.dispose();
+            }
+            current = scaled;
+            currentSide = next;
+        } while (currentSide != size);
+        return current;
+    }
+
+    // JPEG for opaque images (smallest), PNG when transparency has to survive
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String format = image.getColorModel().hasAlpha() ? "png" : "jpg";
+        if (!ImageIO.write(image, format, out)) {
+            throw new IOException("No ImageIO writer for " + format);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,179 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.ProjectDto;
+import com.campusconnect.dto.ProjectPageDto;
+import com.campusconnect.entity.Project;
+import com.campusconnect.event.ProjectCatalogChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache for the public project catalog (GET /api/projects, plain and paged).
+ * Entries are dropped by ProjectCatalogChangedEvent once the writing transaction commits;
+ * a generation counter stops a load that raced with a commit from caching what it read.
+ */
+@Component
+public class ProjectCatalogCache {
+
+    static final int MAX_ENTRIES = 256;
+
+    private static final String ALL_PROJECTS_KEY = "all";
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // Access-ordered, so the eldest entry is the least recently used; guarded by `this`
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() > MAX_ENTRIES) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+    private long generation;
+
+    public List<ProjectDto> getAllProjects(Supplier<List<ProjectDto>> loader) {
+        return get(ALL_PROJECTS_KEY, true, false, loader, list -> list);
+    }
+
+    // Arguments must already be normalized so equivalent requests share one entry
+    public ProjectPageDto getProjectPage(String cursor, int limit, Project.Status status, String skill,
+                                         Supplier<ProjectPageDto> loader) {
+        String key = "page|" + limit + "|" + status + "|" + (skill != null ? skill : "")
+                + "|" + (cursor != null ? cursor : "");
+        return get(key, cursor == null, status != null || skill != null, loader, ProjectPageDto::getItems);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(ProjectCatalogChangedEvent event) {
+        Long projectId = event.getProjectId();
+        synchronized (this) {
+            generation++;
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                if (isAffected(it.next(), event.getKind(), projectId)) {
+                    it.remove();
+                    invalidations.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        generation++;
+        invalidations.addAndGet(entries.size());
+        entries.clear();
+    }
+
+    public Map<String, Object> stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", size);
+        stats.put("maxEntries", MAX_ENTRIES);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+
+    // -------------------------------
+    // PRIVATE HELPERS
+    // -------------------------------
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String key, boolean head, boolean filtered, Supplier<T> loader,
+                      Function<T, List<ProjectDto>> itemsOf) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return (T) cached.value;
+            }
+            loadGeneration = generation;
+        }
+        misses.incrementAndGet();
+
+        T value = loader.get();
+        long[] projectIds = projectIdsOf(itemsOf.apply(value));
+        synchronized (this) {
+            // Something committed while we were loading - what we read may already be stale
+            if (generation == loadGeneration) {
+                entries.put(key, new Entry(value, projectIds, head, filtered));
+            }
+        }
+        return value;
+    }
+
+    private static boolean isAffected(Entry entry, ProjectCatalogChangedEvent.Kind kind, Long projectId) {
+        if (projectId == null || kind == ProjectCatalogChangedEvent.Kind.RESET) {
+            return true;
+        }
+        switch (kind) {
+            case CREATED:
+                // Newest project sorts first, so only first pages (and the full list) can change
+                return entry.head;
+            case UPDATED:
+                // Filtered pages may gain or lose the project
+                return entry.filtered || entry.contains(projectId);
+            default:
+                return entry.contains(projectId);
+        }
+    }
+
+    private static long[] projectIdsOf(List<ProjectDto> items) {
+        if (items == null) {
+            return new long[0];
+        }
+        long[] ids = new long[items.size()];
+        int n = 0;
+        for (ProjectDto dto : items) {
+            if (dto.getProjectId() != null) {
+                ids[n++] = dto.getProjectId();
+            }
+        }
+        ids = Arrays.copyOf(ids, n);
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private static final class Entry {
+        final Object value;
+        final long[] projectIds; // sorted
+        final boolean head;
+        final boolean filtered;
+
+        Entry(Object value, long[] projectIds, boolean head, boolean filtered) {
+            this.value = value;
+            this.projectIds = projectIds;
+            this.head = head;
+            this.filtered = filtered;
+        }
+
+        boolean contains(long projectId) {
+            return Arrays.binarySearch(projectIds, projectId) >= 0;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.UserDto;
+import com.campusconnect.repository.ProjectMemberRepository;
+import com.campusconnect.util.LongObjectHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Loads project counts for many users at once.
+ * One GROUP BY query per chunk of IDs instead of one countByUser_UserId() per user.
+ */
+@Component
+public class ProjectCountLoader {
+
+    // Keep IN lists well below driver/packet limits
+    static final int CHUNK_SIZE = 1000;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    // Project counts keyed by user ID; users without projects are absent
+    public LongObjectHashMap<Integer> loadProjectCounts(Collection<Long> userIds) {
+        LongObjectHashMap<Integer> countsByUser = new LongObjectHashMap<>(userIds.size());
+        if (userIds.isEmpty()) {
+            return countsByUser;
+        }
+
+        List<Long> ids = new ArrayList<>(new HashSet<>(userIds));
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            for (Object[] row : projectMemberRepository.countProjectsGroupedByUser(chunk)) {
+                countsByUser.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+            }
+        }
+        return countsByUser;
+    }
+
+    // Fill projectCount on every DTO in the list with a single batched lookup
+    public void fillProjectCounts(List<UserDto> dtos) {
+        List<Long> userIds = new ArrayList<>(dtos.size());
+        for (UserDto dto : dtos) {
+            if (dto.getUserId() != null) {
+                userIds.add(dto.getUserId());
+            }
+        }
+
+        LongObjectHashMap<Integer> countsByUser = loadProjectCounts(userIds);
+        for (UserDto dto : dtos) {
+            Integer count = dto.getUserId() != null ? countsByUser.get(dto.getUserId()) : null;
+            dto.setProjectCount(count != null ? count : 0);
+        }
+    }
+
+    public void fillProjectCounts(UserDto dto) {
+        fillProjectCounts(List.of(dto));
+    }
+}
@@ -0,0 +1,218 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.ProjectFacetsDto;
+import com.campusconnect.entity.Project;
+import com.campusconnect.entity.Skill;
+import com.campusconnect.repository.ProjectRepository;
+import com.campusconnect.util.LongObjectHashMap;
+import com.campusconnect.util.ReplayingLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Facet counts for the project browser (status, skills, deadline buckets).
+ * Global counts are adjusted on every create/update/delete instead of running a GROUP BY
+ * over projects and project_skills per page view. Deadline buckets are resolved at read time
+ * from per-day counts, so they stay correct as days pass. Writes that arrive while a rebuild
+ * is loading are replayed on top of its snapshot.
+ */
+@Component
+public class ProjectFacetIndex {
+
+    static final int MAX_SKILL_FACETS = 50;
+    static final int WEEK_DAYS = 7;
+    static final int MONTH_DAYS = 30;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private final ReplayingLock lock = new ReplayingLock();
+    private final LongObjectHashMap<Entry> entries = new LongObjectHashMap<>();
+    private final LongObjectHashMap<String> skillNames = new LongObjectHashMap<>();
+    private Counts global = new Counts();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.rebuild(() -> {
+            Map<Long, Entry> snapshot = new LinkedHashMap<>();
+            for (Project project : projectRepository.findAllWithSkills()) {
+                snapshot.put(project.getProjectId(), entryOf(project));
+            }
+            return snapshot;
+        }, snapshot -> {
+            entries.clear();
+            global = new Counts();
+            snapshot.forEach(this::addLocked);
+        });
+    }
+
+    // Add or replace a project's contribution
+    public void index(Project project) {
+        if (project == null || project.getProjectId() == null) {
+            return;
+        }
+        long projectId = project.getProjectId();
+        Entry entry = entryOf(project);
+        lock.write(() -> {
+            removeLocked(projectId);
+            addLocked(projectId, entry);
+        });
+    }
+
+    public void remove(Long projectId) {
+        if (projectId == null) {
+            return;
+        }
+        lock.write(() -> removeLocked(projectId));
+    }
+
+    // Counts over every project
+    public ProjectFacetsDto facets() {
+        lock.readLock().lock();
+        try {
+            return global.toDto(skillNames, LocalDate.now().toEpochDay());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Counts over a result set (e.g. search hits), built from the in-memory entries
+    public ProjectFacetsDto facetsFor(Collection<Long> projectIds) {
+        lock.readLock().lock();
+        try {
+            Counts counts = new Counts();
+            for (Long projectId : projectIds) {
+                Entry entry = projectId != null ? entries.get(projectId) : null;
+                if (entry != null) {
+                    counts.apply(entry, 1);
+                }
+            }
+            return counts.toDto(skillNames, LocalDate.now().toEpochDay());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -------------------------------
+    // PRIVATE HELPERS (write lock held)
+    // -------------------------------
+
+    private void addLocked(long projectId, Entry entry) {
+        entries.put(projectId, entry);
+        global.apply(entry, 1);
+        for (int i = 0; i < entry.skillIds.length; i++) {
+            if (entry.skillLabels[i] != null) {
+                skillNames.put(entry.skillIds[i], entry.skillLabels[i]);
+            }
+        }
+    }
+
+    private void removeLocked(long projectId) {
+        Entry previous = entries.remove(projectId);
+        if (previous != null) {
+            global.apply(previous, -1);
+        }
+    }
+
+    private static Entry entryOf(Project project) {
+        List<Skill> skills = new ArrayList<>();
+        // Callers pass projects with skills loaded (fetch join, or initialized before commit)
+        if (project.getSkills() != null) {
+            for (Skill skill : project.getSkills()) {
+                if (skill != null && skill.getSkillId() != null) {
+                    skills.add(skill);
+                }
+            }
+        }
+
+        Entry entry = new Entry();
+        entry.status = project.getStatus() != null ? project.getStatus() : Project.Status.OPEN;
+        entry.deadlineDay = project.getDeadline() != null ? project.getDeadline().toLocalDate().toEpochDay() : null;
+        entry.skillIds = new long[skills.size()];
+        entry.skillLabels = new String[skills.size()];
+        for (int i = 0; i < skills.size(); i++) {
+            entry.skillIds[i] = skills.get(i).getSkillId();
+            entry.skillLabels[i] = skills.get(i).getName();
+        }
+        return entry;
+    }
+
+    private static final class Entry {
+        Project.Status status;
+        Long deadlineDay; // epoch day, null when the project has no deadline
+        long[] skillIds;
+        String[] skillLabels;
+    }
+
+    // Additive counters; apply(entry, -1) undoes apply(entry, 1)
+    private static final class Counts {
+        final int[] byStatus = new int[Project.Status.values().length];
+        final LongObjectHashMap<int[]> bySkill = new LongObjectHashMap<>();
+        final TreeMap<Long, Integer> byDeadlineDay = new TreeMap<>();
+        int withoutDeadline;
+        int total;
+
+        void apply(Entry entry, int delta) {
+            total += delta;
+            byStatus[entry.status.ordinal()] += delta;
+            if (entry.deadlineDay == null) {
+                withoutDeadline += delta;
+            } else {
+                byDeadlineDay.merge(entry.deadlineDay, delta, (a, b) -> a + b == 0 ? null : a + b);
+            }
+            for (long skillId : entry.skillIds) {
+                int[] count = bySkill.computeIfAbsent(skillId, k -> new int[1]);
+                count[0] += delta;
+                if (count[0] == 0) {
+                    bySkill.remove(skillId);
+                }
+            }
+        }
+
+        ProjectFacetsDto toDto(LongObjectHashMap<String> skillNames, long today) {
+            ProjectFacetsDto dto = new ProjectFacetsDto();
+            dto.setTotal(total);
+
+            for (Project.Status status : Project.Status.values()) {
+                dto.getStatus().put(status.name(), byStatus[status.ordinal()]);
+            }
+
+            // Most used skills first; ties broken by name for a stable order
+            List<long[]> ranked = new ArrayList<>(bySkill.size());
+            bySkill.forEach((skillId, count) -> ranked.add(new long[]{skillId, count[0]}));
+            ranked.sort((a, b) -> a[1] != b[1]
+                    ? Long.compare(b[1], a[1])
+                    : String.valueOf(skillNames.get(a[0])).compareToIgnoreCase(String.valueOf(skillNames.get(b[0]))));
+            for (long[] skill : ranked.subList(0, Math.min(ranked.size(), MAX_SKILL_FACETS))) {
+                String name = skillNames.getOrDefault(skill[0], "skill-" + skill[0]);
+                dto.getSkills().merge(name, (int) skill[1], Integer::sum);
+            }
+
+            Map<String, Integer> deadlines = dto.getDeadlines();
+            deadlines.put("NONE", withoutDeadline);
+            deadlines.put("OVERDUE", sum(byDeadlineDay.headMap(today, false)));
+            deadlines.put("THIS_WEEK", sum(byDeadlineDay.subMap(today, true, today + WEEK_DAYS, true)));
+            deadlines.put("THIS_MONTH", sum(byDeadlineDay.subMap(today + WEEK_DAYS, false, today + MONTH_DAYS, true)));
+            deadlines.put("LATER", sum(byDeadlineDay.tailMap(today + MONTH_DAYS, false)));
+            return dto;
+        }
+
+        private static int sum(Map<Long, Integer> counts) {
+            int total = 0;
+            for (int count : counts.values()) {
+                total += count;
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,453 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.ProjectImportResultDto;
+import com.campusconnect.dto.ProjectImportRowDto;
+import com.campusconnect.entity.Project;
+import com.campusconnect.entity.Skill;
+import com.campusconnect.entity.User;
+import com.campusconnect.event.ProjectCatalogChangedEvent;
+import com.campusconnect.repository.ProjectImportJdbcRepository;
+import com.campusconnect.repository.UserRepository;
+import com.campusconnect.util.AfterCommit;
+import com.campusconnect.util.CsvReader;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk project import for course staff (JSON array or CSV).
+ * Input is parsed one row at a time; every CHUNK_SIZE rows are written in their own transaction
+ * with JDBC batches for projects, project_skills and the leader project_members rows.
+ * A failing chunk rolls back alone - earlier chunks stay committed - and every row gets a result.
+ */
+@Service
+public class ProjectImportService {
+
+    static final int CHUNK_SIZE = 200;
+    static final int MAX_ROWS = 10_000;
+
+    // Column limits from the projects/skills tables
+    private static final int MAX_TITLE_LENGTH = 150;
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+    private static final int MAX_SKILL_LENGTH = TagDictionary.MAX_NAME_LENGTH;
+
+    @Autowired
+    private ProjectImportJdbcRepository projectImportJdbcRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TagDictionary tagDictionary;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectSearchIndex projectSearchIndex;
+
+    @Autowired
+    private ProjectRecommendationIndex projectRecommendationIndex;
+
+    @Autowired
+    private ProjectFacetIndex projectFacetIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Body must be a JSON array of ProjectImportRowDto objects
+    public ProjectImportResultDto importJson(InputStream in) throws IOException {
+        ProjectImportResultDto result = new ProjectImportResultDto();
+        List<PendingRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        int rowNumber = 0;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of projects");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                rowNumber++;
+                if (rowNumber > MAX_ROWS) {
+                    chunk.add(PendingRow.failed(rowNumber, null, "Import is limited to " + MAX_ROWS + " rows"));
+                    break;
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    chunk.add(PendingRow.failed(rowNumber, null, "Expected a JSON object"));
+                } else {
+                    // Tree first, so a bad field only fails this row and the parser stays in sync
+                    JsonNode node = parser.readValueAsTree();
+                    try {
+                        chunk.add(new PendingRow(rowNumber, objectMapper.treeToValue(node, ProjectImportRowDto.class)));
+                    } catch (JsonProcessingException e) {
+                        chunk.add(PendingRow.failed(rowNumber, node.path("title").asText(null), "Invalid row: " + e.getOriginalMessage()));
+                    }
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    flush(chunk, result);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // Malformed JSON: keep every complete row before it, report where it broke
+            int brokenRow = result.getTotal() + chunk.size() + 1;
+            flush(chunk, result);
+            result.addFailed(brokenRow, null, "Malformed JSON: " + e.getOriginalMessage());
+            return result;
+        }
+        flush(chunk, result);
+        return result;
+    }
+
+    // First record is a header: title, description, status, membersRequired, deadline, skills (';' separated), leaderEmail, leaderId
+    public ProjectImportResultDto importCsv(InputStream in) throws IOException {
+        ProjectImportResultDto result = new ProjectImportResultDto();
+        List<PendingRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (CsvReader reader = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(columnKey(header.get(i)), i);
+            }
+            if (!columns.containsKey("title")) {
+                throw new IllegalArgumentException("CSV header must contain a 'title' column");
+            }
+
+            int rowNumber = 0;
+            List<String> record;
+            while ((record = reader.next()) != null) {
+                if (isBlank(record)) {
+                    continue;
+                }
+                rowNumber++;
+                if (rowNumber > MAX_ROWS) {
+                    chunk.add(PendingRow.failed(rowNumber, null, "Import is limited to " + MAX_ROWS + " rows"));
+                    break;
+                }
+                chunk.add(toRow(rowNumber, record, columns));
+                if (chunk.size() == CHUNK_SIZE) {
+                    flush(chunk, result);
+                }
+            }
+        }
+        flush(chunk, result);
+        return result;
+    }
+
+    // -------------------------------
+    // PRIVATE HELPERS
+    // -------------------------------
+
+    private void flush(List<PendingRow> chunk, ProjectImportResultDto result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> writeChunk(chunk));
+        } catch (RuntimeException e) {
+            // Whole chunk rolled back; rows that had passed validation share the failure
+            for (PendingRow row : chunk) {
+                if (row.error == null) {
+                    row.projectId = null;
+                    row.error = "Not imported, batch failed: " + e.getMessage();
+                }
+            }
+        }
+        for (PendingRow row : chunk) {
+            if (row.error == null) {
+                result.addCreated(row.rowNumber, row.title, row.projectId);
+            } else {
+                result.addFailed(row.rowNumber, row.title, row.error);
+            }
+        }
+        chunk.clear();
+    }
+
+    private void writeChunk(List<PendingRow> chunk) {
+        Map<String, User> leadersByEmail = new HashMap<>();
+        Map<Long, User> leadersById = new HashMap<>();
+        loadLeaders(chunk, leadersByEmail, leadersById);
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<PendingRow> valid = new ArrayList<>();
+        List<String> skillNames = new ArrayList<>();
+        for (PendingRow row : chunk) {
+            if (row.error == null) {
+                row.project = validate(row.dto, leadersByEmail, leadersById, now, row);
+            }
+            if (row.error == null) {
+                valid.add(row);
+                skillNames.addAll(row.dto.getSkills());
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        Map<String, Skill> skillsByName = new HashMap<>();
+        for (Skill skill : tagDictionary.resolveSkills(skillNames)) {
+            skillsByName.put(normalize(skill.getName()), skill);
+        }
+
+        List<Project> projects = new ArrayList<>(valid.size());
+        for (PendingRow row : valid) {
+            Set<Skill> skills = new HashSet<>();
+            for (String name : row.dto.getSkills()) {
+                Skill skill = name != null ? skillsByName.get(normalize(name)) : null;
+                if (skill != null) {
+                    skills.add(skill);
+                }
+            }
+            row.project.setSkills(skills);
+            projects.add(row.project);
+        }
+
+        long[] ids = projectImportJdbcRepository.insertProjects(projects);
+        List<long[]> projectSkills = new ArrayList<>();
+        List<long[]> leaders = new ArrayList<>(projects.size());
+        for (int i = 0; i < projects.size(); i++) {
+            Project project = projects.get(i);
+            project.setProjectId(ids[i]);
+            valid.get(i).projectId = ids[i];
+            for (Skill skill : project.getSkills()) {
+                projectSkills.add(new long[]{ids[i], skill.getSkillId()});
+            }
+            leaders.add(new long[]{ids[i], project.getCreator().getUserId()});
+        }
+        projectImportJdbcRepository.insertProjectSkills(projectSkills);
+        projectImportJdbcRepository.insertLeaders(leaders, now);
+
+        AfterCommit.run(() -> {
+            for (Project project : projects) {
+                projectSearchIndex.index(project);
+                projectRecommendationIndex.index(project, 1);
+                projectFacetIndex.index(project);
+            }
+        });
+        eventPublisher.publishEvent(ProjectCatalogChangedEvent.reset());
+    }
+
+    // One query per lookup kind for the whole chunk
+    private void loadLeaders(List<PendingRow> chunk, Map<String, User> byEmail, Map<Long, User> byId) {
+        Set<String> emails = new HashSet<>();
+        Set<Long> ids = new HashSet<>();
+        for (PendingRow row : chunk) {
+            if (row.error != null) {
+                continue;
+            }
+            if (row.dto.getLeaderId() != null) {
+                ids.add(row.dto.getLeaderId());
+            } else if (row.dto.getLeaderEmail() != null && !row.dto.getLeaderEmail().trim().isEmpty()) {
+                emails.add(row.dto.getLeaderEmail().trim());
+            }
+        }
+        if (!emails.isEmpty()) {
+            for (User user : userRepository.findByEmailIn(emails)) {
+                byEmail.put(normalize(user.getEmail()), user);
+            }
+        }
+        if (!ids.isEmpty()) {
+            for (User user : userRepository.findAllById(ids)) {
+                byId.put(user.getUserId(), user);
+            }
+        }
+    }
+
+    // Builds the project for a row, or records why it cannot be imported
+    private Project validate(ProjectImportRowDto dto, Map<String, User> leadersByEmail, Map<Long, User> leadersById,
+                             Timestamp now, PendingRow row) {
+        String title = dto.getTitle() != null ? dto.getTitle().trim() : "";
+        if (title.isEmpty()) {
+            row.error = "Title is required";
+            return null;
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            row.error = "Title must be at most " + MAX_TITLE_LENGTH + " characters";
+            return null;
+        }
+        String description = dto.getDescription() != null ? dto.getDescription().trim() : "";
+        if (description.length() > MAX_DESCRIPTION_LENGTH) {
+            row.error = "Description must be at most " + MAX_DESCRIPTION_LENGTH + " characters";
+            return null;
+        }
+
+        Project.Status status = Project.Status.OPEN;
+        if (dto.getStatus() != null && !dto.getStatus().trim().isEmpty()) {
+            try {
+                status = Project.Status.valueOf(dto.getStatus().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                row.error = "Invalid status: " + dto.getStatus();
+                return null;
+            }
+        }
+
+        int membersRequired = dto.getMembersRequired() != null ? dto.getMembersRequired() : 5;
+        if (membersRequired < 1) {
+            row.error = "membersRequired must be at least 1";
+            return null;
+        }
+
+        Date deadline = null;
+        if (dto.getDeadline() != null && !dto.getDeadline().trim().isEmpty()) {
+            try {
+                deadline = Date.valueOf(LocalDate.parse(dto.getDeadline().trim()));
+            } catch (DateTimeParseException e) {
+                row.error = "Invalid deadline (expected yyyy-MM-dd): " + dto.getDeadline();
+                return null;
+            }
+        }
+
+        if (dto.getSkills() == null) {
+            dto.setSkills(new ArrayList<>());
+        }
+        for (String skill : dto.getSkills()) {
+            if (skill != null && skill.trim().length() > MAX_SKILL_LENGTH) {
+                row.error = "Skill name must be at most " + MAX_SKILL_LENGTH + " characters: " + skill;
+                return null;
+            }
+        }
+
+        User leader;
+        if (dto.getLeaderId() != null) {
+            leader = leadersById.get(dto.getLeaderId());
+            if (leader == null) {
+                row.error = "Leader not found with ID: " + dto.getLeaderId();
+                return null;
+            }
+        } else if (dto.getLeaderEmail() != null && !dto.getLeaderEmail().trim().isEmpty()) {
+            leader = leadersByEmail.get(normalize(dto.getLeaderEmail()));
+            if (leader == null) {
+                row.error = "Leader not found with email: " + dto.getLeaderEmail().trim();
+                return null;
+            }
+        } else {
+            row.error = "leaderEmail or leaderId is required";
+            return null;
+        }
+
+        Project project = new Project();
+        project.setTitle(title);
+        project.setDescription(description);
+        project.setStatus(status);
+        project.setMembersRequired(membersRequired);
+        project.setDeadline(deadline);
+        project.setCreator(leader);
+        project.setCreatedAt(now);
+        return project;
+    }
+
+    private static PendingRow toRow(int rowNumber, List<String> record, Map<String, Integer> columns) {
+        ProjectImportRowDto dto = new ProjectImportRowDto();
+        dto.setTitle(field(record, columns, "title"));
+        dto.setDescription(field(record, columns, "description"));
+        dto.setStatus(field(record, columns, "status"));
+        dto.setDeadline(field(record, columns, "deadline"));
+        dto.setLeaderEmail(field(record, columns, "leaderemail"));
+
+        String skills = field(record, columns, "skills");
+        if (skills != null) {
+            for (String skill : skills.split("[;|]")) {
+                if (!skill.trim().isEmpty()) {
+                    dto.getSkills().add(skill.trim());
+                }
+            }
+        }
+        try {
+            String membersRequired = field(record, columns, "membersrequired");
+            if (membersRequired != null) {
+                dto.setMembersRequired(Integer.parseInt(membersRequired));
+            }
+            String leaderId = field(record, columns, "leaderid");
+            if (leaderId != null) {
+                dto.setLeaderId(Long.parseLong(leaderId));
+            }
+        } catch (NumberFormatException e) {
+            return PendingRow.failed(rowNumber, dto.getTitle(), "Invalid number: " + e.getMessage());
+        }
+        return new PendingRow(rowNumber, dto);
+    }
+
+    // Trimmed value of a column, null when the column is missing or empty
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // "Members Required", "members_required" and "membersRequired" all map to "membersrequired"
+    private static String columnKey(String header) {
+        return header.replace("\uFEFF", "").replaceAll("[\\s_-]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(List<String> record) {
+        for (String field : record) {
+            if (!field.trim().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class PendingRow {
+        final int rowNumber;
+        final ProjectImportRowDto dto;
+        final String title;
+        Project project;
+        Long projectId;
+        String error;
+
+        PendingRow(int rowNumber, ProjectImportRowDto dto) {
+            this.rowNumber = rowNumber;
+            this.dto = dto;
+            this.title = dto.getTitle();
+        }
+
+        private PendingRow(int rowNumber, String title, String error) {
+            this.rowNumber = rowNumber;
+            this.dto = null;
+            this.title = title;
+            this.error = error;
+        }
+
+        static PendingRow failed(int rowNumber, String title, String error) {
+            return new PendingRow(rowNumber, title, error);
+        }
+    }
+}
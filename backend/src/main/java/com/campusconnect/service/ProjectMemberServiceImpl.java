@@ -4,12 +4,15 @@ import com.campusconnect.dto.ProjectMemberDto;
 import com.campusconnect.entity.Project;
 import com.campusconnect.entity.ProjectMember;
 import com.campusconnect.entity.User;
+import com.campusconnect.event.ProjectCatalogChangedEvent;
 import com.campusconnect.exception.ResourceNotFoundException;
 import com.campusconnect.mapper.ProjectMemberMapper;
 import com.campusconnect.repository.ProjectMemberRepository;
 import com.campusconnect.repository.ProjectRepository;
 import com.campusconnect.repository.UserRepository;
+import com.campusconnect.util.AfterCommit;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
@@ -28,6 +31,12 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ProjectRecommendationIndex projectRecommendationIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public List<ProjectMemberDto> getMembersByProject(Long projectId) {
         Project project = projectRepository.findById(projectId)
@@ -72,6 +81,7 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
         member.setRole(memberRole);
 
         ProjectMember saved = projectMemberRepository.save(member);
+        refreshMemberCount(projectId);
         return ProjectMemberMapper.toDto(saved);
     }
 
@@ -92,5 +102,13 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
                 .orElseThrow(() -> new ResourceNotFoundException("Member not found in this project."));
 
         projectMemberRepository.delete(member);
+        refreshMemberCount(projectId);
+    }
+
+    // Keep open-capacity used by recommendations and cached catalog member IDs in sync with membership
+    private void refreshMemberCount(Long projectId) {
+        int memberCount = (int) projectMemberRepository.countByProject_ProjectId(projectId);
+        AfterCommit.run(() -> projectRecommendationIndex.updateMemberCount(projectId, memberCount));
+        eventPublisher.publishEvent(ProjectCatalogChangedEvent.membersChanged(projectId));
     }
 }
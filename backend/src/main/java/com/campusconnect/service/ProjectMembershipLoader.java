@@ -0,0 +1,66 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.ProjectDto;
+import com.campusconnect.repository.ProjectMemberRepository;
+import com.campusconnect.util.LongObjectHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Loads project member IDs for many projects at once.
+ * One (projectId, userId) query per chunk of IDs instead of one findByProject() per project.
+ */
+@Component
+public class ProjectMembershipLoader {
+
+    // Keep IN lists well below driver/packet limits
+    static final int CHUNK_SIZE = 1000;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    // Member IDs keyed by project ID; projects without members are absent
+    public LongObjectHashMap<Set<Long>> loadMemberIds(Collection<Long> projectIds) {
+        LongObjectHashMap<Set<Long>> membersByProject = new LongObjectHashMap<>(projectIds.size());
+        if (projectIds.isEmpty()) {
+            return membersByProject;
+        }
+
+        List<Long> ids = new ArrayList<>(new HashSet<>(projectIds));
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            for (Object[] row : projectMemberRepository.findMemberPairsByProjectIds(chunk)) {
+                long projectId = ((Number) row[0]).longValue();
+                Long userId = ((Number) row[1]).longValue();
+                membersByProject.computeIfAbsent(projectId, k -> new HashSet<>()).add(userId);
+            }
+        }
+        return membersByProject;
+    }
+
+    // Fill memberIds on every DTO in the list with a single batched lookup
+    public void fillMemberIds(List<ProjectDto> dtos) {
+        List<Long> projectIds = new ArrayList<>(dtos.size());
+        for (ProjectDto dto : dtos) {
+            if (dto.getProjectId() != null) {
+                projectIds.add(dto.getProjectId());
+            }
+        }
+
+        LongObjectHashMap<Set<Long>> membersByProject = loadMemberIds(projectIds);
+        for (ProjectDto dto : dtos) {
+            Set<Long> memberIds = dto.getProjectId() != null ? membersByProject.get(dto.getProjectId()) : null;
+            dto.setMemberIds(memberIds != null ? memberIds : new HashSet<>());
+        }
+    }
+
+    public void fillMemberIds(ProjectDto dto) {
+        fillMemberIds(List.of(dto));
+    }
+}
@@ -0,0 +1,246 @@
+package com.campusconnect.service;
+
+import com.campusconnect.entity.Project;
+import com.campusconnect.entity.Skill;
+import com.campusconnect.repository.ProjectMemberRepository;
+import com.campusconnect.repository.ProjectRepository;
+import com.campusconnect.util.LongObjectHashMap;
+import com.campusconnect.util.ReplayingLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Keeps a compact skill bitset per OPEN project so "recommended for me" can be scored
+ * with a few AND + bitCount operations per project instead of loading every project.
+ * Skills get dense bit positions in first-seen order; interests match skills by name.
+ */
+@Component
+public class ProjectRecommendationIndex {
+
+    static final float SKILL_WEIGHT = 3.0f;
+    static final float INTEREST_WEIGHT = 1.0f;
+    static final float CAPACITY_WEIGHT = 1.0f;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    private final ReplayingLock lock = new ReplayingLock();
+    private final LongObjectHashMap<Candidate> candidates = new LongObjectHashMap<>();
+    private final LongObjectHashMap<Integer> bitBySkillId = new LongObjectHashMap<>();
+    private final Map<String, Integer> bitBySkillName = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, Long> memberCounts = new HashMap<>();
+        lock.rebuild(() -> {
+            List<Project> projects = projectRepository.findAllWithSkills();
+            for (Object[] row : projectMemberRepository.countMembersGroupedByProject()) {
+                memberCounts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+            }
+            return projects;
+        }, projects -> {
+            candidates.clear();
+            for (Project project : projects) {
+                Long count = memberCounts.get(project.getProjectId());
+                putLocked(project, count != null ? count.intValue() : 0);
+            }
+        });
+    }
+
+    // Add or refresh a project; non-OPEN projects are dropped
+    public void index(Project project, int memberCount) {
+        if (project == null || project.getProjectId() == null) {
+            return;
+        }
+        lock.write(() -> {
+            candidates.remove(project.getProjectId());
+            putLocked(project, memberCount);
+        });
+    }
+
+    public void updateMemberCount(Long projectId, int memberCount) {
+        lock.write(() -> {
+            Candidate candidate = candidates.get(projectId);
+            if (candidate != null) {
+                candidate.memberCount = memberCount;
+            }
+        });
+    }
+
+    public void remove(Long projectId) {
+        if (projectId == null) {
+            return;
+        }
+        lock.write(() -> candidates.remove(projectId));
+    }
+
+    /**
+     * Top-K project IDs for a student, best first.
+     * Only projects with at least one matching skill/interest and an open slot qualify.
+     */
+    public List<Long> recommend(Collection<Long> skillIds, Collection<String> interestNames,
+                                Set<Long> excludedProjectIds, Long userId, int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        long now = System.currentTimeMillis();
+
+        lock.readLock().lock();
+        try {
+            long[] skillVector = new long[0];
+            for (Long skillId : skillIds) {
+                Integer bit = skillId != null ? bitBySkillId.get(skillId) : null;
+                if (bit != null) {
+                    skillVector = setBit(skillVector, bit);
+                }
+            }
+            long[] interestVector = new long[0];
+            for (String name : interestNames) {
+                Integer bit = name != null ? bitBySkillName.get(normalize(name)) : null;
+                if (bit != null) {
+                    interestVector = setBit(interestVector, bit);
+                }
+            }
+            if (skillVector.length == 0 && interestVector.length == 0) {
+                return new ArrayList<>();
+            }
+
+            // Min-heap of the best `limit` candidates seen so far
+            PriorityQueue<ScoredProject> heap = new PriorityQueue<>(limit + 1);
+            final long[] userSkills = skillVector;
+            final long[] userInterests = interestVector;
+            candidates.forEach((projectId, candidate) -> {
+                if (excludedProjectIds.contains(projectId) || (userId != null && candidate.creatorId == userId)) {
+                    return;
+                }
+                int openSlots = candidate.membersRequired - candidate.memberCount;
+                if (openSlots <= 0 || (candidate.deadlineMillis > 0 && candidate.deadlineMillis < now)) {
+                    return;
+                }
+                int skillOverlap = overlap(userSkills, candidate.skills);
+                int interestOverlap = overlap(userInterests, candidate.skills);
+                if (skillOverlap == 0 && interestOverlap == 0) {
+                    return;
+                }
+                float score = SKILL_WEIGHT * skillOverlap
+                        + INTEREST_WEIGHT * interestOverlap
+                        + CAPACITY_WEIGHT * openSlots / Math.max(candidate.membersRequired, 1);
+                heap.offer(new ScoredProject(projectId, score, candidate.createdAtMillis));
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            });
+
+            Long[] ranked = new Long[heap.size()];
+            for (int i = ranked.length - 1; i >= 0; i--) {
+                ranked[i] = heap.poll().projectId;
+            }
+            return new ArrayList<>(Arrays.asList(ranked));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -------------------------------
+    // PRIVATE HELPERS (write lock held)
+    // -------------------------------
+
+    private void putLocked(Project project, int memberCount) {
+        if (project.getStatus() != null && project.getStatus() != Project.Status.OPEN) {
+            return;
+        }
+        long[] skills = new long[0];
+        // Callers pass projects with skills loaded (fetch join, or initialized before commit)
+        if (project.getSkills() != null) {
+            for (Skill skill : project.getSkills()) {
+                if (skill != null && skill.getSkillId() != null) {
+                    skills = setBit(skills, bitFor(skill));
+                }
+            }
+        }
+
+        Candidate candidate = new Candidate();
+        candidate.skills = skills;
+        candidate.membersRequired = project.getMembersRequired() != null ? project.getMembersRequired() : 5;
+        candidate.memberCount = memberCount;
+        candidate.creatorId = project.getCreator() != null && project.getCreator().getUserId() != null
+                ? project.getCreator().getUserId() : -1L;
+        candidate.deadlineMillis = project.getDeadline() != null ? project.getDeadline().getTime() : 0L;
+        candidate.createdAtMillis = project.getCreatedAt() != null ? project.getCreatedAt().getTime() : 0L;
+        candidates.put(project.getProjectId(), candidate);
+    }
+
+    private int bitFor(Skill skill) {
+        Integer bit = bitBySkillId.get(skill.getSkillId());
+        if (bit == null) {
+            bit = bitBySkillId.size();
+            bitBySkillId.put(skill.getSkillId(), bit);
+            if (skill.getName() != null) {
+                bitBySkillName.putIfAbsent(normalize(skill.getName()), bit);
+            }
+        }
+        return bit;
+    }
+
+    private static long[] setBit(long[] words, int bit) {
+        int word = bit >>> 6;
+        long[] result = word < words.length ? words : Arrays.copyOf(words, word + 1);
+        result[word] |= 1L << (bit & 63);
+        return result;
+    }
+
+    private static int overlap(long[] a, long[] b) {
+        int count = 0;
+        for (int i = 0, n = Math.min(a.length, b.length); i < n; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Candidate {
+        long[] skills;
+        int membersRequired;
+        int memberCount;
+        long creatorId;
+        long deadlineMillis;
+        long createdAtMillis;
+    }
+
+    private static final class ScoredProject implements Comparable<ScoredProject> {
+        final long projectId;
+        final float score;
+        final long createdAtMillis;
+
+        ScoredProject(long projectId, float score, long createdAtMillis) {
+            this.projectId = projectId;
+            this.score = score;
+            this.createdAtMillis = createdAtMillis;
+        }
+
+        // Lower score (then older project) is "smaller" and evicted first
+        @Override
+        public int compareTo(ScoredProject other) {
+            int byScore = Float.compare(score, other.score);
+            return byScore != 0 ? byScore : Long.compare(createdAtMillis, other.createdAtMillis);
+        }
+    }
+}
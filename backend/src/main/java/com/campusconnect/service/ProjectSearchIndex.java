@@ -0,0 +1,371 @@
+package com.campusconnect.service;
+
+import com.campusconnect.entity.Project;
+import com.campusconnect.entity.Skill;
+import com.campusconnect.repository.ProjectRepository;
+import com.campusconnect.util.LongObjectHashMap;
+import com.campusconnect.util.ReplayingLock;
+import com.campusconnect.util.TextTokenizer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * In-memory inverted index over project title, description and skill names.
+ * Replaces the LIKE '%q%' scan used by searchProjects with BM25-ranked term lookups.
+ * Kept up to date by ProjectServiceImpl on create/update/delete and rebuilt at startup;
+ * writes that arrive while a rebuild is loading are replayed on top of its snapshot.
+ */
+@Component
+public class ProjectSearchIndex {
+
+    // BM25 parameters
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // Title and skill tokens count more than description tokens
+    private static final int TITLE_WEIGHT = 2;
+    private static final int SKILL_WEIGHT = 2;
+
+    // Last query term is matched as a prefix (search-as-you-type); cap how many terms it may expand to
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final float PREFIX_MATCH_BOOST = 0.5f;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private final ReplayingLock lock = new ReplayingLock();
+    private final TreeMap<String, PostingList> postings = new TreeMap<>();
+    private final LongObjectHashMap<Doc> docsByProject = new LongObjectHashMap<>();
+
+    // Per-document data addressed by a dense int ordinal
+    private long[] projectIdByOrdinal = new long[1024];
+    private int[] lengthByOrdinal = new int[1024];
+    private int[] freeOrdinals = new int[64];
+    private int freeCount;
+    private int nextOrdinal;
+    private int docCount;
+    private long totalLength;
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.rebuild(() -> {
+            Map<Long, Map<String, Integer>> termsByProject = new LinkedHashMap<>();
+            for (Project project : projectRepository.findAllWithSkills()) {
+                termsByProject.put(project.getProjectId(), termFrequencies(project));
+            }
+            return termsByProject;
+        }, termsByProject -> {
+            postings.clear();
+            docsByProject.clear();
+            freeCount = 0;
+            nextOrdinal = 0;
+            docCount = 0;
+            totalLength = 0;
+            termsByProject.forEach(this::addLocked);
+            ready = true;
+        });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Add or replace a project's entry
+    public void index(Project project) {
+        if (project == null || project.getProjectId() == null) {
+            return;
+        }
+        long projectId = project.getProjectId();
+        Map<String, Integer> terms = termFrequencies(project);
+        lock.write(() -> {
+            removeLocked(projectId);
+            addLocked(projectId, terms);
+        });
+    }
+
+    public void remove(Long projectId) {
+        if (projectId == null) {
+            return;
+        }
+        lock.write(() -> removeLocked(projectId));
+    }
+
+    // Project IDs ranked by BM25 score, best first
+    public List<Long> search(String query, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(TextTokenizer.tokenize(query)));
+        if (tokens.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (docCount == 0) {
+                return new ArrayList<>();
+            }
+            ScoreAccumulator scores = scoreLocked(tokens);
+
+            // Bounded min-heap keeps the top `limit` accumulator entries
+            PriorityQueue<Integer> heap = new PriorityQueue<>(Math.min(limit, Math.max(scores.size, 1)) + 1,
+                    (a, b) -> compareHits(a, b, scores));
+            for (int i = 0; i < scores.size; i++) {
+                heap.offer(i);
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+
+            Long[] ranked = new Long[heap.size()];
+            for (int i = ranked.length - 1; i >= 0; i--) {
+                ranked[i] = projectIdByOrdinal[scores.ordinals[heap.poll()]];
+            }
+            return new ArrayList<>(Arrays.asList(ranked));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Every project search() would consider for the query, unranked and without a limit
+    public List<Long> matches(String query) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(TextTokenizer.tokenize(query)));
+        if (tokens.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (docCount == 0) {
+                return new ArrayList<>();
+            }
+            ScoreAccumulator scores = scoreLocked(tokens);
+            List<Long> projectIds = new ArrayList<>(scores.size);
+            for (int i = 0; i < scores.size; i++) {
+                projectIds.add(projectIdByOrdinal[scores.ordinals[i]]);
+            }
+            return projectIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -------------------------------
+    // PRIVATE HELPERS (callers hold the lock where noted)
+    // -------------------------------
+
+    // BM25 scores for every matching ordinal (read lock held)
+    private ScoreAccumulator scoreLocked(List<String> tokens) {
+        List<PostingList> lists = new ArrayList<>();
+        List<Float> boosts = new ArrayList<>();
+        for (int t = 0; t < tokens.size(); t++) {
+            String token = tokens.get(t);
+            boolean last = t == tokens.size() - 1;
+
+            PostingList exact = postings.get(token);
+            if (exact != null) {
+                lists.add(exact);
+                boosts.add(1.0f);
+            }
+            if (last) {
+                int expansions = 0;
+                for (Map.Entry<String, PostingList> entry
+                        : postings.subMap(token, false, token + Character.MAX_VALUE, false).entrySet()) {
+                    if (++expansions > MAX_PREFIX_EXPANSIONS) {
+                        break;
+                    }
+                    lists.add(entry.getValue());
+                    boosts.add(PREFIX_MATCH_BOOST);
+                }
+            }
+        }
+
+        // Sized by the postings actually read, never by the catalog
+        int maxMatches = 0;
+        for (PostingList list : lists) {
+            maxMatches = Math.min(maxMatches + list.size, docCount);
+        }
+        ScoreAccumulator scores = new ScoreAccumulator(maxMatches);
+        float avgLength = (float) totalLength / docCount;
+        for (int i = 0; i < lists.size(); i++) {
+            accumulate(lists.get(i), boosts.get(i), avgLength, scores);
+        }
+        return scores;
+    }
+
+    private void accumulate(PostingList list, float boost, float avgLength, ScoreAccumulator scores) {
+        float idf = (float) Math.log(1 + (docCount - list.size + 0.5) / (list.size + 0.5));
+        for (int i = 0; i < list.size; i++) {
+            int doc = list.docs[i];
+            int tf = list.freqs[i];
+            float norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * lengthByOrdinal[doc] / avgLength));
+            scores.add(doc, boost * idf * norm);
+        }
+    }
+
+    // Compares accumulator entries, not ordinals
+    private int compareHits(int a, int b, ScoreAccumulator scores) {
+        int byScore = Float.compare(scores.scores[a], scores.scores[b]);
+        if (byScore != 0) {
+            return byScore;
+        }
+        // Ties: newer (higher ID) projects rank first
+        return Long.compare(projectIdByOrdinal[scores.ordinals[a]], projectIdByOrdinal[scores.ordinals[b]]);
+    }
+
+    private Map<String, Integer> termFrequencies(Project project) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTokens(terms, project.getTitle(), TITLE_WEIGHT);
+        addTokens(terms, project.getDescription(), 1);
+        // Callers pass projects with skills loaded (fetch join, or initialized before commit)
+        if (project.getSkills() != null) {
+            for (Skill skill : project.getSkills()) {
+                if (skill != null) {
+                    addTokens(terms, skill.getName(), SKILL_WEIGHT);
+                }
+            }
+        }
+        return terms;
+    }
+
+    private static void addTokens(Map<String, Integer> terms, String text, int weight) {
+        for (String token : TextTokenizer.tokenize(text)) {
+            terms.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private void addLocked(long projectId, Map<String, Integer> terms) {
+        int ordinal = freeCount > 0 ? freeOrdinals[--freeCount] : nextOrdinal++;
+        if (ordinal >= projectIdByOrdinal.length) {
+            int capacity = projectIdByOrdinal.length * 2;
+            projectIdByOrdinal = Arrays.copyOf(projectIdByOrdinal, capacity);
+            lengthByOrdinal = Arrays.copyOf(lengthByOrdinal, capacity);
+        }
+
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : terms.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), k -> new PostingList()).add(ordinal, entry.getValue());
+            length += entry.getValue();
+        }
+
+        projectIdByOrdinal[ordinal] = projectId;
+        lengthByOrdinal[ordinal] = length;
+        docsByProject.put(projectId, new Doc(ordinal, terms.keySet().toArray(new String[0])));
+        docCount++;
+        totalLength += length;
+    }
+
+    private void removeLocked(long projectId) {
+        Doc doc = docsByProject.remove(projectId);
+        if (doc == null) {
+            return;
+        }
+        for (String term : doc.terms) {
+            PostingList list = postings.get(term);
+            if (list != null) {
+                list.remove(doc.ordinal);
+                if (list.size == 0) {
+                    postings.remove(term);
+                }
+            }
+        }
+        docCount--;
+        totalLength -= lengthByOrdinal[doc.ordinal];
+        lengthByOrdinal[doc.ordinal] = 0;
+        if (freeCount == freeOrdinals.length) {
+            freeOrdinals = Arrays.copyOf(freeOrdinals, freeOrdinals.length * 2);
+        }
+        freeOrdinals[freeCount++] = doc.ordinal;
+    }
+
+    private static final class Doc {
+        final int ordinal;
+        final String[] terms;
+
+        Doc(int ordinal, String[] terms) {
+            this.ordinal = ordinal;
+            this.terms = terms;
+        }
+    }
+
+    // Open-addressing ordinal -> score map; entries are kept in first-seen order in parallel arrays
+    private static final class ScoreAccumulator {
+        private final int[] slots; // entry index + 1, 0 = empty
+        private final int mask;
+        final int[] ordinals;
+        final float[] scores;
+        int size;
+
+        ScoreAccumulator(int maxEntries) {
+            int capacity = Integer.highestOneBit(Math.max(maxEntries, 1)) << 2; // load factor <= 0.5
+            slots = new int[capacity];
+            mask = capacity - 1;
+            ordinals = new int[maxEntries];
+            scores = new float[maxEntries];
+        }
+
+        void add(int ordinal, float score) {
+            int hash = ordinal * 0x9E3779B9;
+            int slot = (hash ^ hash >>> 16) & mask;
+            while (slots[slot] != 0) {
+                int entry = slots[slot] - 1;
+                if (ordinals[entry] == ordinal) {
+                    scores[entry] += score;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            ordinals[size] = ordinal;
+            scores[size] = score;
+            slots[slot] = ++size;
+        }
+    }
+
+    // Unsorted parallel arrays of (doc ordinal, term frequency)
+    private static final class PostingList {
+        int[] docs = new int[4];
+        int[] freqs = new int[4];
+        int size;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        void remove(int doc) {
+            for (int i = 0; i < size; i++) {
+                if (docs[i] == doc) {
+                    size--;
+                    docs[i] = docs[size];
+                    freqs[i] = freqs[size];
+                    return;
+                }
+            }
+        }
+    }
+}
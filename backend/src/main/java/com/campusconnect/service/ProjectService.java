@@ -1,15 +1,22 @@
 package com.campusconnect.service;
 
 import com.campusconnect.dto.ProjectDto;
+import com.campusconnect.dto.ProjectFacetsDto;
+import com.campusconnect.dto.ProjectPageDto;
+import com.campusconnect.dto.ProjectSearchResultDto;
 import java.util.List;
 
 public interface ProjectService {
     ProjectDto createProject(ProjectDto projectDto, Long creatorId);
     List<ProjectDto> getAllProjects();
+    ProjectPageDto getProjectPage(String cursor, Integer limit, String status, String skill);
     ProjectDto getProjectById(Long id);
     ProjectDto updateProject(Long id, ProjectDto projectDto, Long studentId);
     void deleteProject(Long id, Long studentId);
     void joinProject(Long projectId, Long studentId);
     List<ProjectDto> getProjectsByStudent(Long studentId);
     List<ProjectDto> searchProjects(String query);
+    ProjectSearchResultDto searchProjectsWithFacets(String query);
+    ProjectFacetsDto getProjectFacets();
+    List<ProjectDto> getRecommendedProjects(Long studentId, Integer limit);
 }
@@ -1,21 +1,32 @@
 package com.campusconnect.service;
 
 import com.campusconnect.dto.ProjectDto;
+import com.campusconnect.dto.ProjectFacetsDto;
+import com.campusconnect.dto.ProjectPageDto;
+import com.campusconnect.dto.ProjectSearchResultDto;
 import com.campusconnect.dto.SkillDto;
 import com.campusconnect.entity.Project;
 import com.campusconnect.entity.ProjectMember;
 import com.campusconnect.entity.Skill;
 import com.campusconnect.entity.User;
+import com.campusconnect.event.ProjectCatalogChangedEvent;
 import com.campusconnect.exception.ResourceNotFoundException;
 import com.campusconnect.repository.ProjectRepository;
 import com.campusconnect.repository.ProjectMemberRepository;
 import com.campusconnect.repository.SkillRepository;
 import com.campusconnect.repository.UserRepository;
 import com.campusconnect.mapper.ProjectMapper;
+import com.campusconnect.util.AfterCommit;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.stream.Collectors;
@@ -24,6 +35,12 @@ import java.util.ArrayList;
 @Service
 public class ProjectServiceImpl implements ProjectService {
 
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int SEARCH_RESULT_LIMIT = 200;
+    static final int DEFAULT_RECOMMENDATIONS = 10;
+    static final int MAX_RECOMMENDATIONS = 50;
+
     @Autowired
     private ProjectRepository projectRepository;
 
@@ -39,6 +56,30 @@ public class ProjectServiceImpl implements ProjectService {
     @Autowired
     private ProjectMapper projectMapper;
 
+    @Autowired
+    private TagDictionary tagDictionary;
+
+    @Autowired
+    private ProjectMembershipLoader projectMembershipLoader;
+
+    @Autowired
+    private ProjectSkillLoader projectSkillLoader;
+
+    @Autowired
+    private ProjectSearchIndex projectSearchIndex;
+
+    @Autowired
+    private ProjectRecommendationIndex projectRecommendationIndex;
+
+    @Autowired
+    private ProjectFacetIndex projectFacetIndex;
+
+    @Autowired
+    private ProjectCatalogCache projectCatalogCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public ProjectDto createProject(ProjectDto projectDto, Long creatorId) {
         User creator = userRepository.findById(creatorId)
@@ -68,21 +109,13 @@ public class ProjectServiceImpl implements ProjectService {
             project.setDeadline(projectDto.getDeadline());
         }
 
-        // Process and set skills
+        // Process and set skills (resolved in bulk through the shared dictionary)
         Set<Skill> skills = new HashSet<>();
         if (projectDto.getSkills() != null && !projectDto.getSkills().isEmpty()) {
-            for (SkillDto skillDto : projectDto.getSkills()) {
-                if (skillDto.getName() != null && !skillDto.getName().trim().isEmpty()) {
-                    final String skillName = skillDto.getName().trim();
-                    Skill skill = skillRepository.findByName(skillName)
-                            .orElseGet(() -> {
-                                Skill newSkill = new Skill();
-                                newSkill.setName(skillName);
-                                return skillRepository.save(newSkill);
-                            });
-                    skills.add(skill);
-                }
-            }
+            List<String> skillNames = projectDto.getSkills().stream()
+                    .map(SkillDto::getName)
+                    .collect(Collectors.toList());
+            skills = new HashSet<>(tagDictionary.resolveSkills(skillNames));
         }
         project.setSkills(skills);
 
@@ -94,6 +127,13 @@ public class ProjectServiceImpl implements ProjectService {
         creatorMember.setUser(creator);
         creatorMember.setRole(ProjectMember.Role.LEADER);
         projectMemberRepository.save(creatorMember);
+
+        AfterCommit.run(() -> {
+            projectSearchIndex.index(saved);
+            projectRecommendationIndex.index(saved, 1);
+            projectFacetIndex.index(saved);
+        });
+        eventPublisher.publishEvent(ProjectCatalogChangedEvent.created(saved.getProjectId()));
         
         // Trigger lazy loading for skills
         if (saved.getSkills() != null) {
@@ -102,11 +142,7 @@ public class ProjectServiceImpl implements ProjectService {
         
         // Get member IDs from ProjectMemberRepository
         ProjectDto dto = projectMapper.toDto(saved);
-        List<ProjectMember> members = projectMemberRepository.findByProject(saved);
-        Set<Long> memberIds = members.stream()
-            .map(m -> m.getUser().getUserId())
-            .collect(Collectors.toSet());
-        dto.setMemberIds(memberIds);
+        projectMembershipLoader.fillMemberIds(dto);
         
         return dto;
     }
@@ -115,65 +151,8 @@ public class ProjectServiceImpl implements ProjectService {
     @Transactional(readOnly = true)
     public List<ProjectDto> getAllProjects() {
         try {
-            // Fetch all projects - the ProjectStatusConverter will handle case conversion
-            List<Project> allProjects = projectRepository.findAll();
-            
-            // Initialize skills and members for each project
-            for (Project project : allProjects) {
-                // Initialize skills if null
-                if (project.getSkills() == null) {
-                    project.setSkills(new HashSet<>());
-                } else {
-                    // Trigger lazy loading by accessing the collection
-                    try {
-                        project.getSkills().size();
-                    } catch (Exception e) {
-                        // If lazy loading fails, set empty set
-                        project.setSkills(new HashSet<>());
-                    }
-                }
-                
-                // Initialize members as empty set
-                project.setMembers(new HashSet<>());
-            }
-            
-            // Map to DTOs and populate member IDs from ProjectMemberRepository
-            List<ProjectDto> dtos = new ArrayList<>();
-            for (Project project : allProjects) {
-                try {
-                    // Filter out projects that couldn't be loaded properly
-                    project.getProjectId();
-                    project.getStatus();
-                    
-                    ProjectDto dto = projectMapper.toDto(project);
-                    
-                    // Get member IDs from ProjectMemberRepository
-                    List<ProjectMember> members = projectMemberRepository.findByProject(project);
-                    Set<Long> memberIds = members.stream()
-                        .map(m -> m.getUser().getUserId())
-                        .collect(Collectors.toSet());
-                    dto.setMemberIds(memberIds);
-                    
-                    dtos.add(dto);
-                } catch (Exception e) {
-                    System.err.println("Error mapping project " + project.getProjectId() + ": " + e.getMessage());
-                    e.printStackTrace();
-                    // Return a minimal DTO to avoid breaking the entire response
-                    ProjectDto dto = new ProjectDto();
-                    dto.setProjectId(project.getProjectId());
-                    dto.setTitle(project.getTitle() != null ? project.getTitle() : "Untitled");
-                    dto.setDescription(project.getDescription() != null ? project.getDescription() : "");
-                    try {
-                        dto.setStatus(project.getStatus() != null ? project.getStatus().name() : "OPEN");
-                    } catch (Exception statusEx) {
-                        dto.setStatus("OPEN");
-                    }
-                    dto.setSkills(new HashSet<>());
-                    dto.setMemberIds(new HashSet<>());
-                    dtos.add(dto);
-                }
-            }
-            return dtos;
+            // Served from the catalog cache; failed loads are not cached
+            return projectCatalogCache.getAllProjects(this::loadAllProjects);
         } catch (Exception e) {
             System.err.println("Error fetching all projects: " + e.getMessage());
             e.printStackTrace();
@@ -182,18 +161,85 @@ public class ProjectServiceImpl implements ProjectService {
         }
     }
 
+    private List<ProjectDto> loadAllProjects() {
+        // Projection query + one batched query each for skills and member IDs
+        List<ProjectDto> dtos = projectRepository.findAllDtos();
+        projectSkillLoader.fillSkills(dtos);
+        projectMembershipLoader.fillMemberIds(dtos);
+        return dtos;
+    }
+
     @Override
+    @Transactional(readOnly = true)
+    public ProjectPageDto getProjectPage(String cursor, Integer limit, String status, String skill) {
+        int pageSize = (limit == null || limit <= 0) ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+
+        Project.Status statusFilter = null;
+        if (status != null && !status.trim().isEmpty() && !status.equalsIgnoreCase("all")) {
+            try {
+                statusFilter = Project.Status.valueOf(status.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid status: " + status);
+            }
+        }
+        String skillFilter = (skill != null && !skill.trim().isEmpty()) ? skill.trim().toLowerCase() : null;
+        String position = (cursor == null || cursor.trim().isEmpty()) ? null : cursor.trim();
+
+        final Project.Status statusKey = statusFilter;
+        return projectCatalogCache.getProjectPage(position, pageSize, statusKey, skillFilter,
+                () -> loadProjectPage(position, pageSize, statusKey, skillFilter));
+    }
+
+    private ProjectPageDto loadProjectPage(String cursor, int pageSize, Project.Status statusFilter, String skillFilter) {
+        // Fetch one extra row to know whether another page exists
+        PageRequest window = PageRequest.of(0, pageSize + 1);
+        List<ProjectDto> rows;
+        if (cursor == null) {
+            rows = projectRepository.findFirstPage(statusFilter, skillFilter, window);
+        } else {
+            long[] position = decodeCursor(cursor);
+            rows = projectRepository.findPageAfter(statusFilter, skillFilter,
+                    new Timestamp(position[0]), position[1], window);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ProjectDto> dtos = new ArrayList<>(hasMore ? rows.subList(0, pageSize) : rows);
+        projectSkillLoader.fillSkills(dtos);
+        projectMembershipLoader.fillMemberIds(dtos);
+
+        String nextCursor = null;
+        if (hasMore) {
+            ProjectDto last = dtos.get(dtos.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getProjectId());
+        }
+        return new ProjectPageDto(dtos, nextCursor, pageSize);
+    }
+
+    // Cursor = base64url("createdAtMillis:projectId"); opaque to clients
+    static String encodeCursor(Timestamp createdAt, Long projectId) {
+        String raw = createdAt.getTime() + ":" + projectId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static long[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            return new long[]{Long.parseLong(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1))};
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public ProjectDto getProjectById(Long id) {
-        Project project = projectRepository.findById(id)
+        ProjectDto dto = projectRepository.findDtoById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + id));
-        ProjectDto dto = projectMapper.toDto(project);
+        projectSkillLoader.fillSkills(List.of(dto));
         
         // Get member IDs from ProjectMemberRepository
-        List<ProjectMember> members = projectMemberRepository.findByProject(project);
-        Set<Long> memberIds = members.stream()
-            .map(m -> m.getUser().getUserId())
-            .collect(Collectors.toSet());
-        dto.setMemberIds(memberIds);
+        projectMembershipLoader.fillMemberIds(dto);
         
         return dto;
     }
@@ -212,15 +258,45 @@ public class ProjectServiceImpl implements ProjectService {
 
         project.getMembers().add(student);
         projectRepository.save(project);
+        int memberCount = (int) projectMemberRepository.countByProject_ProjectId(projectId);
+        AfterCommit.run(() -> projectRecommendationIndex.updateMemberCount(projectId, memberCount));
+        eventPublisher.publishEvent(ProjectCatalogChangedEvent.membersChanged(projectId));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProjectDto> getProjectsByStudent(Long studentId) {
-        return projectRepository.findAll().stream()
-                .filter(p -> p.getMembers().stream().anyMatch(m -> m.getUserId().equals(studentId)))
-                .map(projectMapper::toDto)
-                .collect(Collectors.toList());
+        // Indexed lookup on project_members.user_id; cost follows the student's own project count
+        List<ProjectDto> dtos = projectRepository.findDtosByMemberUserId(studentId);
+        projectSkillLoader.fillSkills(dtos);
+        projectMembershipLoader.fillMemberIds(dtos);
+        return dtos;
+    }
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectDto> getRecommendedProjects(Long studentId, Integer limit) {
+        User student = userRepository.findById(studentId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + studentId));
+        int k = (limit == null || limit <= 0) ? DEFAULT_RECOMMENDATIONS : Math.min(limit, MAX_RECOMMENDATIONS);
+
+        List<Long> skillIds = new ArrayList<>();
+        if (student.getSkills() != null) {
+            student.getSkills().forEach(skill -> skillIds.add(skill.getSkillId()));
+        }
+        List<String> interestNames = new ArrayList<>();
+        if (student.getInterests() != null) {
+            student.getInterests().forEach(interest -> interestNames.add(interest.getName()));
+        }
+        Set<Long> joined = new HashSet<>(projectMemberRepository.findProjectIdsByUserId(studentId));
+
+        List<Long> rankedIds = projectRecommendationIndex.recommend(skillIds, interestNames, joined, studentId, k);
+        if (rankedIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return loadInRankOrder(rankedIds);
     }
+
     @Override
     public ProjectDto updateProject(Long id, ProjectDto projectDto, Long studentId) {
         Project project = projectRepository.findById(id)
@@ -247,7 +323,19 @@ public class ProjectServiceImpl implements ProjectService {
             project.setDeadline(projectDto.getDeadline());
         }
         
-        return projectMapper.toDto(projectRepository.save(project));
+        Project saved = projectRepository.save(project);
+        int memberCount = (int) projectMemberRepository.countByProject_ProjectId(id);
+        // The indexes read skill names; load them here rather than lazily after commit
+        if (saved.getSkills() != null) {
+            saved.getSkills().size();
+        }
+        AfterCommit.run(() -> {
+            projectSearchIndex.index(saved);
+            projectRecommendationIndex.index(saved, memberCount);
+            projectFacetIndex.index(saved);
+        });
+        eventPublisher.publishEvent(ProjectCatalogChangedEvent.updated(id));
+        return projectMapper.toDto(saved);
     }
 
     @Override
@@ -266,6 +354,12 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         projectRepository.delete(project);
+        AfterCommit.run(() -> {
+            projectSearchIndex.remove(id);
+            projectRecommendationIndex.remove(id);
+            projectFacetIndex.remove(id);
+        });
+        eventPublisher.publishEvent(ProjectCatalogChangedEvent.deleted(id));
     }
 
     @Override
@@ -276,37 +370,59 @@ public class ProjectServiceImpl implements ProjectService {
         }
         
         String searchQuery = query.trim();
-        List<Project> projects = projectRepository.findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
-            searchQuery, searchQuery
-        );
-        
-        // Initialize skills and members for each project
-        for (Project project : projects) {
-            if (project.getSkills() == null) {
-                project.setSkills(new HashSet<>());
-            } else {
-                try {
-                    project.getSkills().size();
-                } catch (Exception e) {
-                    project.setSkills(new HashSet<>());
-                }
-            }
+        if (!projectSearchIndex.isReady()) {
+            // Index is still warming up at startup
+            return searchProjectsByLike(searchQuery);
         }
-        
-        // Map to DTOs and populate member IDs from ProjectMemberRepository
-        List<ProjectDto> dtos = new ArrayList<>();
-        for (Project project : projects) {
-            ProjectDto dto = projectMapper.toDto(project);
-            
-            // Get member IDs from ProjectMemberRepository
-            List<ProjectMember> members = projectMemberRepository.findByProject(project);
-            Set<Long> memberIds = members.stream()
-                .map(m -> m.getUser().getUserId())
-                .collect(Collectors.toSet());
-            dto.setMemberIds(memberIds);
-            
-            dtos.add(dto);
+
+        List<Long> rankedIds = projectSearchIndex.search(searchQuery, SEARCH_RESULT_LIMIT);
+        if (rankedIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return loadInRankOrder(rankedIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectSearchResultDto searchProjectsWithFacets(String query) {
+        List<ProjectDto> items = searchProjects(query);
+        if (query == null || query.trim().isEmpty()) {
+            return new ProjectSearchResultDto(items, projectFacetIndex.facets());
+        }
+        // Items are capped at SEARCH_RESULT_LIMIT; facets count every match. The LIKE fallback is uncapped.
+        List<Long> projectIds = projectSearchIndex.isReady()
+                ? projectSearchIndex.matches(query.trim())
+                : items.stream().map(ProjectDto::getProjectId).collect(Collectors.toList());
+        return new ProjectSearchResultDto(items, projectFacetIndex.facetsFor(projectIds));
+    }
+
+    @Override
+    public ProjectFacetsDto getProjectFacets() {
+        return projectFacetIndex.facets();
+    }
+
+    private List<ProjectDto> searchProjectsByLike(String searchQuery) {
+        List<ProjectDto> dtos = projectRepository.searchDtos(searchQuery);
+        projectSkillLoader.fillSkills(dtos);
+        projectMembershipLoader.fillMemberIds(dtos);
+        return dtos;
+    }
+
+    // Load the matched projects as projections in one query, then restore ranking order
+    private List<ProjectDto> loadInRankOrder(List<Long> rankedIds) {
+        Map<Long, ProjectDto> dtosById = projectRepository.findDtosByIds(rankedIds).stream()
+                .collect(Collectors.toMap(ProjectDto::getProjectId, dto -> dto, (a, b) -> a));
+
+        List<ProjectDto> dtos = new ArrayList<>(rankedIds.size());
+        for (Long projectId : rankedIds) {
+            ProjectDto dto = dtosById.get(projectId);
+            if (dto != null) {
+                dtos.add(dto);
+            }
         }
+        projectSkillLoader.fillSkills(dtos);
+        projectMembershipLoader.fillMemberIds(dtos);
         return dtos;
     }
 
@@ -0,0 +1,48 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.ProjectDto;
+import com.campusconnect.dto.SkillDto;
+import com.campusconnect.repository.ProjectRepository;
+import com.campusconnect.util.LongObjectHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Loads skills for many projects at once, for DTOs built from projections rather than entities.
+ */
+@Component
+public class ProjectSkillLoader {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    public void fillSkills(List<ProjectDto> dtos) {
+        List<Long> projectIds = new ArrayList<>(dtos.size());
+        for (ProjectDto dto : dtos) {
+            if (dto.getProjectId() != null) {
+                projectIds.add(dto.getProjectId());
+            }
+        }
+
+        LongObjectHashMap<Set<SkillDto>> skillsByProject = new LongObjectHashMap<>(projectIds.size());
+        for (int from = 0; from < projectIds.size(); from += ProjectMembershipLoader.CHUNK_SIZE) {
+            List<Long> chunk = projectIds.subList(from, Math.min(from + ProjectMembershipLoader.CHUNK_SIZE, projectIds.size()));
+            for (Object[] row : projectRepository.findSkillRowsByProjectIds(chunk)) {
+                long projectId = ((Number) row[0]).longValue();
+                Long skillId = ((Number) row[1]).longValue();
+                String name = row[2] != null ? (String) row[2] : "";
+                skillsByProject.computeIfAbsent(projectId, k -> new HashSet<>()).add(new SkillDto(skillId, name));
+            }
+        }
+
+        for (ProjectDto dto : dtos) {
+            Set<SkillDto> skills = dto.getProjectId() != null ? skillsByProject.get(dto.getProjectId()) : null;
+            dto.setSkills(skills != null ? skills : new HashSet<>());
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.LeaderboardPageDto;
+import com.campusconnect.dto.RatingDistributionDto;
+import com.campusconnect.dto.RatingSummaryDto;
+import com.campusconnect.entity.Rating;
+import com.campusconnect.entity.RatingAggregate;
+import com.campusconnect.entity.RatingAggregate.TargetType;
+import com.campusconnect.entity.RatingRollup;
+import com.campusconnect.repository.RatingAggregateJdbcRepository;
+import com.campusconnect.repository.RatingAggregateRepository;
+import com.campusconnect.repository.RatingRollupRepository;
+import com.campusconnect.util.AfterCommit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Per-professor and per-course rating aggregates (sum, count, star histogram) and monthly
+ * per-star rollups for trends. Deltas are written in the same transaction as the rating
+ * change, so averages are a single-row lookup and distributions a single range scan
+ * instead of loading every rating on each view.
+ * {@link #rebuild()} recomputes everything from the ratings table; at startup it only runs
+ * when the tables are empty or app.ratings.rebuild-on-startup is set.
+ */
+@Service
+public class RatingAggregateService {
+
+    @Autowired
+    private RatingAggregateRepository ratingAggregateRepository;
+
+    @Autowired
+    private RatingRollupRepository ratingRollupRepository;
+
+    @Autowired
+    private RatingAggregateJdbcRepository ratingAggregateJdbcRepository;
+
+    @Autowired
+    private RatingLeaderboard ratingLeaderboard;
+
+    @Autowired
+    private CourseDetailStatsUpdater courseDetailStatsUpdater;
+
+    @Value("${app.ratings.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    static final int DEFAULT_TREND_MONTHS = 24;
+    static final int MAX_TREND_MONTHS = 120;
+
+    public void onRatingCreated(Rating rating) {
+        apply(rating, rating.getRatingValue(), 1);
+    }
+
+    public void onRatingDeleted(Rating rating) {
+        apply(rating, rating.getRatingValue(), -1);
+    }
+
+    // Moves the rating from its old star bucket to its current one; the count is unchanged
+    public void onRatingUpdated(Rating rating, int previousValue) {
+        if (previousValue == rating.getRatingValue()) {
+            return;
+        }
+        long[] stars = new long[5];
+        stars[bucket(previousValue)]--;
+        stars[bucket(rating.getRatingValue())]++;
+        long sumDelta = (long) rating.getRatingValue() - previousValue;
+        boolean starChanged = bucket(previousValue) != bucket(rating.getRatingValue());
+        LocalDate month = monthOf(rating);
+        for (TargetRef target : targetsOf(rating)) {
+            ratingAggregateJdbcRepository.applyDelta(target.type, target.id, sumDelta, 0, stars);
+            if (starChanged) {
+                ratingAggregateJdbcRepository.applyRollupDelta(target.type, target.id, month, bucket(previousValue) + 1, -1);
+                ratingAggregateJdbcRepository.applyRollupDelta(target.type, target.id, month, bucket(rating.getRatingValue()) + 1, 1);
+            }
+            AfterCommit.run(() -> ratingLeaderboard.applyDelta(target.type, target.id, sumDelta, 0));
+            markCourseStats(target);
+        }
+    }
+
+    // Served from the in-memory leaderboard; never touches the ratings table
+    public LeaderboardPageDto getLeaderboard(TargetType targetType, Long universityId, String department, int page, int size) {
+        return ratingLeaderboard.page(targetType, universityId, department, page, size);
+    }
+
+    // Reads treat a null targetId (a CourseDetail nobody has rated yet) as a target without ratings
+    @Transactional(readOnly = true)
+    public double getAverage(TargetType targetType, Long targetId) {
+        if (targetId == null) {
+            return 0.0;
+        }
+        return ratingAggregateRepository.findByTargetTypeAndTargetId(targetType, targetId)
+                .map(RatingAggregate::getAverage)
+                .orElse(0.0);
+    }
+
+    @Transactional(readOnly = true)
+    public RatingSummaryDto getSummary(TargetType targetType, Long targetId) {
+        RatingAggregate aggregate = targetId == null ? null
+                : ratingAggregateRepository.findByTargetTypeAndTargetId(targetType, targetId).orElse(null);
+        return new RatingSummaryDto(targetType, targetId, aggregate);
+    }
+
+    /**
+     * Histogram and trend for the months from..to (yyyy-MM, inclusive; defaults to the last
+     * {@value #DEFAULT_TREND_MONTHS} months). Semesters are SPRING (Jan-Jun) and FALL (Jul-Dec).
+     */
+    @Transactional(readOnly = true)
+    public RatingDistributionDto getDistribution(TargetType targetType, Long targetId,
+                                                 String from, String to, String granularity) {
+        YearMonth end = to != null && !to.isBlank() ? parseMonth(to) : YearMonth.now();
+        YearMonth start = from != null && !from.isBlank() ? parseMonth(from) : end.minusMonths(DEFAULT_TREND_MONTHS - 1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (start.plusMonths(MAX_TREND_MONTHS).isBefore(end.plusMonths(1))) {
+            throw new IllegalArgumentException("Range is limited to " + MAX_TREND_MONTHS + " months");
+        }
+        boolean semesters = granularity == null || granularity.isBlank() || granularity.equalsIgnoreCase("SEMESTER");
+        if (!semesters && !granularity.equalsIgnoreCase("MONTH")) {
+            throw new IllegalArgumentException("Invalid granularity: " + granularity + " (expected MONTH or SEMESTER)");
+        }
+
+        RatingDistributionDto dto = new RatingDistributionDto(targetType.name(), targetId,
+                start.toString(), end.toString(), semesters ? "SEMESTER" : "MONTH");
+        long[] totals = new long[5];
+
+        // Every period in range appears in the trend, even without ratings
+        Map<String, long[]> periods = new LinkedHashMap<>();
+        for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            periods.computeIfAbsent(periodOf(month, semesters), key -> new long[5]);
+        }
+        List<RatingRollup> rollups = targetId == null ? List.of()
+                : ratingRollupRepository.findByTargetTypeAndTargetIdAndBucketMonthBetweenOrderByBucketMonth(
+                        targetType, targetId, start.atDay(1), end.atDay(1));
+        for (RatingRollup rollup : rollups) {
+            int star = bucket(rollup.getStar());
+            periods.get(periodOf(YearMonth.from(rollup.getBucketMonth()), semesters))[star] += rollup.getRatingCount();
+            totals[star] += rollup.getRatingCount();
+        }
+
+        for (Map.Entry<String, long[]> period : periods.entrySet()) {
+            RatingDistributionDto.TrendPoint point = new RatingDistributionDto.TrendPoint(period.getKey());
+            fill(period.getValue(), point.getHistogram(), point::setCount, point::setAverage);
+            dto.getTrend().add(point);
+        }
+        fill(totals, dto.getHistogram(), dto::setCount, dto::setAverage);
+        return dto;
+    }
+
+    // Deltas keep the tables current across restarts, so startup only seeds them or honours the flag
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup || ratingAggregateJdbcRepository.isEmpty()) {
+            rebuild();
+        } else {
+            ratingLeaderboard.rebuild();
+        }
+    }
+
+    // Consistency job: on demand from the admin API
+    @Transactional
+    public Map<String, Integer> rebuild() {
+        Map<String, Integer> rows = new LinkedHashMap<>();
+        rows.put("aggregates", ratingAggregateJdbcRepository.rebuildAll());
+        rows.put("rollups", ratingAggregateJdbcRepository.rebuildRollups());
+        AfterCommit.run(ratingLeaderboard::rebuild);
+        AfterCommit.run(courseDetailStatsUpdater::markAll);
+        return rows;
+    }
+
+    private void apply(Rating rating, int value, int direction) {
+        long[] stars = new long[5];
+        stars[bucket(value)] = direction;
+        LocalDate month = monthOf(rating);
+        for (TargetRef target : targetsOf(rating)) {
+            ratingAggregateJdbcRepository.applyDelta(target.type, target.id, (long) value * direction, direction, stars);
+            ratingAggregateJdbcRepository.applyRollupDelta(target.type, target.id, month, bucket(value) + 1, direction);
+            AfterCommit.run(() -> ratingLeaderboard.applyDelta(target.type, target.id, (long) value * direction, direction));
+            markCourseStats(target);
+        }
+    }
+
+    private void markCourseStats(TargetRef target) {
+        if (target.type == TargetType.COURSE) {
+            AfterCommit.run(() -> courseDetailStatsUpdater.markCourse(target.id));
+        }
+    }
+
+    private static void fill(long[] stars, Map<Integer, Long> histogram, LongConsumer count, DoubleConsumer average) {
+        long total = 0;
+        long sum = 0;
+        for (int i = 0; i < stars.length; i++) {
+            histogram.put(i + 1, stars[i]);
+            total += stars[i];
+            sum += stars[i] * (i + 1);
+        }
+        count.accept(total);
+        average.accept(total > 0 ? (double) sum / total : 0.0);
+    }
+
+    private static String periodOf(YearMonth month, boolean semesters) {
+        if (!semesters) {
+            return month.toString();
+        }
+        return month.getYear() + (month.getMonthValue() <= 6 ? "-SPRING" : "-FALL");
+    }
+
+    private static YearMonth parseMonth(String value) {
+        try {
+            return YearMonth.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid month: " + value + " (expected yyyy-MM)");
+        }
+    }
+
+    private static LocalDate monthOf(Rating rating) {
+        LocalDateTime createdAt = rating.getCreatedAt() != null ? rating.getCreatedAt() : LocalDateTime.now();
+        return createdAt.toLocalDate().withDayOfMonth(1);
+    }
+
+    // Same clamping as the rebuild query: <=1 counts as one star, >=5 as five
+    private static int bucket(int value) {
+        return Math.max(1, Math.min(5, value)) - 1;
+    }
+
+    private static TargetRef[] targetsOf(Rating rating) {
+        TargetRef professor = rating.getProfessor() != null && rating.getProfessor().getProfessorId() != null
+                ? new TargetRef(TargetType.PROFESSOR, rating.getProfessor().getProfessorId()) : null;
+        TargetRef course = rating.getCourse() != null && rating.getCourse().getCourseId() != null
+                ? new TargetRef(TargetType.COURSE, rating.getCourse().getCourseId()) : null;
+        if (professor != null && course != null) {
+            return new TargetRef[]{professor, course};
+        }
+        if (professor != null) {
+            return new TargetRef[]{professor};
+        }
+        return course != null ? new TargetRef[]{course} : new TargetRef[0];
+    }
+
+    private static final class TargetRef {
+        final TargetType type;
+        final Long id;
+
+        TargetRef(TargetType type, Long id) {
+            this.type = type;
+            this.id = id;
+        }
+    }
+}
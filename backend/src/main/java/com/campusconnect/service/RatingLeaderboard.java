@@ -0,0 +1,335 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.LeaderboardEntryDto;
+import com.campusconnect.dto.LeaderboardPageDto;
+import com.campusconnect.entity.Course;
+import com.campusconnect.entity.Professor;
+import com.campusconnect.entity.RatingAggregate.TargetType;
+import com.campusconnect.repository.CourseRepository;
+import com.campusconnect.repository.ProfessorRepository;
+import com.campusconnect.repository.RatingAggregateRepository;
+import com.campusconnect.util.LongObjectHashMap;
+import com.campusconnect.util.ReplayingLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Professor and course leaderboards ranked by a Bayesian average:
+ * (PRIOR_WEIGHT * priorMean + sum) / (PRIOR_WEIGHT + count), so a single 5-star rating does
+ * not outrank a long record of 4.8s. Entries are kept in sorted sets per university, per
+ * department and per university+department, adjusted from rating aggregate deltas after
+ * commit; deltas that arrive while a rebuild is loading are replayed on top of its snapshot.
+ * The prior mean is fixed per rebuild; {@link RatingAggregateService#rebuild()} refreshes it
+ * together with the aggregates.
+ */
+@Component
+public class RatingLeaderboard {
+
+    static final double PRIOR_WEIGHT = 5.0;
+    static final int MAX_PAGE_SIZE = 100;
+    // Pages are read by walking the ranked set, so deep pages are refused rather than walked
+    static final int MAX_OFFSET = 10_000;
+    private static final double DEFAULT_PRIOR_MEAN = 3.0;
+
+    @Autowired
+    private RatingAggregateRepository ratingAggregateRepository;
+
+    @Autowired
+    private ProfessorRepository professorRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private final ReplayingLock lock = new ReplayingLock();
+    private final Board professors = new Board();
+    private final Board courses = new Board();
+
+    public void rebuild() {
+        lock.rebuild(() -> {
+            Map<TargetType, List<Object[]>> rows = new EnumMap<>(TargetType.class);
+            rows.put(TargetType.PROFESSOR, ratingAggregateRepository.findProfessorLeaderboardRows());
+            rows.put(TargetType.COURSE, ratingAggregateRepository.findCourseLeaderboardRows());
+            return rows;
+        }, rows -> {
+            professors.reset(rows.get(TargetType.PROFESSOR));
+            courses.reset(rows.get(TargetType.COURSE));
+        });
+    }
+
+    // Applies the same delta that was written to rating_aggregates
+    public void applyDelta(TargetType targetType, Long targetId, long sumDelta, long countDelta) {
+        if (targetId == null) {
+            return;
+        }
+        Board board = boardFor(targetType);
+        boolean known;
+        lock.readLock().lock();
+        try {
+            known = board.entries.containsKey(targetId);
+        } finally {
+            lock.readLock().unlock();
+        }
+        // Look up name/university/department outside the lock for targets rated for the first time
+        Entry loaded = known ? null : loadEntry(targetType, targetId);
+
+        lock.write(() -> {
+            Entry entry = board.entries.get(targetId);
+            if (entry == null) {
+                if (loaded == null) {
+                    return;
+                }
+                // A fresh copy each run, so a replay does not add the delta to an entry that already has it
+                entry = loaded.copy();
+                board.entries.put(targetId, entry);
+            } else {
+                board.unlink(entry);
+            }
+            entry.sum += sumDelta;
+            entry.count += countDelta;
+            if (entry.count <= 0) {
+                board.entries.remove(targetId);
+                return;
+            }
+            board.link(entry);
+        });
+    }
+
+    // Keeps a professor's groups, and those of the courses they teach, in sync after their
+    // university or department changes (a course's department is its professor's)
+    public void refreshProfessor(Professor professor) {
+        if (professor == null || professor.getProfessorId() == null) {
+            return;
+        }
+        long professorId = professor.getProfessorId();
+        String name = professor.getName();
+        Long universityId = professor.getUniversity() != null ? professor.getUniversity().getUniversityId() : null;
+        String department = professor.getDepartment();
+        lock.write(() -> {
+            Entry entry = professors.entries.get(professorId);
+            if (entry != null) {
+                professors.unlink(entry);
+                entry.name = name;
+                entry.universityId = universityId;
+                entry.department = department;
+                professors.link(entry);
+            }
+
+            List<Entry> taught = new ArrayList<>();
+            courses.entries.forEach((courseId, course) -> {
+                if (course.professorId != null && course.professorId == professorId) {
+                    taught.add(course);
+                }
+            });
+            for (Entry course : taught) {
+                courses.unlink(course);
+                course.department = department;
+                courses.link(course);
+            }
+        });
+    }
+
+    public void remove(TargetType targetType, Long targetId) {
+        if (targetId == null) {
+            return;
+        }
+        Board board = boardFor(targetType);
+        lock.write(() -> {
+            Entry entry = board.entries.remove(targetId);
+            if (entry != null) {
+                board.unlink(entry);
+            }
+        });
+    }
+
+    // page is 0-based; universityId and department are optional filters
+    public LeaderboardPageDto page(TargetType targetType, Long universityId, String department, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long offset = (long) page * pageSize;
+        if (offset > MAX_OFFSET) {
+            throw new IllegalArgumentException("Leaderboards are limited to the top " + MAX_OFFSET + " entries");
+        }
+        Board board = boardFor(targetType);
+
+        lock.readLock().lock();
+        try {
+            TreeSet<Entry> ranked = board.groups.get(groupKey(universityId, normalizeDepartment(department)));
+            if (ranked == null) {
+                return new LeaderboardPageDto(new ArrayList<>(), page, pageSize, 0);
+            }
+            List<LeaderboardEntryDto> items = new ArrayList<>(pageSize);
+            if (offset >= ranked.size()) {
+                return new LeaderboardPageDto(items, page, pageSize, ranked.size());
+            }
+            Iterator<Entry> it = ranked.iterator();
+            for (long i = 0; i < offset && it.hasNext(); i++) {
+                it.next();
+            }
+            int rank = (int) offset;
+            while (it.hasNext() && items.size() < pageSize) {
+                Entry entry = it.next();
+                rank++;
+                items.add(new LeaderboardEntryDto(rank, entry.id, entry.name, entry.universityId, entry.department,
+                        (double) entry.sum / entry.count, entry.count, entry.score));
+            }
+            return new LeaderboardPageDto(items, page, pageSize, ranked.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Board boardFor(TargetType targetType) {
+        return targetType == TargetType.PROFESSOR ? professors : courses;
+    }
+
+    private Entry loadEntry(TargetType targetType, Long targetId) {
+        Entry entry = new Entry(targetId);
+        if (targetType == TargetType.PROFESSOR) {
+            Professor professor = professorRepository.findById(targetId).orElse(null);
+            if (professor == null) {
+                return null;
+            }
+            entry.name = professor.getName();
+            entry.universityId = professor.getUniversity() != null ? professor.getUniversity().getUniversityId() : null;
+            entry.department = professor.getDepartment();
+        } else {
+            Course course = courseRepository.findById(targetId).orElse(null);
+            if (course == null) {
+                return null;
+            }
+            entry.name = course.getName();
+            entry.universityId = course.getUniversity() != null ? course.getUniversity().getUniversityId() : null;
+            entry.department = course.getProfessor() != null ? course.getProfessor().getDepartment() : null;
+            entry.professorId = course.getProfessor() != null ? course.getProfessor().getProfessorId() : null;
+        }
+        return entry;
+    }
+
+    private static String normalizeDepartment(String department) {
+        if (department == null || department.isBlank()) {
+            return null;
+        }
+        return department.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String groupKey(Long universityId, String departmentKey) {
+        if (universityId == null) {
+            return departmentKey == null ? "*" : "d:" + departmentKey;
+        }
+        return departmentKey == null ? "u:" + universityId : "u:" + universityId + "|d:" + departmentKey;
+    }
+
+    // Highest score first; more ratings then lower ID break ties
+    private static final Comparator<Entry> BY_SCORE = Comparator
+            .comparingDouble((Entry e) -> -e.score)
+            .thenComparingLong(e -> -e.count)
+            .thenComparingLong(e -> e.id);
+
+    private static final class Entry {
+        final long id;
+        String name;
+        Long universityId;
+        String department;
+        Long professorId; // course entries only: the teaching professor, whose department they use
+        long sum;
+        long count;
+        double score;
+
+        Entry(long id) {
+            this.id = id;
+        }
+
+        Entry copy() {
+            Entry copy = new Entry(id);
+            copy.name = name;
+            copy.universityId = universityId;
+            copy.department = department;
+            copy.professorId = professorId;
+            copy.sum = sum;
+            copy.count = count;
+            return copy;
+        }
+
+        // Every leaderboard this entry appears in
+        List<String> groupKeys() {
+            String departmentKey = normalizeDepartment(department);
+            List<String> keys = new ArrayList<>(4);
+            keys.add(groupKey(null, null));
+            if (universityId != null) {
+                keys.add(groupKey(universityId, null));
+            }
+            if (departmentKey != null) {
+                keys.add(groupKey(null, departmentKey));
+                if (universityId != null) {
+                    keys.add(groupKey(universityId, departmentKey));
+                }
+            }
+            return keys;
+        }
+    }
+
+    // All entries of one target type plus their ranked groups (lock held by callers)
+    private static final class Board {
+        final LongObjectHashMap<Entry> entries = new LongObjectHashMap<>();
+        final Map<String, TreeSet<Entry>> groups = new HashMap<>();
+        double priorMean = DEFAULT_PRIOR_MEAN;
+
+        void reset(List<Object[]> rows) {
+            entries.clear();
+            groups.clear();
+            long totalSum = 0;
+            long totalCount = 0;
+            for (Object[] row : rows) {
+                totalSum += ((Number) row[1]).longValue();
+                totalCount += ((Number) row[2]).longValue();
+            }
+            priorMean = totalCount > 0 ? (double) totalSum / totalCount : DEFAULT_PRIOR_MEAN;
+
+            for (Object[] row : rows) {
+                Entry entry = new Entry(((Number) row[0]).longValue());
+                entry.sum = ((Number) row[1]).longValue();
+                entry.count = ((Number) row[2]).longValue();
+                entry.name = (String) row[3];
+                entry.universityId = row[4] != null ? ((Number) row[4]).longValue() : null;
+                entry.department = (String) row[5];
+                if (row.length > 6 && row[6] != null) {
+                    entry.professorId = ((Number) row[6]).longValue();
+                }
+                entries.put(entry.id, entry);
+                link(entry);
+            }
+        }
+
+        void link(Entry entry) {
+            entry.score = (PRIOR_WEIGHT * priorMean + entry.sum) / (PRIOR_WEIGHT + entry.count);
+            for (String key : entry.groupKeys()) {
+                groups.computeIfAbsent(key, k -> new TreeSet<>(BY_SCORE)).add(entry);
+            }
+        }
+
+        // Must run before any field that feeds the comparator or the group keys changes
+        void unlink(Entry entry) {
+            for (String key : entry.groupKeys()) {
+                TreeSet<Entry> ranked = groups.get(key);
+                if (ranked != null) {
+                    ranked.remove(entry);
+                    if (ranked.isEmpty()) {
+                        groups.remove(key);
+                    }
+                }
+            }
+        }
+    }
+}
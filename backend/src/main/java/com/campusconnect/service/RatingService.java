@@ -1,6 +1,9 @@
 package com.campusconnect.service;
 
+import com.campusconnect.dto.LeaderboardPageDto;
+import com.campusconnect.dto.RatingDistributionDto;
 import com.campusconnect.dto.RatingDto;
+import com.campusconnect.dto.RatingSummaryDto;
 import java.util.List;
 
 public interface RatingService {
@@ -15,4 +18,13 @@ public interface RatingService {
 
     Double getAverageRatingForProfessor(Long professorId);
     Double getAverageRatingForCourse(Long courseId);
+
+    RatingSummaryDto getRatingSummaryForProfessor(Long professorId);
+    RatingSummaryDto getRatingSummaryForCourse(Long courseId);
+
+    RatingDistributionDto getRatingDistributionForProfessor(Long professorId, String from, String to, String granularity);
+    RatingDistributionDto getRatingDistributionForCourse(Long courseId, String from, String to, String granularity);
+
+    LeaderboardPageDto getProfessorLeaderboard(Long universityId, String department, int page, int size);
+    LeaderboardPageDto getCourseLeaderboard(Long universityId, String department, int page, int size);
 }
@@ -1,15 +1,20 @@
 package com.campusconnect.service;
 
+import com.campusconnect.dto.LeaderboardPageDto;
+import com.campusconnect.dto.RatingDistributionDto;
 import com.campusconnect.dto.RatingDto;
+import com.campusconnect.dto.RatingSummaryDto;
 import com.campusconnect.entity.*;
 import com.campusconnect.repository.*;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,12 +23,16 @@ import java.util.stream.Collectors;
 @Transactional
 public class RatingServiceImpl implements RatingService {
 
+    private static final String ALREADY_RATED_PROFESSOR = "You have already rated this professor.";
+    private static final String ALREADY_RATED_COURSE = "You have already rated this course.";
+
     private final RatingRepository ratingRepository;
     private final UserRepository userRepository;
     private final ProfessorRepository professorRepository;
     private final CourseRepository courseRepository;
-    private final CourseDetailRepository courseDetailRepository;
-    private final ReviewService reviewService;
+    private final CourseIdentityResolver courseIdentityResolver;
+    private final ReviewOutboxRepository reviewOutboxRepository;
+    private final RatingAggregateService ratingAggregateService;
 
     // -------------------------------
     // CREATE
@@ -37,44 +46,19 @@ public class RatingServiceImpl implements RatingService {
         User user = userRepository.findByEmail(currentUserEmail)
                 .orElseThrow(() -> new EntityNotFoundException("Authenticated user not found"));
 
-        // Prevent duplicate ratings by the same user
-        if (ratingDto.getProfessorId() != null) {
-            List<Rating> existing = ratingRepository.findByProfessor(new Professor(ratingDto.getProfessorId()))
-                    .stream()
-                    .filter(r -> r.getUser().getUserId().equals(user.getUserId()))
-                    .toList();
-            if (!existing.isEmpty()) {
-                throw new IllegalStateException("You have already rated this professor.");
-            }
+        // Prevent duplicate ratings by the same user; the unique indexes on ratings back this up
+        // for concurrent submits (see saveNewRating)
+        if (ratingDto.getProfessorId() != null
+                && ratingRepository.existsByUser_UserIdAndProfessor_ProfessorId(user.getUserId(), ratingDto.getProfessorId())) {
+            throw new IllegalStateException(ALREADY_RATED_PROFESSOR);
         }
-        if (ratingDto.getCourseId() != null) {
-            // Check both Course and CourseDetail tables for existing ratings
-            // First try CourseDetail (new table)
-            CourseDetail courseDetail = courseDetailRepository.findById(ratingDto.getCourseId()).orElse(null);
-            if (courseDetail != null) {
-                // For CourseDetail, we need to check ratings differently since Rating entity uses Course
-                // We'll check by courseId directly in the query
-                List<Rating> allRatings = ratingRepository.findAll();
-                List<Rating> existing = allRatings.stream()
-                        .filter(r -> r.getCourse() != null && r.getCourse().getCourseId().equals(ratingDto.getCourseId()))
-                        .filter(r -> r.getUser().getUserId().equals(user.getUserId()))
-                        .toList();
-                if (!existing.isEmpty()) {
-                    throw new IllegalStateException("You have already rated this course.");
-                }
-            } else {
-                // Fallback to Course table
-                Course course = courseRepository.findById(ratingDto.getCourseId()).orElse(null);
-                if (course != null) {
-                    List<Rating> existing = ratingRepository.findByCourse(course)
-                            .stream()
-                            .filter(r -> r.getUser().getUserId().equals(user.getUserId()))
-                            .toList();
-                    if (!existing.isEmpty()) {
-                        throw new IllegalStateException("You have already rated this course.");
-                    }
-                }
-            }
+        // The frontend sends CourseDetail IDs; ratings are stored against the linked Course row
+        CourseIdentityResolver.CourseIds courseIds = ratingDto.getCourseId() != null
+                ? courseIdentityResolver.resolveForRating(ratingDto.getCourseId())
+                : null;
+        if (courseIds != null
+                && ratingRepository.existsByUser_UserIdAndCourse_CourseId(user.getUserId(), courseIds.getCourseId())) {
+            throw new IllegalStateException(ALREADY_RATED_COURSE);
         }
 
         Rating rating = new Rating();
@@ -88,100 +72,58 @@ public class RatingServiceImpl implements RatingService {
             rating.setProfessor(professor);
         }
 
-        if (ratingDto.getCourseId() != null) {
-            // First try to find in CourseDetail (new table)
-            CourseDetail courseDetail = courseDetailRepository.findById(ratingDto.getCourseId()).orElse(null);
-            if (courseDetail != null) {
-                // Try to find corresponding Course entry with the same ID
-                Course course = courseRepository.findById(ratingDto.getCourseId()).orElse(null);
-                if (course == null) {
-                    // If Course doesn't exist with same ID, try to find by name and professor
-                    // This handles cases where Course was created with a different ID
-                    if (courseDetail.getProfessor() != null) {
-                        List<Course> coursesByName = courseRepository.findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
-                            courseDetail.getName(), courseDetail.getName());
-                        course = coursesByName.stream()
-                            .filter(c -> c.getName().equals(courseDetail.getName()) && 
-                                       c.getProfessor() != null && 
-                                       c.getProfessor().getProfessorId().equals(courseDetail.getProfessor().getProfessorId()))
-                            .findFirst()
-                            .orElse(null);
-                    }
-                    
-                    // If still not found, create it now
-                    if (course == null) {
-                        course = new Course();
-                        course.setName(courseDetail.getName());
-                        course.setDescription(courseDetail.getDescription());
-                        course.setProfessor(courseDetail.getProfessor());
-                        course.setUniversity(courseDetail.getUniversity());
-                        course = courseRepository.save(course);
-                    }
-                }
-                rating.setCourse(course);
-            } else {
-                // Fallback to Course table
-                Course course = courseRepository.findById(ratingDto.getCourseId())
-                        .orElseThrow(() -> new EntityNotFoundException("Course not found"));
-                rating.setCourse(course);
-            }
+        if (courseIds != null) {
+            rating.setCourse(courseRepository.getReferenceById(courseIds.getCourseId()));
         }
 
-        Rating saved = ratingRepository.save(rating);
-        
-        // Convert to DTO first - this ensures the rating is saved before we try to create a review
-        RatingDto result = convertToDto(saved);
-        
-        // If rating has a comment, create a review
-        // Do this AFTER returning the result in a separate try-catch to ensure rating creation always succeeds
+        Rating saved = saveNewRating(rating);
+        ratingAggregateService.onRatingCreated(saved);
+
+        // If rating has a comment, queue a review; ReviewOutboxDispatcher creates it after commit
         if (saved.getComment() != null && !saved.getComment().trim().isEmpty()) {
-            // Create review asynchronously - use a separate transaction
-            createReviewForRating(saved, ratingDto);
+            enqueueReview(saved, ratingDto, courseIds != null ? courseIds.getCourseDetailId() : null);
         }
-        
-        return result;
+
+        return convertToDto(saved);
     }
     
-    // Helper method to create review without affecting rating transaction
-    private void createReviewForRating(Rating saved, RatingDto ratingDto) {
+    // A concurrent submit that slipped past the exists-check hits the unique index instead;
+    // report it the same way so the client still gets a 409
+    private Rating saveNewRating(Rating rating) {
         try {
-            com.campusconnect.dto.ReviewDto reviewDto = new com.campusconnect.dto.ReviewDto();
-            reviewDto.setRatingId(saved.getRatingId());
-            reviewDto.setContent(saved.getComment());
-            
-            // For course reviews: Use the courseId from the DTO which should be CourseDetail ID
-            // The frontend sends CourseDetail IDs when rating courses
-            if (ratingDto.getCourseId() != null) {
-                // The courseId should be the CourseDetail ID (since frontend uses CourseDetail)
-                CourseDetail courseDetail = courseDetailRepository.findById(ratingDto.getCourseId()).orElse(null);
-                if (courseDetail != null) {
-                    reviewDto.setCourseDetailId(courseDetail.getCourseId());
-                } else {
-                    // If not found, skip review creation for this course (rating still succeeds)
-                    System.err.println("Warning: CourseDetail not found for ID " + ratingDto.getCourseId() + ", skipping review creation");
-                    return; // Exit early if we can't create review
-                }
+            return ratingRepository.saveAndFlush(rating);
+        } catch (DataIntegrityViolationException e) {
+            String detail = String.valueOf(e.getMostSpecificCause().getMessage());
+            if (detail.contains(Rating.UNIQUE_USER_PROFESSOR)) {
+                throw new IllegalStateException(ALREADY_RATED_PROFESSOR);
             }
-            
-            // For professor reviews: Use professorId directly
-            if (ratingDto.getProfessorId() != null) {
-                reviewDto.setProfessorId(ratingDto.getProfessorId());
+            if (detail.contains(Rating.UNIQUE_USER_COURSE)) {
+                throw new IllegalStateException(ALREADY_RATED_COURSE);
             }
-            
-            // Only create review if we have at least course or professor
-            if (reviewDto.getCourseDetailId() != null || reviewDto.getProfessorId() != null) {
-                // Call review service in a separate transaction
-                // If it fails, it won't affect the rating that was already saved
-                reviewService.createReview(reviewDto);
-            }
-        } catch (Exception e) {
-            // Log error but don't throw - rating was already created successfully
-            // This catch ensures that ANY exception in review creation doesn't affect the rating
-            System.err.println("Warning: Failed to create review for rating " + saved.getRatingId() + ": " + e.getMessage());
-            e.printStackTrace();
+            throw e;
         }
     }
 
+    // Outbox row is part of the rating transaction: the review is never lost once the rating commits,
+    // and the request no longer waits for a second transaction
+    private void enqueueReview(Rating saved, RatingDto ratingDto, Long courseDetailId) {
+        if (ratingDto.getCourseId() != null && courseDetailId == null) {
+            // Course ratings only get reviews when the rated ID is a CourseDetail (rating still succeeds)
+            System.err.println("Warning: CourseDetail not found for ID " + ratingDto.getCourseId() + ", skipping review creation");
+            return;
+        }
+        if (courseDetailId == null && ratingDto.getProfessorId() == null) {
+            return;
+        }
+        ReviewOutbox outbox = new ReviewOutbox();
+        outbox.setRatingId(saved.getRatingId());
+        outbox.setUserId(saved.getUser().getUserId());
+        outbox.setCourseDetailId(courseDetailId);
+        outbox.setProfessorId(ratingDto.getProfessorId());
+        outbox.setContent(saved.getComment());
+        reviewOutboxRepository.save(outbox);
+    }
+
     // -------------------------------
     // UPDATE
     // -------------------------------
@@ -197,10 +139,13 @@ public class RatingServiceImpl implements RatingService {
             throw new SecurityException("You are not authorized to edit this rating.");
         }
 
+        int previousValue = rating.getRatingValue();
         rating.setRatingValue(ratingDto.getRatingValue());
         rating.setComment(ratingDto.getComment());
 
-        return convertToDto(ratingRepository.save(rating));
+        Rating saved = ratingRepository.save(rating);
+        ratingAggregateService.onRatingUpdated(saved, previousValue);
+        return convertToDto(saved);
     }
 
     // -------------------------------
@@ -218,7 +163,10 @@ public class RatingServiceImpl implements RatingService {
             throw new SecurityException("You are not authorized to delete this rating.");
         }
 
+        // A review still waiting in the outbox would point at the deleted rating
+        reviewOutboxRepository.deleteByRatingId(ratingId);
         ratingRepository.delete(rating);
+        ratingAggregateService.onRatingDeleted(rating);
     }
 
     // -------------------------------
@@ -251,20 +199,12 @@ public class RatingServiceImpl implements RatingService {
 
     @Override
     public List<RatingDto> getRatingsByCourse(Long courseId) {
-        // First try CourseDetail, then fallback to Course
-        CourseDetail courseDetail = courseDetailRepository.findById(courseId).orElse(null);
-        Course course;
-        if (courseDetail != null) {
-            // Find or create corresponding Course entry
-            course = courseRepository.findById(courseId).orElse(null);
-            if (course == null) {
-                throw new EntityNotFoundException("Course not found");
-            }
-        } else {
-            course = courseRepository.findById(courseId)
-                    .orElseThrow(() -> new EntityNotFoundException("Course not found"));
+        // Accepts a CourseDetail ID or a legacy Course ID; null is a CourseDetail nobody has rated yet
+        Long resolvedCourseId = courseIdentityResolver.findCourseIdOrThrow(courseId);
+        if (resolvedCourseId == null) {
+            return new ArrayList<>();
         }
-        return ratingRepository.findByCourse(course).stream()
+        return ratingRepository.findByCourse(new Course(resolvedCourseId)).stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
@@ -274,34 +214,55 @@ public class RatingServiceImpl implements RatingService {
     // -------------------------------
     @Override
     public Double getAverageRatingForProfessor(Long professorId) {
-        List<Rating> ratings = ratingRepository.findByProfessor(
-                professorRepository.findById(professorId)
-                        .orElseThrow(() -> new EntityNotFoundException("Professor not found"))
-        );
-        return ratings.isEmpty() ? 0.0 :
-                ratings.stream().mapToInt(Rating::getRatingValue).average().orElse(0.0);
+        if (!professorRepository.existsById(professorId)) {
+            throw new EntityNotFoundException("Professor not found");
+        }
+        return ratingAggregateService.getAverage(RatingAggregate.TargetType.PROFESSOR, professorId);
     }
 
     @Override
     public Double getAverageRatingForCourse(Long courseId) {
-        // First try CourseDetail, then fallback to Course
-        CourseDetail courseDetail = courseDetailRepository.findById(courseId).orElse(null);
-        Course course;
-        if (courseDetail != null) {
-            // Find or create corresponding Course entry
-            course = courseRepository.findById(courseId).orElse(null);
-            if (course == null) {
-                return 0.0; // No ratings if course doesn't exist in Course table
-            }
-        } else {
-            course = courseRepository.findById(courseId).orElse(null);
-            if (course == null) {
-                return 0.0; // No ratings if course doesn't exist
-            }
+        // Ratings reference the Course table; a CourseDetail ID without a matching Course has no ratings
+        Long resolvedCourseId = courseIdentityResolver.findCourseIdOrThrow(courseId);
+        return ratingAggregateService.getAverage(RatingAggregate.TargetType.COURSE, resolvedCourseId);
+    }
+
+    @Override
+    public RatingSummaryDto getRatingSummaryForProfessor(Long professorId) {
+        if (!professorRepository.existsById(professorId)) {
+            throw new EntityNotFoundException("Professor not found");
+        }
+        return ratingAggregateService.getSummary(RatingAggregate.TargetType.PROFESSOR, professorId);
+    }
+
+    @Override
+    public RatingSummaryDto getRatingSummaryForCourse(Long courseId) {
+        Long resolvedCourseId = courseIdentityResolver.findCourseIdOrThrow(courseId);
+        return ratingAggregateService.getSummary(RatingAggregate.TargetType.COURSE, resolvedCourseId);
+    }
+
+    @Override
+    public RatingDistributionDto getRatingDistributionForProfessor(Long professorId, String from, String to, String granularity) {
+        if (!professorRepository.existsById(professorId)) {
+            throw new EntityNotFoundException("Professor not found");
         }
-        List<Rating> ratings = ratingRepository.findByCourse(course);
-        return ratings.isEmpty() ? 0.0 :
-                ratings.stream().mapToInt(Rating::getRatingValue).average().orElse(0.0);
+        return ratingAggregateService.getDistribution(RatingAggregate.TargetType.PROFESSOR, professorId, from, to, granularity);
+    }
+
+    @Override
+    public LeaderboardPageDto getProfessorLeaderboard(Long universityId, String department, int page, int size) {
+        return ratingAggregateService.getLeaderboard(RatingAggregate.TargetType.PROFESSOR, universityId, department, page, size);
+    }
+
+    @Override
+    public LeaderboardPageDto getCourseLeaderboard(Long universityId, String department, int page, int size) {
+        return ratingAggregateService.getLeaderboard(RatingAggregate.TargetType.COURSE, universityId, department, page, size);
+    }
+
+    @Override
+    public RatingDistributionDto getRatingDistributionForCourse(Long courseId, String from, String to, String granularity) {
+        Long resolvedCourseId = courseIdentityResolver.findCourseIdOrThrow(courseId);
+        return ratingAggregateService.getDistribution(RatingAggregate.TargetType.COURSE, resolvedCourseId, from, to, granularity);
     }
 
     // -------------------------------
@@ -0,0 +1,55 @@
+package com.campusconnect.service;
+
+import com.campusconnect.entity.Rating;
+import com.campusconnect.repository.RatingUniquenessJdbcRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Makes sure ratings carries the unique indexes declared on {@link Rating}. ddl-auto cannot add
+ * them while duplicate rows exist and only logs the failed ALTER, so at startup duplicates are
+ * merged into the newest rating of each pair and any missing index is created. Startup fails
+ * if an index still cannot be added, rather than running without the duplicate guarantee.
+ */
+@Component
+public class RatingUniquenessCheck {
+
+    static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private RatingUniquenessJdbcRepository ratingUniquenessJdbcRepository;
+
+    @Autowired
+    private RatingAggregateService ratingAggregateService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public int enforce() {
+        int removed = ensureIndex(Rating.UNIQUE_USER_PROFESSOR, "professor_id")
+                + ensureIndex(Rating.UNIQUE_USER_COURSE, "course_id");
+        if (removed > 0) {
+            System.err.println("Warning: Removed " + removed + " duplicate ratings before adding their unique indexes");
+            // Aggregates, rollups and leaderboards still count the deleted rows
+            ratingAggregateService.rebuild();
+        }
+        return removed;
+    }
+
+    private int ensureIndex(String indexName, String targetColumn) {
+        int removed = 0;
+        for (int attempt = 1; !ratingUniquenessJdbcRepository.hasIndex(indexName); attempt++) {
+            removed += ratingUniquenessJdbcRepository.mergeDuplicates(targetColumn);
+            try {
+                ratingUniquenessJdbcRepository.addUniqueIndex(indexName, targetColumn);
+            } catch (DataIntegrityViolationException e) {
+                // A duplicate was written between the merge and the ALTER; merge again
+                if (attempt == MAX_ATTEMPTS) {
+                    throw new IllegalStateException("Could not add unique index " + indexName + " to ratings", e);
+                }
+            }
+        }
+        return removed;
+    }
+}
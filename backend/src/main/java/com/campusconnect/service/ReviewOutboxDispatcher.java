@@ -0,0 +1,124 @@
+package com.campusconnect.service;
+
+import com.campusconnect.entity.ReviewOutbox;
+import com.campusconnect.repository.ReviewOutboxJdbcRepository;
+import com.campusconnect.repository.ReviewOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Turns review_outbox rows into reviews in the background. Each batch is claimed, inserted
+ * with one JDBC batch and deleted in a single transaction. If the batch fails, its rows are
+ * retried one by one so a single bad row cannot hold back the rest; a failing row backs off
+ * exponentially and is parked as FAILED after {@link #MAX_ATTEMPTS} tries.
+ */
+@Component
+public class ReviewOutboxDispatcher {
+
+    static final int BATCH_SIZE = 100;
+    static final int MAX_ATTEMPTS = 8;
+    static final int MAX_BATCHES_PER_RUN = 10;
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    @Autowired
+    private ReviewOutboxRepository reviewOutboxRepository;
+
+    @Autowired
+    private ReviewOutboxJdbcRepository reviewOutboxJdbcRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CourseDetailStatsUpdater courseDetailStatsUpdater;
+
+    @Autowired
+    private ReviewSearchIndex reviewSearchIndex;
+
+    @Scheduled(fixedDelay = 2000, initialDelay = 5000)
+    public void dispatch() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            if (dispatchBatch() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    // Returns how many rows were claimed
+    int dispatchBatch() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<Long> claimedIds = new ArrayList<>();
+        List<ReviewOutbox> claimedRows = new ArrayList<>();
+        try {
+            tx.executeWithoutResult(status -> {
+                List<ReviewOutbox> batch = reviewOutboxRepository.claimDue(
+                        ReviewOutbox.Status.PENDING, LocalDateTime.now(), PageRequest.of(0, BATCH_SIZE));
+                batch.forEach(row -> claimedIds.add(row.getOutboxId()));
+                claimedRows.addAll(batch);
+                if (!batch.isEmpty()) {
+                    reviewOutboxJdbcRepository.insertReviews(batch, new Timestamp(System.currentTimeMillis()));
+                    reviewOutboxRepository.deleteAllInBatch(batch);
+                }
+            });
+            claimedRows.forEach(this::markCourseDetailStats);
+            if (!claimedRows.isEmpty()) {
+                reviewSearchIndex.indexByRatingIds(claimedRows.stream().map(ReviewOutbox::getRatingId).collect(Collectors.toList()));
+            }
+        } catch (RuntimeException e) {
+            for (Long outboxId : claimedIds) {
+                dispatchOne(tx, outboxId);
+            }
+        }
+        return claimedIds.size();
+    }
+
+    private void dispatchOne(TransactionTemplate tx, Long outboxId) {
+        try {
+            ReviewOutbox inserted = tx.execute(status -> reviewOutboxRepository.claimById(outboxId, ReviewOutbox.Status.PENDING)
+                    .map(row -> {
+                        reviewOutboxJdbcRepository.insertReviews(List.of(row), new Timestamp(System.currentTimeMillis()));
+                        reviewOutboxRepository.delete(row);
+                        return row;
+                    })
+                    .orElse(null));
+            if (inserted != null) {
+                markCourseDetailStats(inserted);
+                reviewSearchIndex.indexByRatingIds(List.of(inserted.getRatingId()));
+            }
+        } catch (RuntimeException e) {
+            tx.executeWithoutResult(status -> reviewOutboxRepository.findById(outboxId)
+                    .ifPresent(row -> recordFailure(row, e)));
+        }
+    }
+
+    // Runs once the insert has committed, so the refreshed review count includes the new row
+    private void markCourseDetailStats(ReviewOutbox row) {
+        courseDetailStatsUpdater.markCourseDetail(row.getCourseDetailId());
+    }
+
+    private void recordFailure(ReviewOutbox row, RuntimeException e) {
+        int attempts = row.getAttempts() + 1;
+        row.setAttempts(attempts);
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        row.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+        if (attempts >= MAX_ATTEMPTS) {
+            row.setStatus(ReviewOutbox.Status.FAILED);
+            System.err.println("Warning: Giving up on review for rating " + row.getRatingId() + " after "
+                    + attempts + " attempts: " + message);
+        } else {
+            long backoffSeconds = Math.min(MAX_BACKOFF_SECONDS, 1L << attempts);
+            row.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoffSeconds));
+        }
+        reviewOutboxRepository.save(row);
+    }
+}
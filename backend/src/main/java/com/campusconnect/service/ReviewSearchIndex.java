@@ -0,0 +1,456 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.ReviewSearchHitDto;
+import com.campusconnect.entity.Review;
+import com.campusconnect.repository.ReviewRepository;
+import com.campusconnect.util.LongObjectHashMap;
+import com.campusconnect.util.ReplayingLock;
+import com.campusconnect.util.TextTokenizer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Positional inverted index over review title and content, partitioned by course detail and
+ * by professor so a query only looks at one target's reviews. Supports plain terms, quoted
+ * phrases ("group project") and prefixes (attend*); all clauses must match. Review text is
+ * kept in memory so hits and snippets are served without reading the reviews table. Kept up
+ * to date by ReviewServiceImpl and the review outbox dispatcher, and rebuilt at startup;
+ * writes that arrive while a rebuild is loading are replayed on top of its snapshot. Until
+ * the first rebuild finishes, searches return no hits rather than loading the index inline.
+ */
+@Component
+public class ReviewSearchIndex {
+
+    static final int MAX_RESULTS = 50;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    // Snippet window in content tokens around the first match
+    private static final int SNIPPET_TOKENS_BEFORE = 8;
+    private static final int SNIPPET_TOKENS = 32;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private final ReplayingLock lock = new ReplayingLock();
+    private final LongObjectHashMap<Doc> docs = new LongObjectHashMap<>();
+    private final Map<String, Partition> partitions = new HashMap<>();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.rebuild(() -> {
+            List<Doc> built = new ArrayList<>();
+            for (Object[] row : reviewRepository.findSearchRows()) {
+                built.add(docOf(row));
+            }
+            return built;
+        }, built -> {
+            docs.clear();
+            partitions.clear();
+            built.forEach(this::addLocked);
+            ready = true;
+        });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Add or replace a review's entry
+    public void index(Review review) {
+        if (review == null || review.getReviewId() == null) {
+            return;
+        }
+        Doc doc = new Doc(review.getReviewId(),
+                review.getCourseDetail() != null ? review.getCourseDetail().getCourseId() : null,
+                review.getProfessor() != null ? review.getProfessor().getProfessorId() : null,
+                review.getTitle(), review.getContent(), review.getCreatedAt());
+        lock.write(() -> {
+            removeLocked(doc.reviewId);
+            addLocked(doc);
+        });
+    }
+
+    // Reviews written by the outbox dispatcher only exist as rows, so they are indexed from their ratings
+    public void indexByRatingIds(Collection<Long> ratingIds) {
+        if (ratingIds.isEmpty()) {
+            return;
+        }
+        List<Doc> built = new ArrayList<>();
+        for (Object[] row : reviewRepository.findSearchRowsByRatingIds(ratingIds)) {
+            built.add(docOf(row));
+        }
+        lock.write(() -> {
+            for (Doc doc : built) {
+                removeLocked(doc.reviewId);
+                addLocked(doc);
+            }
+        });
+    }
+
+    public void remove(Long reviewId) {
+        if (reviewId == null) {
+            return;
+        }
+        lock.write(() -> removeLocked(reviewId));
+    }
+
+    public List<ReviewSearchHitDto> searchCourseDetail(Long courseDetailId, String query, int limit) {
+        return search(courseDetailKey(courseDetailId), query, limit);
+    }
+
+    public List<ReviewSearchHitDto> searchProfessor(Long professorId, String query, int limit) {
+        return search(professorKey(professorId), query, limit);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<ReviewSearchHitDto> search(String partitionKey, String query, int limit) {
+        List<Clause> clauses = parse(query);
+        if (clauses.isEmpty() || limit <= 0 || !ready) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            Partition partition = partitions.get(partitionKey);
+            if (partition == null) {
+                return new ArrayList<>();
+            }
+            Map<Long, Match> matches = null;
+            for (Clause clause : clauses) {
+                Map<Long, Set<Integer>> clauseHits = match(partition, clause);
+                if (clauseHits.isEmpty()) {
+                    return new ArrayList<>();
+                }
+                double idf = Math.log(1 + (double) partition.docCount / clauseHits.size());
+                Map<Long, Match> next = new HashMap<>();
+                for (Map.Entry<Long, Set<Integer>> hit : clauseHits.entrySet()) {
+                    Match match = matches == null ? new Match() : matches.get(hit.getKey());
+                    if (match != null) {
+                        match.score += idf * (1 + Math.log(hit.getValue().size()));
+                        match.positions.addAll(hit.getValue());
+                        next.put(hit.getKey(), match);
+                    }
+                }
+                matches = next;
+                if (matches.isEmpty()) {
+                    return new ArrayList<>();
+                }
+            }
+
+            List<Map.Entry<Long, Match>> ranked = new ArrayList<>(matches.entrySet());
+            // Best score first; newer (higher ID) reviews break ties
+            ranked.sort((a, b) -> {
+                int byScore = Double.compare(b.getValue().score, a.getValue().score);
+                return byScore != 0 ? byScore : Long.compare(b.getKey(), a.getKey());
+            });
+            List<ReviewSearchHitDto> hits = new ArrayList<>();
+            for (Map.Entry<Long, Match> entry : ranked.subList(0, Math.min(limit, ranked.size()))) {
+                Doc doc = docs.get(entry.getKey());
+                hits.add(new ReviewSearchHitDto(doc.reviewId, doc.title,
+                        snippet(doc, entry.getValue().positions), doc.createdAt, entry.getValue().score));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -------------------------------
+    // PRIVATE HELPERS (callers hold the lock where noted)
+    // -------------------------------
+
+    // Matched token positions per review for one clause (read lock held)
+    private Map<Long, Set<Integer>> match(Partition partition, Clause clause) {
+        Map<Long, Set<Integer>> hits = new HashMap<>();
+        if (clause.tokens.length == 1) {
+            String token = clause.tokens[0];
+            Collection<String> terms = clause.prefix ? expand(partition, token) : List.of(token);
+            for (String term : terms) {
+                Set<Long> reviewIds = partition.postings.get(term);
+                if (reviewIds == null) {
+                    continue;
+                }
+                for (Long reviewId : reviewIds) {
+                    Set<Integer> positions = hits.computeIfAbsent(reviewId, id -> new HashSet<>());
+                    for (int position : docs.get(reviewId).positions.get(term)) {
+                        positions.add(position);
+                    }
+                }
+            }
+            return hits;
+        }
+
+        // Phrase: candidates contain every token, then check consecutive positions
+        Set<Long> candidates = null;
+        for (String token : clause.tokens) {
+            Set<Long> reviewIds = partition.postings.get(token);
+            if (reviewIds == null) {
+                return hits;
+            }
+            if (candidates == null) {
+                candidates = new HashSet<>(reviewIds);
+            } else {
+                candidates.retainAll(reviewIds);
+            }
+        }
+        for (Long reviewId : candidates) {
+            Map<String, int[]> positions = docs.get(reviewId).positions;
+            for (int start : positions.get(clause.tokens[0])) {
+                boolean phrase = true;
+                for (int i = 1; i < clause.tokens.length && phrase; i++) {
+                    phrase = Arrays.binarySearch(positions.get(clause.tokens[i]), start + i) >= 0;
+                }
+                if (phrase) {
+                    Set<Integer> matched = hits.computeIfAbsent(reviewId, id -> new HashSet<>());
+                    for (int i = 0; i < clause.tokens.length; i++) {
+                        matched.add(start + i);
+                    }
+                }
+            }
+        }
+        return hits;
+    }
+
+    private static List<String> expand(Partition partition, String prefix) {
+        List<String> terms = new ArrayList<>();
+        for (String term : partition.postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).keySet()) {
+            if (terms.size() == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            terms.add(term);
+        }
+        return terms;
+    }
+
+    // Terms, "quoted phrases" and trailing-* prefixes; punctuation inside words splits them like the tokenizer does
+    static List<Clause> parse(String query) {
+        List<Clause> clauses = new ArrayList<>();
+        if (query == null) {
+            return clauses;
+        }
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '"') {
+                int close = query.indexOf('"', i + 1);
+                int end = close < 0 ? query.length() : close;
+                List<String> tokens = TextTokenizer.tokenize(query.substring(i + 1, end));
+                if (!tokens.isEmpty()) {
+                    clauses.add(new Clause(tokens.toArray(new String[0]), false));
+                }
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < query.length() && !Character.isWhitespace(query.charAt(end)) && query.charAt(end) != '"') {
+                    end++;
+                }
+                String word = query.substring(i, end);
+                List<String> tokens = TextTokenizer.tokenize(word);
+                for (int t = 0; t < tokens.size(); t++) {
+                    boolean prefix = t == tokens.size() - 1 && word.endsWith("*");
+                    clauses.add(new Clause(new String[]{tokens.get(t)}, prefix));
+                }
+                i = end;
+            }
+        }
+        return clauses;
+    }
+
+    // HTML-escaped content window around the first match, matched tokens wrapped in <mark>
+    private static String snippet(Doc doc, Set<Integer> matched) {
+        String content = doc.content != null ? doc.content : "";
+        List<int[]> spans = TextTokenizer.spans(content);
+        int first = -1;
+        for (int position : matched) {
+            int index = position - doc.contentStart;
+            if (index >= 0 && (first < 0 || index < first)) {
+                first = index;
+            }
+        }
+        // Title-only matches show the start of the review
+        int from = Math.max(0, first - SNIPPET_TOKENS_BEFORE);
+        int to = Math.min(spans.size(), from + SNIPPET_TOKENS);
+        if (from >= to) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        if (from > 0) {
+            sb.append("…");
+        }
+        int cursor = spans.get(from)[0];
+        for (int t = from; t < to; t++) {
+            int[] span = spans.get(t);
+            escape(sb, content, cursor, span[0]);
+            boolean hit = matched.contains(doc.contentStart + t);
+            if (hit) {
+                sb.append("<mark>");
+            }
+            escape(sb, content, span[0], span[1]);
+            if (hit) {
+                sb.append("</mark>");
+            }
+            cursor = span[1];
+        }
+        if (to < spans.size()) {
+            sb.append("…");
+        }
+        return sb.toString();
+    }
+
+    private static void escape(StringBuilder sb, String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '&' -> sb.append("&amp;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+    }
+
+    private static Doc docOf(Object[] row) {
+        return new Doc(((Number) row[0]).longValue(),
+                row[1] != null ? ((Number) row[1]).longValue() : null,
+                row[2] != null ? ((Number) row[2]).longValue() : null,
+                (String) row[3], (String) row[4], (LocalDateTime) row[5]);
+    }
+
+    private static String courseDetailKey(Long courseDetailId) {
+        return "c:" + courseDetailId;
+    }
+
+    private static String professorKey(Long professorId) {
+        return "p:" + professorId;
+    }
+
+    private void addLocked(Doc doc) {
+        docs.put(doc.reviewId, doc);
+        for (String key : doc.partitionKeys()) {
+            Partition partition = partitions.computeIfAbsent(key, k -> new Partition());
+            partition.docCount++;
+            for (String term : doc.positions.keySet()) {
+                partition.postings.computeIfAbsent(term, t -> new HashSet<>()).add(doc.reviewId);
+            }
+        }
+    }
+
+    private void removeLocked(long reviewId) {
+        Doc doc = docs.remove(reviewId);
+        if (doc == null) {
+            return;
+        }
+        for (String key : doc.partitionKeys()) {
+            Partition partition = partitions.get(key);
+            if (partition == null) {
+                continue;
+            }
+            for (String term : doc.positions.keySet()) {
+                Set<Long> reviewIds = partition.postings.get(term);
+                if (reviewIds != null) {
+                    reviewIds.remove(reviewId);
+                    if (reviewIds.isEmpty()) {
+                        partition.postings.remove(term);
+                    }
+                }
+            }
+            if (--partition.docCount == 0) {
+                partitions.remove(key);
+            }
+        }
+    }
+
+    static final class Clause {
+        final String[] tokens; // more than one token = phrase
+        final boolean prefix;
+
+        Clause(String[] tokens, boolean prefix) {
+            this.tokens = tokens;
+            this.prefix = prefix;
+        }
+    }
+
+    private static final class Match {
+        double score;
+        final Set<Integer> positions = new HashSet<>();
+    }
+
+    private static final class Doc {
+        final long reviewId;
+        final Long courseDetailId;
+        final Long professorId;
+        final String title;
+        final String content;
+        final LocalDateTime createdAt;
+        // Title tokens come first; content positions start one past them so phrases never span both
+        final int contentStart;
+        final Map<String, int[]> positions = new HashMap<>();
+
+        Doc(long reviewId, Long courseDetailId, Long professorId, String title, String content, LocalDateTime createdAt) {
+            this.reviewId = reviewId;
+            this.courseDetailId = courseDetailId;
+            this.professorId = professorId;
+            this.title = title;
+            this.content = content;
+            this.createdAt = createdAt;
+
+            Map<String, List<Integer>> collected = new HashMap<>();
+            List<String> titleTokens = TextTokenizer.tokenize(title);
+            for (int i = 0; i < titleTokens.size(); i++) {
+                collected.computeIfAbsent(titleTokens.get(i), t -> new ArrayList<>()).add(i);
+            }
+            this.contentStart = titleTokens.size() + 1;
+            List<String> contentTokens = TextTokenizer.tokenize(content);
+            for (int i = 0; i < contentTokens.size(); i++) {
+                collected.computeIfAbsent(contentTokens.get(i), t -> new ArrayList<>()).add(contentStart + i);
+            }
+            // Positions are added in increasing order, so each array is sorted for binary search
+            collected.forEach((term, list) -> positions.put(term, list.stream().mapToInt(Integer::intValue).toArray()));
+        }
+
+        List<String> partitionKeys() {
+            List<String> keys = new ArrayList<>(2);
+            if (courseDetailId != null) {
+                keys.add(courseDetailKey(courseDetailId));
+            }
+            if (professorId != null) {
+                keys.add(professorKey(professorId));
+            }
+            return keys;
+        }
+    }
+
+    // Review IDs per term within one course detail or professor
+    private static final class Partition {
+        final TreeMap<String, Set<Long>> postings = new TreeMap<>();
+        int docCount;
+    }
+}
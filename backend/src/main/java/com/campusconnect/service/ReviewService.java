@@ -1,6 +1,8 @@
 package com.campusconnect.service;
 
 import com.campusconnect.dto.ReviewDto;
+import com.campusconnect.dto.ReviewPageDto;
+import com.campusconnect.dto.ReviewSearchHitDto;
 import java.util.List;
 
 public interface ReviewService {
@@ -9,6 +11,10 @@ public interface ReviewService {
     void deleteReview(Long reviewId);
     List<ReviewDto> getReviewsByCourseDetail(Long courseDetailId);
     List<ReviewDto> getReviewsByProfessor(Long professorId);
+    ReviewPageDto getCourseDetailReviewFeed(Long courseDetailId, String sort, String cursor, Integer limit);
+    ReviewPageDto getProfessorReviewFeed(Long professorId, String sort, String cursor, Integer limit);
+    List<ReviewSearchHitDto> searchCourseDetailReviews(Long courseDetailId, String query, Integer limit);
+    List<ReviewSearchHitDto> searchProfessorReviews(Long professorId, String query, Integer limit);
     List<ReviewDto> getReviewsByUser(Long userId);
     ReviewDto getReviewById(Long reviewId);
     ReviewDto markReviewHelpful(Long reviewId);
@@ -1,27 +1,49 @@
 package com.campusconnect.service;
 
 import com.campusconnect.dto.ReviewDto;
+import com.campusconnect.dto.ReviewFeedItemDto;
+import com.campusconnect.dto.ReviewPageDto;
+import com.campusconnect.dto.ReviewSearchHitDto;
 import com.campusconnect.entity.*;
 import com.campusconnect.repository.*;
+import com.campusconnect.util.AfterCommit;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewServiceImpl implements ReviewService {
 
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    // Feed orders; each is backed by a (target, sort column, review_id) index on reviews
+    enum FeedSort { HELPFUL, NEWEST }
+
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final RatingRepository ratingRepository;
     private final CourseDetailRepository courseDetailRepository;
     private final ProfessorRepository professorRepository;
+    private final CourseIdentityResolver courseIdentityResolver;
+    private final CourseDetailStatsUpdater courseDetailStatsUpdater;
+    private final HelpfulVoteCounter helpfulVoteCounter;
+    private final ReviewHelpfulJdbcRepository reviewHelpfulJdbcRepository;
+    private final ReviewSearchIndex reviewSearchIndex;
 
     @Override
     @Transactional(propagation = org.springframework.transaction.annotation.Propagation.REQUIRES_NEW)
@@ -42,21 +64,27 @@ public class ReviewServiceImpl implements ReviewService {
         review.setTitle(reviewDto.getTitle());
         review.setHelpfulCount(0);
 
+        Long courseDetailId = reviewDto.getCourseDetailId();
+
         // Link to rating if provided (optional, don't fail if not found)
         if (reviewDto.getRatingId() != null) {
             Rating rating = ratingRepository.findById(reviewDto.getRatingId()).orElse(null);
             if (rating != null) {
                 review.setRating(rating);
+                // A course rating's review belongs to the CourseDetail its Course row stands in for
+                if (courseDetailId == null && rating.getCourse() != null) {
+                    courseDetailId = courseIdentityResolver.findCourseDetailId(rating.getCourse().getCourseId());
+                }
             }
         }
 
         // Link to course detail if provided
-        if (reviewDto.getCourseDetailId() != null) {
-            CourseDetail courseDetail = courseDetailRepository.findById(reviewDto.getCourseDetailId()).orElse(null);
+        if (courseDetailId != null) {
+            CourseDetail courseDetail = courseDetailRepository.findById(courseDetailId).orElse(null);
             if (courseDetail != null) {
                 review.setCourseDetail(courseDetail);
             } else {
-                throw new EntityNotFoundException("Course detail not found with ID: " + reviewDto.getCourseDetailId());
+                throw new EntityNotFoundException("Course detail not found with ID: " + courseDetailId);
             }
         }
 
@@ -76,6 +104,8 @@ public class ReviewServiceImpl implements ReviewService {
         }
 
         Review saved = reviewRepository.save(review);
+        AfterCommit.run(() -> reviewSearchIndex.index(saved));
+        markCourseDetailStats(saved);
         return convertToDto(saved);
     }
 
@@ -99,7 +129,9 @@ public class ReviewServiceImpl implements ReviewService {
         }
         review.setUpdatedAt(java.time.LocalDateTime.now());
 
-        return convertToDto(reviewRepository.save(review));
+        Review saved = reviewRepository.save(review);
+        AfterCommit.run(() -> reviewSearchIndex.index(saved));
+        return convertToDto(saved);
     }
 
     @Override
@@ -115,6 +147,18 @@ public class ReviewServiceImpl implements ReviewService {
         }
 
         reviewRepository.delete(review);
+        reviewHelpfulJdbcRepository.deleteVotes(reviewId);
+        helpfulVoteCounter.discard(reviewId);
+        AfterCommit.run(() -> reviewSearchIndex.remove(reviewId));
+        markCourseDetailStats(review);
+    }
+
+    // The review count on course_details is refreshed by the stats updater once this commits
+    private void markCourseDetailStats(Review review) {
+        if (review.getCourseDetail() != null) {
+            Long courseDetailId = review.getCourseDetail().getCourseId();
+            AfterCommit.run(() -> courseDetailStatsUpdater.markCourseDetail(courseDetailId));
+        }
     }
 
     @Override
@@ -137,6 +181,112 @@ public class ReviewServiceImpl implements ReviewService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ReviewPageDto getCourseDetailReviewFeed(Long courseDetailId, String sort, String cursor, Integer limit) {
+        return loadFeed(courseDetailId, true, sort, cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReviewPageDto getProfessorReviewFeed(Long professorId, String sort, String cursor, Integer limit) {
+        return loadFeed(professorId, false, sort, cursor, limit);
+    }
+
+    @Override
+    public List<ReviewSearchHitDto> searchCourseDetailReviews(Long courseDetailId, String query, Integer limit) {
+        return reviewSearchIndex.searchCourseDetail(courseDetailId, query, searchLimit(limit));
+    }
+
+    @Override
+    public List<ReviewSearchHitDto> searchProfessorReviews(Long professorId, String query, Integer limit) {
+        return reviewSearchIndex.searchProfessor(professorId, query, searchLimit(limit));
+    }
+
+    private static int searchLimit(Integer limit) {
+        return (limit == null || limit <= 0) ? ReviewSearchIndex.MAX_RESULTS : Math.min(limit, ReviewSearchIndex.MAX_RESULTS);
+    }
+
+    private ReviewPageDto loadFeed(Long targetId, boolean courseDetail, String sort, String cursor, Integer limit) {
+        FeedSort feedSort = parseSort(sort);
+        int pageSize = (limit == null || limit <= 0) ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        // Fetch one extra row to know whether another page exists
+        Pageable window = PageRequest.of(0, pageSize + 1);
+
+        List<ReviewFeedItemDto> rows;
+        if (cursor == null || cursor.trim().isEmpty()) {
+            rows = feedSort == FeedSort.HELPFUL
+                    ? (courseDetail ? reviewRepository.findCourseDetailFeedByHelpful(targetId, window)
+                                    : reviewRepository.findProfessorFeedByHelpful(targetId, window))
+                    : (courseDetail ? reviewRepository.findCourseDetailFeedByNewest(targetId, window)
+                                    : reviewRepository.findProfessorFeedByNewest(targetId, window));
+        } else {
+            String[] position = decodeFeedCursor(cursor.trim(), feedSort);
+            Long reviewId = Long.parseLong(position[1]);
+            if (feedSort == FeedSort.HELPFUL) {
+                Integer helpfulCount = Integer.parseInt(position[0]);
+                rows = courseDetail
+                        ? reviewRepository.findCourseDetailFeedByHelpfulAfter(targetId, helpfulCount, reviewId, window)
+                        : reviewRepository.findProfessorFeedByHelpfulAfter(targetId, helpfulCount, reviewId, window);
+            } else {
+                LocalDateTime createdAt = LocalDateTime.parse(position[0]);
+                rows = courseDetail
+                        ? reviewRepository.findCourseDetailFeedByNewestAfter(targetId, createdAt, reviewId, window)
+                        : reviewRepository.findProfessorFeedByNewestAfter(targetId, createdAt, reviewId, window);
+            }
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ReviewFeedItemDto> items = new ArrayList<>(hasMore ? rows.subList(0, pageSize) : rows);
+        String nextCursor = null;
+        if (hasMore) {
+            // Built from the stored count, before pending votes are added for display
+            ReviewFeedItemDto last = items.get(items.size() - 1);
+            String key = feedSort == FeedSort.HELPFUL ? String.valueOf(last.getHelpfulCount()) : last.getCreatedAt().toString();
+            nextCursor = encodeFeedCursor(feedSort, key, last.getReviewId());
+        }
+        for (ReviewFeedItemDto item : items) {
+            item.setHelpfulCount((int) (item.getHelpfulCount() + helpfulVoteCounter.pendingFor(item.getReviewId())));
+        }
+        return new ReviewPageDto(items, feedSort.name().toLowerCase(Locale.ROOT), nextCursor, pageSize);
+    }
+
+    private static FeedSort parseSort(String sort) {
+        if (sort == null || sort.trim().isEmpty()) {
+            return FeedSort.HELPFUL;
+        }
+        try {
+            return FeedSort.valueOf(sort.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid sort: " + sort + " (expected helpful or newest)");
+        }
+    }
+
+    // Cursor = base64url("SORT|sortKey|reviewId"); opaque to clients and only valid for the sort that issued it
+    static String encodeFeedCursor(FeedSort sort, String sortKey, Long reviewId) {
+        String raw = sort.name() + "|" + sortKey + "|" + reviewId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decodeFeedCursor(String cursor, FeedSort sort) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3 || !parts[0].equals(sort.name())) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            // Validate both keys here so callers can parse them without further checks
+            if (sort == FeedSort.HELPFUL) {
+                Integer.parseInt(parts[1]);
+            } else {
+                LocalDateTime.parse(parts[1]);
+            }
+            Long.parseLong(parts[2]);
+            return new String[]{parts[1], parts[2]};
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ReviewDto> getReviewsByUser(Long userId) {
@@ -159,8 +309,17 @@ public class ReviewServiceImpl implements ReviewService {
     public ReviewDto markReviewHelpful(Long reviewId) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new EntityNotFoundException("Review not found"));
-        review.setHelpfulCount(review.getHelpfulCount() + 1);
-        return convertToDto(reviewRepository.save(review));
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth.getName() == null) {
+            throw new SecurityException("User not authenticated");
+        }
+        User user = userRepository.findByEmail(auth.getName())
+                .orElseThrow(() -> new EntityNotFoundException("Authenticated user not found"));
+
+        // A repeated vote is a no-op; the count is written behind by HelpfulVoteCounter
+        helpfulVoteCounter.vote(reviewId, user.getUserId());
+        return convertToDto(review);
     }
 
     private ReviewDto convertToDto(Review review) {
@@ -168,7 +327,8 @@ public class ReviewServiceImpl implements ReviewService {
         dto.setReviewId(review.getReviewId());
         dto.setContent(review.getContent());
         dto.setTitle(review.getTitle());
-        dto.setHelpfulCount(review.getHelpfulCount());
+        int helpfulCount = review.getHelpfulCount() != null ? review.getHelpfulCount() : 0;
+        dto.setHelpfulCount((int) (helpfulCount + helpfulVoteCounter.pendingFor(review.getReviewId())));
         dto.setCreatedAt(review.getCreatedAt());
         dto.setUpdatedAt(review.getUpdatedAt());
 
@@ -3,10 +3,14 @@ package com.campusconnect.service;
 import com.campusconnect.dto.UserDto;
 import com.campusconnect.entity.Project;
 import com.campusconnect.entity.User;
+import com.campusconnect.event.ProjectCatalogChangedEvent;
 import com.campusconnect.mapper.UserMapper;
+import com.campusconnect.repository.ProjectMemberRepository;
 import com.campusconnect.repository.ProjectRepository;
 import com.campusconnect.repository.UserRepository;
+import com.campusconnect.util.AfterCommit;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -23,6 +27,24 @@ public class StudentServiceImpl implements StudentService {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private ProjectRecommendationIndex projectRecommendationIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ProfileImageStore profileImageStore;
+
+    @Autowired
+    private ProfileThumbnailService profileThumbnailService;
+
+    @Autowired
+    private TeammateIndex teammateIndex;
+
    @Override
     public UserDto getProfile(Long id) {
         User user = userRepository.findById(id)
@@ -37,7 +59,12 @@ public class StudentServiceImpl implements StudentService {
                 .orElseThrow(() -> new RuntimeException("Student not found"));
 
         UserMapper.updateUserFromDto(user, userDto);
+        if (userDto.getProfileImage() != null) {
+            user.setProfileImageHash(profileImageStore.store(userDto.getProfileImage()));
+            profileThumbnailService.generateAfterCommit(user.getProfileImageHash());
+        }
         userRepository.save(user);
+        teammateIndex.index(user);
 
         return UserMapper.toDto(user);
     }
@@ -72,5 +99,8 @@ public class StudentServiceImpl implements StudentService {
 
         project.getMembers().add(student);
         projectRepository.save(project);
+        int memberCount = (int) projectMemberRepository.countByProject_ProjectId(projectId);
+        AfterCommit.run(() -> projectRecommendationIndex.updateMemberCount(projectId, memberCount));
+        eventPublisher.publishEvent(ProjectCatalogChangedEvent.membersChanged(projectId));
     }
 }
@@ -0,0 +1,158 @@
+package com.campusconnect.service;
+
+import com.campusconnect.entity.Interest;
+import com.campusconnect.entity.Skill;
+import com.campusconnect.repository.InterestRepository;
+import com.campusconnect.repository.SkillRepository;
+import com.campusconnect.repository.TagJdbcRepository;
+import com.campusconnect.util.AfterCommit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Shared name -> Skill / Interest dictionary used when users and projects are tagged.
+ * Names are matched case-insensitively after trimming. Hits never touch the database;
+ * misses cost one IN query, plus one batched insert and one locking re-read for new names.
+ * Names longer than the column are rejected with IllegalArgumentException.
+ * Entries are only cached after the surrounding transaction commits.
+ */
+@Component
+public class TagDictionary {
+
+    // skills.name / interests.name column length
+    public static final int MAX_NAME_LENGTH = 50;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private InterestRepository interestRepository;
+
+    @Autowired
+    private TagJdbcRepository tagJdbcRepository;
+
+    private final ConcurrentHashMap<String, Skill> skills = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Interest> interests = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (Skill skill : skillRepository.findAll()) {
+            skills.putIfAbsent(normalize(skill.getName()), copySkill(skill));
+        }
+        for (Interest interest : interestRepository.findAll()) {
+            interests.putIfAbsent(normalize(interest.getName()), copyInterest(interest));
+        }
+    }
+
+    @Transactional
+    public Set<Skill> resolveSkills(Collection<String> names) {
+        return resolve(names, skills, Skill::getName, TagDictionary::copySkill,
+                skillRepository::findByNameIn, skillRepository::findLockedByNameIn,
+                tagJdbcRepository::insertSkillsIfAbsent);
+    }
+
+    @Transactional
+    public Set<Interest> resolveInterests(Collection<String> names) {
+        return resolve(names, interests, Interest::getName, TagDictionary::copyInterest,
+                interestRepository::findByNameIn, interestRepository::findLockedByNameIn,
+                tagJdbcRepository::insertInterestsIfAbsent);
+    }
+
+    private <T> Set<T> resolve(Collection<String> rawNames,
+                               ConcurrentHashMap<String, T> cache,
+                               Function<T, String> nameOf,
+                               Function<T, T> copier,
+                               Function<Collection<String>, List<T>> find,
+                               Function<Collection<String>, List<T>> lockingFind,
+                               Consumer<Collection<String>> insertIfAbsent) {
+        Set<T> result = new HashSet<>();
+        if (rawNames == null) {
+            return result;
+        }
+
+        // normalized key -> name as first typed (used if we have to create it)
+        Map<String, String> misses = new LinkedHashMap<>();
+        for (String raw : rawNames) {
+            if (raw == null || raw.trim().isEmpty()) {
+                continue;
+            }
+            String name = raw.trim();
+            if (name.length() > MAX_NAME_LENGTH) {
+                throw new IllegalArgumentException("Tag names must be at most " + MAX_NAME_LENGTH + " characters: " + name);
+            }
+            String key = normalize(name);
+            T cached = cache.get(key);
+            if (cached != null) {
+                result.add(cached);
+            } else {
+                misses.putIfAbsent(key, name);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        List<T> loaded = new ArrayList<>();
+        collect(find.apply(new ArrayList<>(misses.values())), misses, nameOf, copier, result, loaded);
+        if (!misses.isEmpty()) {
+            insertIfAbsent.accept(new ArrayList<>(misses.values()));
+            collect(lockingFind.apply(new ArrayList<>(misses.values())), misses, nameOf, copier, result, loaded);
+        }
+        if (!misses.isEmpty()) {
+            throw new IllegalStateException("Could not resolve tags: " + misses.values());
+        }
+
+        AfterCommit.run(() -> {
+            for (T entry : loaded) {
+                cache.putIfAbsent(normalize(nameOf.apply(entry)), entry);
+            }
+        });
+        return result;
+    }
+
+    private static <T> void collect(List<T> rows, Map<String, String> misses, Function<T, String> nameOf,
+                                    Function<T, T> copier, Set<T> result, List<T> loaded) {
+        for (T row : rows) {
+            String key = normalize(nameOf.apply(row));
+            if (misses.remove(key) != null) {
+                T entry = copier.apply(row);
+                result.add(entry);
+                loaded.add(entry);
+            }
+        }
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Cache detached id/name snapshots, never instances owned by a persistence context
+    private static Skill copySkill(Skill skill) {
+        Skill snapshot = new Skill();
+        snapshot.setSkillId(skill.getSkillId());
+        snapshot.setName(skill.getName());
+        return snapshot;
+    }
+
+    private static Interest copyInterest(Interest interest) {
+        Interest snapshot = new Interest();
+        snapshot.setInterestId(interest.getInterestId());
+        snapshot.setName(interest.getName());
+        return snapshot;
+    }
+}
@@ -0,0 +1,403 @@
+package com.campusconnect.service;
+
+import com.campusconnect.entity.Interest;
+import com.campusconnect.entity.Skill;
+import com.campusconnect.entity.User;
+import com.campusconnect.repository.UserRepository;
+import com.campusconnect.util.AfterCommit;
+import com.campusconnect.util.LongObjectHashMap;
+import com.campusconnect.util.ReplayingLock;
+import com.campusconnect.util.RoaringBitmap;
+import com.campusconnect.util.TextTokenizer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * In-memory teammate search for the FindTeammates page. Every filter value (role, year,
+ * availability, skill, interest) and every name/major/skill/interest token maps to a
+ * {@link RoaringBitmap} of user IDs, so a search is a handful of bitmap intersections and
+ * results come out in user ID order, ready to page. Rebuilt at startup from column
+ * projections; writers call {@link #index(User)} / {@link #remove(Long)}, which snapshot the
+ * user right away and apply the change after commit. Changes that land while a rebuild is
+ * loading are replayed on top of its snapshot. Until the first rebuild finishes, searches fall
+ * back to a LIKE query on users so the page is never empty after a restart. Prefixes of up to two characters have their own bitmaps, so a one-letter
+ * query is a single lookup instead of a union over every token it starts.
+ */
+@Component
+public class TeammateIndex {
+
+    // Word prefixes up to this length are indexed directly; longer ones expand through the token maps
+    static final int SHORT_PREFIX_LENGTH = 2;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final ReplayingLock lock = new ReplayingLock();
+    private final LongObjectHashMap<Profile> profiles = new LongObjectHashMap<>();
+    private final Map<User.Role, RoaringBitmap> byRole = new EnumMap<>(User.Role.class);
+    private final Map<User.Year, RoaringBitmap> byYear = new EnumMap<>(User.Year.class);
+    private final Map<User.Availability, RoaringBitmap> byAvailability = new EnumMap<>(User.Availability.class);
+    private final Map<String, RoaringBitmap> bySkill = new HashMap<>();
+    private final Map<String, RoaringBitmap> byInterest = new HashMap<>();
+    private final TreeMap<String, RoaringBitmap> nameTokens = new TreeMap<>();
+    private final TreeMap<String, RoaringBitmap> majorTokens = new TreeMap<>();
+    private final TreeMap<String, RoaringBitmap> skillTokens = new TreeMap<>();
+    private final TreeMap<String, RoaringBitmap> interestTokens = new TreeMap<>();
+    private final Map<String, RoaringBitmap> namePrefixes = new HashMap<>();
+    private final Map<String, RoaringBitmap> majorPrefixes = new HashMap<>();
+    private final Map<String, RoaringBitmap> skillPrefixes = new HashMap<>();
+    private final Map<String, RoaringBitmap> interestPrefixes = new HashMap<>();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.rebuild(() -> {
+            Map<Long, Profile> built = new HashMap<>();
+            for (Object[] row : userRepository.findTeammateIndexRows()) {
+                long userId = ((Number) row[0]).longValue();
+                if (!fitsId(userId)) {
+                    continue;
+                }
+                Profile profile = new Profile((int) userId, (User.Role) row[2],
+                        (User.Year) row[4], (User.Availability) row[5], (String) row[1], (String) row[3]);
+                built.put(userId, profile);
+            }
+            for (Object[] row : userRepository.findUserSkillNameRows()) {
+                Profile profile = built.get(((Number) row[0]).longValue());
+                if (profile != null) {
+                    profile.addSkill((String) row[1]);
+                }
+            }
+            for (Object[] row : userRepository.findUserInterestNameRows()) {
+                Profile profile = built.get(((Number) row[0]).longValue());
+                if (profile != null) {
+                    profile.addInterest((String) row[1]);
+                }
+            }
+            return built;
+        }, built -> {
+            profiles.clear();
+            byRole.clear();
+            byYear.clear();
+            byAvailability.clear();
+            bySkill.clear();
+            byInterest.clear();
+            nameTokens.clear();
+            majorTokens.clear();
+            skillTokens.clear();
+            interestTokens.clear();
+            namePrefixes.clear();
+            majorPrefixes.clear();
+            skillPrefixes.clear();
+            interestPrefixes.clear();
+            built.values().forEach(this::addLocked);
+            ready = true;
+        });
+    }
+
+    // Add or replace a user's entry once the surrounding transaction commits
+    public void index(User user) {
+        if (user == null || user.getUserId() == null || !fitsId(user.getUserId())) {
+            return;
+        }
+        Profile profile = new Profile(user.getUserId().intValue(), user.getRole(), user.getYear(),
+                user.getAvailability(), user.getName(), user.getMajor());
+        if (user.getSkills() != null) {
+            for (Skill skill : user.getSkills()) {
+                profile.addSkill(skill.getName());
+            }
+        }
+        if (user.getInterests() != null) {
+            for (Interest interest : user.getInterests()) {
+                profile.addInterest(interest.getName());
+            }
+        }
+        AfterCommit.run(() -> lock.write(() -> {
+            removeLocked(profile.id);
+            addLocked(profile);
+        }));
+    }
+
+    public void remove(Long userId) {
+        // IDs beyond the int range were never indexed
+        if (userId == null || userId < 0 || userId > Integer.MAX_VALUE) {
+            return;
+        }
+        int id = userId.intValue();
+        AfterCommit.run(() -> lock.write(() -> removeLocked(id)));
+    }
+
+    /**
+     * Students matching every given filter; null/blank/"all" filters are ignored. search and
+     * major match word prefixes (each query word must match); year, availability, skill and
+     * interest are exact, case-insensitive. Until the startup rebuild has finished the users
+     * table is searched instead, matching search and major as substrings.
+     */
+    public RoaringBitmap search(String search, String major, String year, String availability,
+                                String skill, String interest) {
+        if (!ready) {
+            return searchDatabase(search, major, year, availability, skill, interest);
+        }
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = byRole.get(User.Role.STUDENT);
+            if (result == null) {
+                return new RoaringBitmap();
+            }
+            if (isSet(year)) {
+                result = and(result, byYear.get(enumValue(User.Year.values(), year)));
+            }
+            if (isSet(availability)) {
+                result = and(result, byAvailability.get(enumValue(User.Availability.values(), availability)));
+            }
+            if (isSet(skill)) {
+                result = and(result, bySkill.get(normalize(skill)));
+            }
+            if (isSet(interest)) {
+                result = and(result, byInterest.get(normalize(interest)));
+            }
+            if (isSet(major)) {
+                for (String token : TextTokenizer.tokenize(major)) {
+                    result = and(result, prefixUnion(majorTokens, majorPrefixes, token));
+                }
+            }
+            if (search != null && !search.trim().isEmpty()) {
+                for (String token : TextTokenizer.tokenize(search)) {
+                    RoaringBitmap anyField = RoaringBitmap.or(
+                            RoaringBitmap.or(prefixUnion(nameTokens, namePrefixes, token),
+                                    prefixUnion(majorTokens, majorPrefixes, token)),
+                            RoaringBitmap.or(prefixUnion(skillTokens, skillPrefixes, token),
+                                    prefixUnion(interestTokens, interestPrefixes, token)));
+                    result = and(result, anyField);
+                }
+            }
+            // Never hand out the live role bitmap
+            return result == byRole.get(User.Role.STUDENT) ? result.copy() : result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return profiles.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -------------------------------
+    // PRIVATE HELPERS (callers hold the lock where noted)
+    // -------------------------------
+
+    private static RoaringBitmap and(RoaringBitmap result, RoaringBitmap filter) {
+        return filter == null ? new RoaringBitmap() : RoaringBitmap.and(result, filter);
+    }
+
+    // Users with a token starting with prefix: one lookup for short prefixes, else a union over
+    // every matching token (read lock held)
+    private static RoaringBitmap prefixUnion(TreeMap<String, RoaringBitmap> tokens,
+                                             Map<String, RoaringBitmap> shortPrefixes, String prefix) {
+        if (prefix.length() <= SHORT_PREFIX_LENGTH) {
+            RoaringBitmap bitmap = shortPrefixes.get(prefix);
+            return bitmap != null ? bitmap : new RoaringBitmap();
+        }
+        RoaringBitmap union = new RoaringBitmap();
+        for (RoaringBitmap bitmap : tokens.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            union = RoaringBitmap.or(union, bitmap);
+        }
+        return union;
+    }
+
+    private static Set<String> shortPrefixes(Set<String> tokens) {
+        Set<String> prefixes = new HashSet<>();
+        for (String token : tokens) {
+            for (int length = 1; length <= Math.min(SHORT_PREFIX_LENGTH, token.length()); length++) {
+                prefixes.add(token.substring(0, length));
+            }
+        }
+        return prefixes;
+    }
+
+    private static boolean isSet(String filter) {
+        return filter != null && !filter.trim().isEmpty() && !filter.trim().equalsIgnoreCase("all");
+    }
+
+    private static <E extends Enum<E>> E enumValue(E[] values, String name) {
+        for (E value : values) {
+            if (value.name().equalsIgnoreCase(name.trim())) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Same filters as search, answered by the database while the index is still loading
+    private RoaringBitmap searchDatabase(String search, String major, String year, String availability,
+                                         String skill, String interest) {
+        User.Year yearValue = isSet(year) ? enumValue(User.Year.values(), year) : null;
+        User.Availability availabilityValue = isSet(availability)
+                ? enumValue(User.Availability.values(), availability) : null;
+        if ((isSet(year) && yearValue == null) || (isSet(availability) && availabilityValue == null)) {
+            return new RoaringBitmap();
+        }
+        RoaringBitmap result = new RoaringBitmap();
+        for (Long userId : userRepository.searchTeammateIds(User.Role.STUDENT, likePattern(search),
+                isSet(major) ? likePattern(major) : null, yearValue, availabilityValue,
+                isSet(skill) ? normalize(skill) : null, isSet(interest) ? normalize(interest) : null)) {
+            if (fitsId(userId)) {
+                result.add(userId.intValue());
+            }
+        }
+        return result;
+    }
+
+    private static String likePattern(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        String escaped = normalize(value).replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    // Bitmaps hold ints; a user whose IDENTITY key outgrew them is left out rather than truncated
+    private static boolean fitsId(long userId) {
+        if (userId >= 0 && userId <= Integer.MAX_VALUE) {
+            return true;
+        }
+        System.err.println("Warning: User " + userId + " is outside the teammate index ID range and is not searchable");
+        return false;
+    }
+
+    private void addLocked(Profile profile) {
+        profiles.put(profile.id, profile);
+        for (RoaringBitmap bitmap : postingsOf(profile, true)) {
+            bitmap.add(profile.id);
+        }
+    }
+
+    private void removeLocked(int id) {
+        Profile profile = profiles.remove(id);
+        if (profile == null) {
+            return;
+        }
+        for (RoaringBitmap bitmap : postingsOf(profile, false)) {
+            bitmap.remove(id);
+        }
+        pruneEmpty(byRole);
+        pruneEmpty(byYear);
+        pruneEmpty(byAvailability);
+        pruneEmpty(bySkill, profile.skills);
+        pruneEmpty(byInterest, profile.interests);
+        pruneEmpty(nameTokens, profile.nameTokens);
+        pruneEmpty(majorTokens, profile.majorTokens);
+        pruneEmpty(skillTokens, profile.skillTokens);
+        pruneEmpty(interestTokens, profile.interestTokens);
+        pruneEmpty(namePrefixes, shortPrefixes(profile.nameTokens));
+        pruneEmpty(majorPrefixes, shortPrefixes(profile.majorTokens));
+        pruneEmpty(skillPrefixes, shortPrefixes(profile.skillTokens));
+        pruneEmpty(interestPrefixes, shortPrefixes(profile.interestTokens));
+    }
+
+    // Every bitmap the profile belongs to; create = false only returns existing ones
+    private List<RoaringBitmap> postingsOf(Profile profile, boolean create) {
+        List<RoaringBitmap> postings = new ArrayList<>();
+        collect(postings, byRole, profile.role, create);
+        collect(postings, byYear, profile.year, create);
+        collect(postings, byAvailability, profile.availability, create);
+        profile.skills.forEach(key -> collect(postings, bySkill, key, create));
+        profile.interests.forEach(key -> collect(postings, byInterest, key, create));
+        profile.nameTokens.forEach(key -> collect(postings, nameTokens, key, create));
+        profile.majorTokens.forEach(key -> collect(postings, majorTokens, key, create));
+        profile.skillTokens.forEach(key -> collect(postings, skillTokens, key, create));
+        profile.interestTokens.forEach(key -> collect(postings, interestTokens, key, create));
+        shortPrefixes(profile.nameTokens).forEach(key -> collect(postings, namePrefixes, key, create));
+        shortPrefixes(profile.majorTokens).forEach(key -> collect(postings, majorPrefixes, key, create));
+        shortPrefixes(profile.skillTokens).forEach(key -> collect(postings, skillPrefixes, key, create));
+        shortPrefixes(profile.interestTokens).forEach(key -> collect(postings, interestPrefixes, key, create));
+        return postings;
+    }
+
+    private static <K> void collect(List<RoaringBitmap> postings, Map<K, RoaringBitmap> map, K key, boolean create) {
+        if (key == null) {
+            return;
+        }
+        RoaringBitmap bitmap = create ? map.computeIfAbsent(key, k -> new RoaringBitmap()) : map.get(key);
+        if (bitmap != null) {
+            postings.add(bitmap);
+        }
+    }
+
+    private static <K> void pruneEmpty(Map<K, RoaringBitmap> map) {
+        map.values().removeIf(RoaringBitmap::isEmpty);
+    }
+
+    private static <K> void pruneEmpty(Map<K, RoaringBitmap> map, Collection<K> keys) {
+        for (K key : keys) {
+            RoaringBitmap bitmap = map.get(key);
+            if (bitmap != null && bitmap.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    // Snapshot of the indexed fields of one user, kept so its postings can be removed later
+    private static final class Profile {
+        final int id;
+        final User.Role role;
+        final User.Year year;
+        final User.Availability availability;
+        final Set<String> nameTokens;
+        final Set<String> majorTokens;
+        final Set<String> skills = new HashSet<>();
+        final Set<String> interests = new HashSet<>();
+        final Set<String> skillTokens = new HashSet<>();
+        final Set<String> interestTokens = new HashSet<>();
+
+        Profile(int id, User.Role role, User.Year year, User.Availability availability, String name, String major) {
+            this.id = id;
+            this.role = role;
+            this.year = year;
+            this.availability = availability;
+            this.nameTokens = new HashSet<>(TextTokenizer.tokenize(name));
+            this.majorTokens = new HashSet<>(TextTokenizer.tokenize(major));
+        }
+
+        void addSkill(String name) {
+            if (name != null && !name.trim().isEmpty()) {
+                skills.add(normalize(name));
+                skillTokens.addAll(TextTokenizer.tokenize(name));
+            }
+        }
+
+        void addInterest(String name) {
+            if (name != null && !name.trim().isEmpty()) {
+                interests.add(normalize(name));
+                interestTokens.addAll(TextTokenizer.tokenize(name));
+            }
+        }
+    }
+}
@@ -3,20 +3,23 @@ package com.campusconnect.service;
 import com.campusconnect.dto.UserDto;
 import com.campusconnect.dto.SkillDto;
 import com.campusconnect.dto.InterestDto;
+import com.campusconnect.dto.TeammatePageDto;
 import com.campusconnect.entity.User;
 import com.campusconnect.entity.Skill;
 import com.campusconnect.entity.Interest;
 import com.campusconnect.repository.UserRepository;
-import com.campusconnect.repository.ProjectMemberRepository;
 import com.campusconnect.repository.UniversityRepository;
 import com.campusconnect.repository.SkillRepository;
 import com.campusconnect.repository.InterestRepository;
+import com.campusconnect.util.RoaringBitmap;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.stream.Collectors;
@@ -24,11 +27,12 @@ import java.util.stream.Collectors;
 @Service
 public class UserService {
 
-    @Autowired
-    private UserRepository userRepository;
+    static final int MAX_TEAMMATE_PAGE_SIZE = 100;
+    // Users loaded per query, so the unpaginated list never builds one IN list of every student
+    static final int TEAMMATE_LOAD_CHUNK = 500;
 
     @Autowired
-    private ProjectMemberRepository projectMemberRepository;
+    private UserRepository userRepository;
 
     @Autowired
     private UniversityRepository universityRepository;
@@ -39,72 +43,104 @@ public class UserService {
     @Autowired
     private InterestRepository interestRepository;
 
+    @Autowired
+    private TagDictionary tagDictionary;
+
+    @Autowired
+    private TeammateIndex teammateIndex;
+
+    @Autowired
+    private ProjectCountLoader projectCountLoader;
+
+    @Autowired
+    private ProfileImageStore profileImageStore;
+
+    @Autowired
+    private ProfileThumbnailService profileThumbnailService;
+
+    @Autowired
+    private PresenceTracker presenceTracker;
+
     // ✅ Get all teammates (students only, with profile info)
     @Transactional(readOnly = true)
     public List<UserDto> getTeammates(String searchQuery, String major, String year, String availability) {
-        List<User> users = userRepository.findAll().stream()
-                .filter(u -> u.getRole() == User.Role.STUDENT) // Only students
-                .filter(u -> {
-                    // Search filter
-                    if (searchQuery != null && !searchQuery.trim().isEmpty()) {
-                        String query = searchQuery.toLowerCase();
-                        boolean matchesName = u.getName() != null && u.getName().toLowerCase().contains(query);
-                        boolean matchesMajor = u.getMajor() != null && u.getMajor().toLowerCase().contains(query);
-                        boolean matchesSkills = u.getSkills() != null && u.getSkills().stream()
-                                .anyMatch(s -> s.getName().toLowerCase().contains(query));
-                        boolean matchesInterests = u.getInterests() != null && u.getInterests().stream()
-                                .anyMatch(i -> i.getName().toLowerCase().contains(query));
-                        if (!matchesName && !matchesMajor && !matchesSkills && !matchesInterests) {
-                            return false;
-                        }
-                    }
-                    // Major filter
-                    if (major != null && !major.trim().isEmpty() && !major.equals("all")) {
-                        if (u.getMajor() == null || !u.getMajor().toLowerCase().contains(major.toLowerCase())) {
-                            return false;
-                        }
-                    }
-                    // Year filter
-                    if (year != null && !year.trim().isEmpty() && !year.equals("all")) {
-                        if (u.getYear() == null || !u.getYear().name().equalsIgnoreCase(year)) {
-                            return false;
-                        }
-                    }
-                    // Availability filter
-                    if (availability != null && !availability.trim().isEmpty() && !availability.equals("all")) {
-                        if (u.getAvailability() == null || !u.getAvailability().name().equalsIgnoreCase(availability)) {
-                            return false;
-                        }
-                    }
-                    return true;
-                })
-                .collect(Collectors.toList());
+        return getTeammates(searchQuery, major, year, availability, null, null);
+    }
 
-        return users.stream()
-                .map(this::toTeammateDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<UserDto> getTeammates(String searchQuery, String major, String year, String availability,
+                                      String skill, String interest) {
+        RoaringBitmap matches = teammateIndex.search(searchQuery, major, year, availability, skill, interest);
+        return loadTeammates(matches.toArray());
+    }
+
+    // ✅ One page of teammates (page is 0-based, ordered by user ID)
+    @Transactional(readOnly = true)
+    public TeammatePageDto getTeammatePage(String searchQuery, String major, String year, String availability,
+                                           String skill, String interest, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_TEAMMATE_PAGE_SIZE));
+        RoaringBitmap matches = teammateIndex.search(searchQuery, major, year, availability, skill, interest);
+        long offset = (long) page * pageSize;
+        int[] ids = offset >= Integer.MAX_VALUE ? new int[0] : matches.page((int) offset, pageSize);
+        return new TeammatePageDto(loadTeammates(ids), page, pageSize, matches.cardinality());
+    }
+
+    // Loads the matched users in chunks and keeps the index's ID order
+    private List<UserDto> loadTeammates(int[] ids) {
+        if (ids.length == 0) {
+            return new ArrayList<>();
+        }
+        List<Long> userIds = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            userIds.add((long) id);
+        }
+        Map<Long, User> byId = new HashMap<>();
+        for (int from = 0; from < userIds.size(); from += TEAMMATE_LOAD_CHUNK) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + TEAMMATE_LOAD_CHUNK, userIds.size()));
+            for (User user : userRepository.findAllWithProfileByIds(chunk)) {
+                byId.put(user.getUserId(), user);
+            }
+        }
+        List<UserDto> teammates = new ArrayList<>(ids.length);
+        for (Long userId : userIds) {
+            User user = byId.get(userId);
+            if (user != null) {
+                teammates.add(toTeammateDto(user));
+            }
+        }
+        projectCountLoader.fillProjectCounts(teammates);
+        return teammates;
     }
 
     // ✅ Get all users
+    @Transactional(readOnly = true)
     public List<UserDto> getAllUsers() {
-        return userRepository.findAll()
+        List<UserDto> users = userRepository.findAllWithProfile()
                 .stream()
                 .map(this::toDto)
                 .collect(Collectors.toList());
+        projectCountLoader.fillProjectCounts(users);
+        return users;
     }
 
     // ✅ Get user by ID (accepts Long)
     public UserDto getUser(Long id) {
         User user = userRepository.findById(id) // convert if repository uses Long
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        return toDto(user);
+        UserDto dto = toDto(user);
+        projectCountLoader.fillProjectCounts(dto);
+        return dto;
     }
 
     // ✅ Search users by name or skill (basic example)
+    @Transactional(readOnly = true)
     public List<UserDto> searchUsers(String name, String skill) {
-        List<User> users = userRepository.findAll(); // later replace with custom query
+        List<User> users = userRepository.findAllWithProfile(); // later replace with custom query
 
-        return users.stream()
+        List<UserDto> matches = users.stream()
                 .filter(u ->
                         (name == null || u.getName().toLowerCase().contains(name.toLowerCase())) &&
                         (skill == null || u.getSkills().stream()
@@ -112,6 +148,8 @@ public class UserService {
                 )
                 .map(this::toDto)
                 .collect(Collectors.toList());
+        projectCountLoader.fillProjectCounts(matches);
+        return matches;
     }
 
     // ✅ Update user (accepts Long)
@@ -131,7 +169,8 @@ public class UserService {
             user.setBio(userDto.getBio());
         }
         if (userDto.getProfileImage() != null) {
-            user.setProfileImage(userDto.getProfileImage());
+            user.setProfileImageHash(profileImageStore.store(userDto.getProfileImage()));
+            profileThumbnailService.generateAfterCommit(user.getProfileImageHash());
         }
 
         // Update university
@@ -162,44 +201,27 @@ public class UserService {
             user.setHoursPerWeek(userDto.getHoursPerWeek());
         }
 
-        // Update skills
+        // Update skills (resolved in bulk through the shared dictionary)
         if (userDto.getSkills() != null) {
-            Set<Skill> skills = new HashSet<>();
-            for (SkillDto skillDto : userDto.getSkills()) {
-                if (skillDto.getName() != null && !skillDto.getName().trim().isEmpty()) {
-                    final String skillName = skillDto.getName().trim();
-                    Skill skill = skillRepository.findByName(skillName)
-                            .orElseGet(() -> {
-                                Skill newSkill = new Skill();
-                                newSkill.setName(skillName);
-                                return skillRepository.save(newSkill);
-                            });
-                    skills.add(skill);
-                }
-            }
-            user.setSkills(skills);
+            List<String> skillNames = userDto.getSkills().stream()
+                    .map(SkillDto::getName)
+                    .collect(Collectors.toList());
+            user.setSkills(new HashSet<>(tagDictionary.resolveSkills(skillNames)));
         }
 
         // Update interests
         if (userDto.getInterests() != null) {
-            Set<Interest> interests = new HashSet<>();
-            for (InterestDto interestDto : userDto.getInterests()) {
-                if (interestDto.getName() != null && !interestDto.getName().trim().isEmpty()) {
-                    final String interestName = interestDto.getName().trim();
-                    Interest interest = interestRepository.findByName(interestName)
-                            .orElseGet(() -> {
-                                Interest newInterest = new Interest();
-                                newInterest.setName(interestName);
-                                return interestRepository.save(newInterest);
-                            });
-                    interests.add(interest);
-                }
-            }
-            user.setInterests(interests);
+            List<String> interestNames = userDto.getInterests().stream()
+                    .map(InterestDto::getName)
+                    .collect(Collectors.toList());
+            user.setInterests(new HashSet<>(tagDictionary.resolveInterests(interestNames)));
         }
 
         userRepository.save(user);
-        return toDto(user);
+        teammateIndex.index(user);
+        UserDto dto = toDto(user);
+        projectCountLoader.fillProjectCounts(dto);
+        return dto;
     }
 
     // ✅ Delete user (users can delete their own account)
@@ -208,44 +230,32 @@ public class UserService {
             throw new RuntimeException("User not found");
         }
         userRepository.deleteById(id);
+        teammateIndex.remove(id);
     }
 
     // ✅ Convert entity → DTO (for teammates with computed fields)
     private UserDto toTeammateDto(User user) {
         UserDto dto = new UserDto(user);
         
-        // Compute project count
-        long projectCount = projectMemberRepository.countByUser_UserId(user.getUserId());
-        dto.setProjectCount((int) projectCount);
+        // Project count is filled in for the whole list by ProjectCountLoader
         
         // For now, set a default rating (can be enhanced with user_ratings table later)
         dto.setRating(4.5); // Placeholder
         
-        // Update last_seen to determine online status (if within last 5 minutes, consider online)
-        if (user.getLastSeen() != null) {
-            long minutesSinceLastSeen = (System.currentTimeMillis() - user.getLastSeen().getTime()) / (1000 * 60);
-            // We'll handle online status in the frontend based on lastSeen
-        }
+        // Presence comes from memory; the stored last_seen may lag by up to one flush
+        dto.setLastSeen(presenceTracker.lastSeen(user.getUserId(), user.getLastSeen()));
+        dto.setOnline(presenceTracker.isOnline(user.getUserId(), user.getLastSeen()));
         
         return dto;
     }
 
-    // ✅ Convert entity → DTO
+    // ✅ Convert entity → DTO (callers fill projectCount through ProjectCountLoader)
     private UserDto toDto(User user) {
-        UserDto dto = new UserDto(user);
-        
-        // For regular user DTOs, we can also include project count if needed
-        long projectCount = projectMemberRepository.countByUser_UserId(user.getUserId());
-        dto.setProjectCount((int) projectCount);
-        
-        return dto;
+        return new UserDto(user);
     }
 
-    // ✅ Update last seen timestamp (call this when user is active)
+    // ✅ Record a heartbeat (call this when user is active); written to users.last_seen in batches
     public void updateLastSeen(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        user.setLastSeen(new Timestamp(System.currentTimeMillis()));
-        userRepository.save(user);
+        presenceTracker.touch(userId);
     }
 }
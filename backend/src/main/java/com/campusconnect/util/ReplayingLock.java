@@ -0,0 +1,70 @@
+package com.campusconnect.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Read/write lock for an in-memory index that is rebuilt from the database while it keeps serving.
+ * The snapshot is loaded outside the lock; writes that arrive meanwhile are applied immediately
+ * and recorded, then replayed on top of the snapshot once it is installed, so none are lost.
+ */
+public final class ReplayingLock {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Writes applied while a snapshot is loading (guarded by lock; null when no rebuild is running)
+    private List<Runnable> replay;
+
+    public Lock readLock() {
+        return lock.readLock();
+    }
+
+    // Apply a write under the write lock, and again after the snapshot if a rebuild is loading
+    public void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (replay != null) {
+                replay.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Load a snapshot without holding the lock, then install it and replay the writes made during the load
+    public synchronized <T> void rebuild(Supplier<T> load, Consumer<T> install) {
+        lock.writeLock().lock();
+        try {
+            replay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        T snapshot;
+        try {
+            snapshot = load.get();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                replay = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            install.accept(snapshot);
+            replay.forEach(Runnable::run);
+        } finally {
+            replay = null;
+            lock.writeLock().unlock();
+        }
+    }
+}
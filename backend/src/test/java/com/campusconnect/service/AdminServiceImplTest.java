@@ -3,6 +3,7 @@ package com.campusconnect.service;
 
 import com.campusconnect.dto.UserDto;
 import com.campusconnect.entity.User;
+import com.campusconnect.repository.ProjectMemberRepository;
 import com.campusconnect.repository.ProjectRepository;
 import com.campusconnect.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,10 +12,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -25,6 +28,16 @@ class AdminServiceImplTest {
 
     @Mock private UserRepository userRepository;
     @Mock private ProjectRepository projectRepository;
+    @Mock private ProjectSearchIndex projectSearchIndex;
+    @Mock private ProjectFacetIndex projectFacetIndex;
+    @Mock private ProjectRecommendationIndex projectRecommendationIndex;
+    @Mock private ProjectMemberRepository projectMemberRepository;
+    @Mock private ProjectCatalogCache projectCatalogCache;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private RatingAggregateService ratingAggregateService;
+    @Mock private ReviewOutboxRepository reviewOutboxRepository;
+    @Mock private TeammateIndex teammateIndex;
+    @Mock private ProjectCountLoader projectCountLoader;
     @InjectMocks private AdminServiceImpl adminService;
 
     private User user;
@@ -38,7 +51,7 @@ class AdminServiceImplTest {
     }
 
     @Test void getAllUsers_ReturnsUserDtoList() {
-        when(userRepository.findAll()).thenReturn(List.of(user));
+        when(userRepository.findAllWithProfile()).thenReturn(List.of(user));
         List<UserDto> result = adminService.getAllUsers();
         assertEquals(1, result.size());
         assertEquals("John Doe", result.get(0).getName());
@@ -77,4 +90,29 @@ class AdminServiceImplTest {
         when(projectRepository.existsById(999L)).thenReturn(false);
         assertThrows(RuntimeException.class, () -> adminService.deleteProject(999L));
     }
+
+    @Test void deleteProject_RemovesProjectFromAllIndexes() {
+        when(projectRepository.existsById(5L)).thenReturn(true);
+
+        adminService.deleteProject(5L);
+
+        verify(projectSearchIndex).remove(5L);
+        verify(projectRecommendationIndex).remove(5L);
+        verify(projectFacetIndex).remove(5L);
+    }
+
+    @Test void deleteUser_PrunesDeletedProjectsAndRefreshesMemberCounts() {
+        when(projectRepository.findProjectIdsByCreatorOrMember(1L)).thenReturn(List.of(5L, 6L));
+        when(projectRepository.findExistingIds(List.of(5L, 6L))).thenReturn(List.of(6L));
+        when(projectMemberRepository.countMembersGroupedByProjectIds(Set.of(6L)))
+                .thenReturn(List.<Object[]>of(new Object[]{6L, 2L}));
+
+        adminService.deleteUser(1L);
+
+        verify(projectSearchIndex).remove(5L);
+        verify(projectRecommendationIndex).remove(5L);
+        verify(projectFacetIndex).remove(5L);
+        verify(projectRecommendationIndex).updateMemberCount(6L, 2);
+        verify(projectSearchIndex, never()).remove(6L);
+    }
 }
\ No newline at end of file
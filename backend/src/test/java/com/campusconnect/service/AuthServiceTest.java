@@ -29,6 +29,8 @@ class AuthServiceTest {
     @Mock private UniversityRepository universityRepository;
     @Mock private SkillRepository skillRepository;
     @Mock private InterestRepository interestRepository;
+    @Mock private TagDictionary tagDictionary;
+    @Mock private TeammateIndex teammateIndex;
     @InjectMocks private AuthService authService;
 
     @Test void register_EmailAlreadyExists_Throws() {
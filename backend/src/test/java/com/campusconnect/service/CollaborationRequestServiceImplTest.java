@@ -11,11 +11,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +28,8 @@ class CollaborationRequestServiceImplTest {
     @Mock private ProjectMemberRepository memberRepository;
     @Mock private ProjectRepository projectRepository;
     @Mock private UserRepository userRepository;
+    @Mock private ProjectRecommendationIndex projectRecommendationIndex;
+    @Mock private ApplicationEventPublisher eventPublisher;
     @InjectMocks private CollaborationRequestServiceImpl service;
 
     @Test void sendRequest_DuplicateRequest_Throws() {
@@ -57,6 +62,7 @@ class CollaborationRequestServiceImplTest {
         service.respondToRequest(1L, 1L, "approve");
 
         verify(memberRepository).save(any(ProjectMember.class));
+        verify(projectRecommendationIndex).updateMemberCount(eq(1L), anyInt());
         assertEquals(CollaborationRequest.Status.APPROVED, request.getStatus());
     }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +27,8 @@ class CourseDetailServiceImplTest {
     @Mock private ProfessorRepository professorRepository;
     @Mock private UniversityRepository universityRepository;
     @Mock private CourseDetailMapper mapper;
+    @Mock private CourseIdentityResolver courseIdentityResolver;
+    @Mock private CourseLinkJdbcRepository courseLinkJdbcRepository;
     @InjectMocks private CourseDetailServiceImpl service;
 
     @Test void createCourseDetail_EmptyCode_Throws() {
@@ -46,4 +49,14 @@ class CourseDetailServiceImplTest {
         CourseDetailDto result = service.updateCourseDetail(1L, dto);
         assertEquals("Updated", result.getName());
     }
+
+    @Test void deleteCourseDetail_ClearsCourseLink() {
+        when(repository.existsById(1L)).thenReturn(true);
+
+        service.deleteCourseDetail(1L);
+
+        verify(courseLinkJdbcRepository).unlink(1L);
+        verify(repository).deleteById(1L);
+        verify(courseIdentityResolver).evictCourseDetail(1L);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.campusconnect.service;
+
+import com.campusconnect.repository.CourseDetailStatsJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseDetailStatsUpdaterTest {
+
+    @Mock private CourseDetailStatsJdbcRepository courseDetailStatsJdbcRepository;
+    @Mock private CourseIdentityResolver courseIdentityResolver;
+    @InjectMocks private CourseDetailStatsUpdater updater;
+
+    @Test
+    void flush_CoalescesRepeatedMarksIntoOneRowWrite() {
+        for (int i = 0; i < 50; i++) {
+            updater.markCourseDetail(4L);
+        }
+        updater.markCourseDetail(5L);
+
+        updater.flush();
+
+        verify(courseDetailStatsJdbcRepository).refresh(argThat((Collection<Long> ids) ->
+                ids.size() == 2 && ids.containsAll(List.of(4L, 5L))));
+        assertEquals(0, updater.pending());
+    }
+
+    @Test
+    void markCourse_SkipsCoursesWithoutCourseDetail() {
+        when(courseIdentityResolver.findCourseDetailId(9L)).thenReturn(null);
+
+        updater.markCourse(9L);
+        updater.flush();
+
+        verify(courseDetailStatsJdbcRepository, never()).refresh(any());
+    }
+
+    @Test
+    void flush_RequeuesBatchWhenWriteFails() {
+        when(courseDetailStatsJdbcRepository.refresh(any())).thenThrow(new QueryTimeoutException("lock wait"));
+        updater.markCourseDetail(4L);
+
+        updater.flush();
+
+        assertEquals(1, updater.pending());
+    }
+}
@@ -0,0 +1,104 @@
+package com.campusconnect.service;
+
+import com.campusconnect.entity.CourseDetail;
+import com.campusconnect.entity.Professor;
+import com.campusconnect.repository.CourseDetailRepository;
+import com.campusconnect.repository.CourseLinkJdbcRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseIdentityResolverTest {
+
+    @Mock private CourseDetailRepository courseDetailRepository;
+    @Mock private CourseLinkJdbcRepository courseLinkJdbcRepository;
+    @InjectMocks private CourseIdentityResolver resolver;
+
+    @Test
+    void resolveForRating_LinksMatchingLegacyCourseOnceThenServesFromCache() {
+        CourseDetail detail = detail(9L);
+        when(courseDetailRepository.findById(9L)).thenReturn(Optional.of(detail));
+        when(courseLinkJdbcRepository.findUnlinkedCandidate(detail)).thenReturn(40L);
+        when(courseLinkJdbcRepository.link(40L, 9L)).thenReturn(true);
+
+        CourseIdentityResolver.CourseIds first = resolver.resolveForRating(9L);
+        CourseIdentityResolver.CourseIds second = resolver.resolveForRating(9L);
+
+        assertEquals(40L, first.getCourseId());
+        assertEquals(9L, second.getCourseDetailId());
+        assertEquals(40L, second.getCourseId());
+        verify(courseDetailRepository, times(1)).findById(9L);
+        assertEquals(9L, resolver.findCourseDetailId(40L));
+    }
+
+    @Test
+    void resolveForRating_CreatesCourseWhenNoneMatches() {
+        CourseDetail detail = detail(9L);
+        when(courseDetailRepository.findById(9L)).thenReturn(Optional.of(detail));
+        when(courseLinkJdbcRepository.findCourseIdByDetailId(9L)).thenReturn(null);
+        when(courseLinkJdbcRepository.findCourseIdByDetailIdForUpdate(9L)).thenReturn(77L);
+
+        assertEquals(77L, resolver.resolveForRating(9L).getCourseId());
+        verify(courseLinkJdbcRepository).insertIfAbsent(detail);
+        verify(courseLinkJdbcRepository, never()).link(anyLong(), anyLong());
+    }
+
+    @Test
+    void resolveForRating_FallsBackToLegacyCourse() {
+        when(courseDetailRepository.findById(5L)).thenReturn(Optional.empty());
+        when(courseLinkJdbcRepository.isLegacyCourse(5L)).thenReturn(true);
+
+        CourseIdentityResolver.CourseIds ids = resolver.resolveForRating(5L);
+
+        assertNull(ids.getCourseDetailId());
+        assertEquals(5L, ids.getCourseId());
+        verify(courseLinkJdbcRepository, never()).insertIfAbsent(any());
+    }
+
+    @Test
+    void resolveForRating_RejectsUnknownIdOrCourseLinkedToAnotherDetail() {
+        when(courseDetailRepository.findById(5L)).thenReturn(Optional.empty());
+        when(courseLinkJdbcRepository.isLegacyCourse(5L)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> resolver.resolveForRating(5L));
+    }
+
+    @Test
+    void findCourseIdOrThrow_AllowsUnratedCourseDetailButRejectsUnknownId() {
+        when(courseDetailRepository.existsById(9L)).thenReturn(true);
+        when(courseDetailRepository.existsById(5L)).thenReturn(false);
+        when(courseLinkJdbcRepository.isLegacyCourse(anyLong())).thenReturn(false);
+
+        assertNull(resolver.findCourseIdOrThrow(9L));
+        assertThrows(EntityNotFoundException.class, () -> resolver.findCourseIdOrThrow(5L));
+    }
+
+    @Test
+    void findCourseId_NeverCreates() {
+        when(courseDetailRepository.existsById(9L)).thenReturn(true);
+        when(courseLinkJdbcRepository.findCourseIdByDetailId(9L)).thenReturn(null);
+        when(courseLinkJdbcRepository.isLegacyCourse(9L)).thenReturn(false);
+
+        assertNull(resolver.findCourseId(9L));
+        verify(courseLinkJdbcRepository, never()).insertIfAbsent(any());
+    }
+
+    private static CourseDetail detail(Long id) {
+        CourseDetail detail = new CourseDetail();
+        detail.setCourseId(id);
+        detail.setName("Algorithms");
+        detail.setProfessor(new Professor(3L));
+        return detail;
+    }
+}
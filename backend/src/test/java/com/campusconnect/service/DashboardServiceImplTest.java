@@ -22,14 +22,15 @@ class DashboardServiceImplTest {
     @Mock private TaskRepository taskRepository;
     @Mock private CollaborationRequestRepository requestRepository;
     @Mock private MessageRepository messageRepository;
-    @Mock private ProjectMapper projectMapper;
     @Mock private TaskMapper taskMapper;
     @Mock private DashboardMapper dashboardMapper;
     @Mock private MessageMapper messageMapper;
+    @Mock private ProjectMembershipLoader projectMembershipLoader;
+    @Mock private ProjectSkillLoader projectSkillLoader;
     @InjectMocks private DashboardServiceImpl service;
 
     @Test void getDashboardForUser_ReturnsDto() {
-        when(projectRepository.findAllByUserId(1L)).thenReturn(Collections.emptyList());
+        when(projectRepository.findDtosByMemberUserId(1L)).thenReturn(Collections.emptyList());
         when(taskRepository.findByAssignedTo_UserId(1L)).thenReturn(Collections.emptyList());
 
         DashboardDto result = service.getDashboardForUser(1L);
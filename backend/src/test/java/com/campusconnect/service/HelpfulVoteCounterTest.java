@@ -0,0 +1,74 @@
+package com.campusconnect.service;
+
+import com.campusconnect.repository.ReviewHelpfulJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HelpfulVoteCounterTest {
+
+    @Mock private ReviewHelpfulJdbcRepository reviewHelpfulJdbcRepository;
+    @InjectMocks private HelpfulVoteCounter counter;
+
+    @Test
+    void vote_IgnoresRepeatedVoteBySameUser() {
+        when(reviewHelpfulJdbcRepository.insertVote(5L, 1L)).thenReturn(100L, (Long) null);
+
+        assertTrue(counter.vote(5L, 1L));
+        assertFalse(counter.vote(5L, 1L));
+
+        assertEquals(1, counter.pendingFor(5L));
+    }
+
+    @Test
+    void flush_CountsAllPendingVotesInOneBatch() {
+        when(reviewHelpfulJdbcRepository.insertVote(5L, 1L)).thenReturn(100L);
+        when(reviewHelpfulJdbcRepository.insertVote(5L, 2L)).thenReturn(101L);
+        when(reviewHelpfulJdbcRepository.insertVote(6L, 1L)).thenReturn(102L);
+        counter.vote(5L, 1L);
+        counter.vote(5L, 2L);
+        counter.vote(6L, 1L);
+
+        counter.flush();
+
+        verify(reviewHelpfulJdbcRepository).countVotes(argThat(ids -> ids.containsAll(List.of(100L, 101L, 102L)) && ids.size() == 3));
+        assertEquals(0, counter.pendingFor(5L));
+        assertEquals(0, counter.pendingFor(6L));
+        counter.flush();
+        verify(reviewHelpfulJdbcRepository, times(1)).countVotes(anyCollection());
+    }
+
+    @Test
+    void flush_KeepsVotesPendingWhenWriteFails() {
+        when(reviewHelpfulJdbcRepository.insertVote(5L, 1L)).thenReturn(100L);
+        doThrow(new QueryTimeoutException("lock wait")).doNothing()
+                .when(reviewHelpfulJdbcRepository).countVotes(anyCollection());
+        counter.vote(5L, 1L);
+
+        counter.flush();
+        assertEquals(1, counter.pendingFor(5L));
+
+        counter.flush();
+        verify(reviewHelpfulJdbcRepository, times(2)).countVotes(List.of(100L));
+        assertEquals(0, counter.pendingFor(5L));
+    }
+
+    @Test
+    void recount_CountsVotesLeftUncountedInBatchesUntilNoneRemain() {
+        when(reviewHelpfulJdbcRepository.countUncountedVotes(HelpfulVoteCounter.RECOUNT_BATCH_SIZE))
+                .thenReturn(HelpfulVoteCounter.RECOUNT_BATCH_SIZE, 3);
+
+        assertEquals(HelpfulVoteCounter.RECOUNT_BATCH_SIZE + 3, counter.recount());
+        verify(reviewHelpfulJdbcRepository, times(2)).countUncountedVotes(HelpfulVoteCounter.RECOUNT_BATCH_SIZE);
+    }
+}
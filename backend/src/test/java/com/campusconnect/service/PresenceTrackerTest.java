@@ -0,0 +1,70 @@
+package com.campusconnect.service;
+
+import com.campusconnect.repository.PresenceJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.sql.Timestamp;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceTrackerTest {
+
+    @Mock private PresenceJdbcRepository presenceJdbcRepository;
+    @InjectMocks private PresenceTracker tracker;
+
+    @Test
+    void flush_CoalescesHeartbeatsIntoOneBatchedWrite() {
+        long now = System.currentTimeMillis();
+        tracker.touch(1L, now - 2000);
+        tracker.touch(1L, now);
+        tracker.touch(2L, now - 1000);
+
+        tracker.flush();
+        tracker.flush();
+
+        verify(presenceJdbcRepository, times(1)).updateLastSeen(Map.of(1L, now, 2L, now - 1000));
+    }
+
+    @Test
+    void isOnline_AnswersFromMemoryAheadOfStoredColumn() {
+        Timestamp stale = new Timestamp(System.currentTimeMillis() - 60 * 60 * 1000);
+
+        assertFalse(tracker.isOnline(1L, stale));
+        tracker.touch(1L);
+
+        assertTrue(tracker.isOnline(1L, stale));
+        assertTrue(tracker.lastSeen(1L, stale).after(stale));
+    }
+
+    @Test
+    void flush_KeepsHeartbeatsPendingWhenWriteFails() {
+        long now = System.currentTimeMillis();
+        tracker.touch(1L, now);
+        doThrow(new QueryTimeoutException("timeout")).doNothing()
+                .when(presenceJdbcRepository).updateLastSeen(anyMap());
+
+        tracker.flush();
+        tracker.flush();
+
+        verify(presenceJdbcRepository, times(2)).updateLastSeen(Map.of(1L, now));
+    }
+
+    @Test
+    void flush_EvictsUsersWhoWentOffline() {
+        long longAgo = System.currentTimeMillis() - PresenceTracker.ONLINE_WINDOW_MILLIS - 1000;
+        tracker.touch(1L, longAgo);
+
+        tracker.flush();
+
+        assertNull(tracker.lastSeenMillis(1L));
+    }
+}
@@ -21,6 +21,7 @@ class ProfessorServiceTest {
     @Mock private ProfessorRepository professorRepository;
     @Mock private ProfessorMapper professorMapper;
     @Mock private UniversityRepository universityRepository;
+    @Mock private RatingLeaderboard ratingLeaderboard;
     @InjectMocks private ProfessorService service;
 
     @Test
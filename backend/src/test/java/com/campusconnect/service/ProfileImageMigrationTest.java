@@ -0,0 +1,45 @@
+package com.campusconnect.service;
+
+import com.campusconnect.repository.LegacyProfileImageJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileImageMigrationTest {
+
+    @Mock private LegacyProfileImageJdbcRepository legacyProfileImageJdbcRepository;
+    @Mock private ProfileImageStore profileImageStore;
+    @InjectMocks private ProfileImageMigration migration;
+
+    @Test
+    void migrate_SkipsDatabasesWithoutTheLegacyColumn() {
+        when(legacyProfileImageJdbcRepository.hasLegacyColumn()).thenReturn(false);
+
+        assertEquals(0, migration.migrate());
+        verify(legacyProfileImageJdbcRepository, never()).findLegacyImages(anyInt());
+    }
+
+    @Test
+    void migrate_MovesImagesAndStopsOnFailureWithoutThrowing() {
+        byte[] bytes = {1, 2, 3};
+        when(legacyProfileImageJdbcRepository.hasLegacyColumn()).thenReturn(true);
+        when(legacyProfileImageJdbcRepository.findLegacyImages(ProfileImageMigration.BATCH_SIZE))
+                .thenReturn(List.<Object[]>of(new Object[]{7L, bytes}));
+        when(profileImageStore.put(bytes)).thenReturn("hash");
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+                .when(legacyProfileImageJdbcRepository).moveToHash(7L, "hash");
+
+        assertEquals(0, migration.migrate());
+        verify(legacyProfileImageJdbcRepository).moveToHash(7L, "hash");
+    }
+}
@@ -0,0 +1,71 @@
+package com.campusconnect.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfileImageStoreTest {
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 13, 'I', 'H', 'D', 'R'};
+
+    @TempDir Path dir;
+
+    @Test
+    void store_KeysBlobBySha256AndDeduplicates() throws Exception {
+        ProfileImageStore store = new ProfileImageStore(dir.toString());
+
+        String hash = store.store(PNG);
+
+        assertEquals(64, hash.length());
+        assertEquals(hash, store.store(PNG.clone()));
+        Path path = store.find(hash).orElseThrow();
+        assertArrayEquals(PNG, Files.readAllBytes(path));
+        assertEquals("image/png", store.contentTypeOf(path));
+        try (var files = Files.walk(dir)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void store_RejectsNonImages() {
+        ProfileImageStore store = new ProfileImageStore(dir.toString());
+
+        assertThrows(IllegalArgumentException.class, () -> store.store("<svg onload=x>".getBytes()));
+        assertThrows(IllegalArgumentException.class, () -> store.store(new byte[0]));
+    }
+
+    @Test
+    void store_RejectsImagesAbovePixelLimit() {
+        ProfileImageStore store = new ProfileImageStore(dir.toString());
+
+        assertThrows(IllegalArgumentException.class, () -> store.store(pngHeader(30000, 30000)));
+        assertDoesNotThrow(() -> store.store(pngHeader(4000, 4000)));
+    }
+
+    @Test
+    void find_IgnoresMalformedHashes() {
+        ProfileImageStore store = new ProfileImageStore(dir.toString());
+
+        assertTrue(store.find("../../etc/passwd").isEmpty());
+        assertTrue(store.find("a".repeat(64)).isEmpty());
+    }
+
+    // PNG signature plus a valid IHDR declaring the given size; the pixel data is never needed
+    static byte[] pngHeader(int width, int height) {
+        ByteBuffer ihdr = ByteBuffer.allocate(17);
+        ihdr.put(new byte[]{'I', 'H', 'D', 'R'}).putInt(width).putInt(height)
+                .put((byte) 8).put((byte) 2).put((byte) 0).put((byte) 0).put((byte) 0);
+        CRC32 crc = new CRC32();
+        crc.update(ihdr.array());
+        return ByteBuffer.allocate(8 + 4 + 17 + 4)
+                .put(new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A})
+                .putInt(13).put(ihdr.array()).putInt((int) crc.getValue())
+                .array();
+    }
+}
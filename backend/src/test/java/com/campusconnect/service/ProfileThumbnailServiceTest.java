@@ -0,0 +1,72 @@
+package com.campusconnect.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfileThumbnailServiceTest {
+
+    @TempDir Path dir;
+
+    private ProfileImageStore store;
+    private ProfileThumbnailService service;
+
+    @BeforeEach
+    void setUp() {
+        store = new ProfileImageStore(dir.toString());
+        service = new ProfileThumbnailService(store);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void generate_WritesSquareThumbnailForEverySize() throws Exception {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(600, 400, BufferedImage.TYPE_INT_RGB), "png", png);
+        String hash = store.store(png.toByteArray());
+
+        assertTrue(service.generate(hash));
+
+        for (int size : ProfileThumbnailService.SIZES) {
+            Path thumbnail = store.findThumbnail(hash, size).orElseThrow();
+            BufferedImage image = ImageIO.read(thumbnail.toFile());
+            assertEquals(size, image.getWidth());
+            assertEquals(size, image.getHeight());
+            assertEquals("image/jpeg", store.contentTypeOf(thumbnail));
+        }
+    }
+
+    @Test
+    void generate_LeavesUndecodableImagesAlone() {
+        String hash = store.put(new byte[]{'G', 'I', 'F', '8', 0, 1, 2});
+
+        assertFalse(service.generate(hash));
+        assertTrue(store.findThumbnail(hash, 64).isEmpty());
+    }
+
+    @Test
+    void generate_SkipsLegacyImagesAbovePixelLimit() {
+        // Legacy blobs bypass store(), so the header check has to happen again before decoding
+        String hash = store.put(ProfileImageStoreTest.pngHeader(30000, 30000));
+
+        assertFalse(service.generate(hash));
+        assertTrue(store.findThumbnail(hash, 64).isEmpty());
+    }
+
+    @Test
+    void isSupportedSize_OnlyAcceptsAvatarSizes() {
+        assertTrue(ProfileThumbnailService.isSupportedSize(64));
+        assertFalse(ProfileThumbnailService.isSupportedSize(65));
+    }
+}
@@ -0,0 +1,96 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.ProjectDto;
+import com.campusconnect.dto.ProjectPageDto;
+import com.campusconnect.entity.Project;
+import com.campusconnect.event.ProjectCatalogChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectCatalogCacheTest {
+
+    private final ProjectCatalogCache cache = new ProjectCatalogCache();
+
+    @Test
+    void getAllProjects_SecondCallIsServedFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getAllProjects(() -> { loads.incrementAndGet(); return projects(1L, 2L); });
+        List<ProjectDto> second = cache.getAllProjects(() -> { loads.incrementAndGet(); return projects(1L, 2L); });
+
+        assertEquals(1, loads.get());
+        assertEquals(2, second.size());
+        assertEquals(1L, cache.stats().get("hits"));
+        assertEquals(1L, cache.stats().get("misses"));
+    }
+
+    @Test
+    void membersChanged_DropsOnlyEntriesContainingTheProject() {
+        ProjectPageDto firstPage = new ProjectPageDto(projects(5L, 4L), "c1", 2);
+        ProjectPageDto secondPage = new ProjectPageDto(projects(3L, 2L), null, 2);
+        cache.getProjectPage(null, 2, null, null, () -> firstPage);
+        cache.getProjectPage("c1", 2, null, null, () -> secondPage);
+
+        cache.onCatalogChanged(ProjectCatalogChangedEvent.membersChanged(3L));
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.getProjectPage(null, 2, null, null, () -> { loads.incrementAndGet(); return firstPage; });
+        cache.getProjectPage("c1", 2, null, null, () -> { loads.incrementAndGet(); return secondPage; });
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void created_DropsFirstPagesOnly() {
+        cache.getProjectPage(null, 2, Project.Status.OPEN, null, () -> new ProjectPageDto(projects(5L), null, 2));
+        cache.getProjectPage("c1", 2, Project.Status.OPEN, null, () -> new ProjectPageDto(projects(3L), null, 2));
+
+        cache.onCatalogChanged(ProjectCatalogChangedEvent.created(9L));
+
+        assertEquals(1, cache.stats().get("size"));
+        assertEquals(1L, cache.stats().get("invalidations"));
+    }
+
+    @Test
+    void loadRacingWithCommit_IsNotCached() {
+        cache.getAllProjects(() -> {
+            // A write commits while this load is still reading
+            cache.onCatalogChanged(ProjectCatalogChangedEvent.updated(1L));
+            return projects(1L);
+        });
+
+        assertEquals(0, cache.stats().get("size"));
+    }
+
+    @Test
+    void failedLoad_IsNotCached() {
+        assertThrows(IllegalArgumentException.class, () ->
+                cache.getProjectPage("bad", 20, null, null, () -> { throw new IllegalArgumentException("Invalid cursor"); }));
+
+        assertEquals(0, cache.stats().get("size"));
+    }
+
+    @Test
+    void size_IsBounded() {
+        for (int i = 0; i < ProjectCatalogCache.MAX_ENTRIES + 10; i++) {
+            cache.getProjectPage("cursor-" + i, 20, null, null, () -> new ProjectPageDto(projects(), null, 20));
+        }
+
+        assertEquals(ProjectCatalogCache.MAX_ENTRIES, cache.stats().get("size"));
+        assertEquals(10L, cache.stats().get("evictions"));
+    }
+
+    private static List<ProjectDto> projects(Long... ids) {
+        List<ProjectDto> dtos = new ArrayList<>();
+        for (Long id : ids) {
+            ProjectDto dto = new ProjectDto();
+            dto.setProjectId(id);
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,41 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.UserDto;
+import com.campusconnect.repository.ProjectMemberRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectCountLoaderTest {
+
+    @Mock private ProjectMemberRepository projectMemberRepository;
+    @InjectMocks private ProjectCountLoader loader;
+
+    @Test
+    void fillProjectCounts_UsesOneGroupedQueryPerChunk() {
+        List<UserDto> users = new ArrayList<>();
+        for (long id = 1; id <= ProjectCountLoader.CHUNK_SIZE + 5; id++) {
+            UserDto dto = new UserDto();
+            dto.setUserId(id);
+            users.add(dto);
+        }
+        when(projectMemberRepository.countProjectsGroupedByUser(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 3L}), List.of());
+
+        loader.fillProjectCounts(users);
+
+        verify(projectMemberRepository, times(2)).countProjectsGroupedByUser(anyCollection());
+        verify(projectMemberRepository, never()).countByUser_UserId(any());
+        assertEquals(0, users.get(1).getProjectCount());
+    }
+}
@@ -0,0 +1,97 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.ProjectFacetsDto;
+import com.campusconnect.entity.Project;
+import com.campusconnect.entity.Skill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectFacetIndexTest {
+
+    private static final Skill JAVA = skill(1L, "Java");
+    private static final Skill REACT = skill(2L, "React");
+
+    private ProjectFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProjectFacetIndex();
+        index.index(project(10L, Project.Status.OPEN, null, JAVA, REACT));
+        index.index(project(11L, Project.Status.OPEN, LocalDate.now().plusDays(3), JAVA));
+        index.index(project(12L, Project.Status.ONGOING, LocalDate.now().minusDays(1)));
+    }
+
+    @Test
+    void facets_CountsStatusSkillsAndDeadlines() {
+        ProjectFacetsDto facets = index.facets();
+
+        assertEquals(3, facets.getTotal());
+        assertEquals(2, facets.getStatus().get("OPEN"));
+        assertEquals(1, facets.getStatus().get("ONGOING"));
+        assertEquals(0, facets.getStatus().get("COMPLETED"));
+        assertEquals(List.of("Java", "React"), List.copyOf(facets.getSkills().keySet()));
+        assertEquals(2, facets.getSkills().get("Java"));
+        assertEquals(1, facets.getDeadlines().get("NONE"));
+        assertEquals(1, facets.getDeadlines().get("THIS_WEEK"));
+        assertEquals(1, facets.getDeadlines().get("OVERDUE"));
+    }
+
+    @Test
+    void index_ReplacesPreviousContribution() {
+        index.index(project(10L, Project.Status.COMPLETED, LocalDate.now().plusDays(60)));
+
+        ProjectFacetsDto facets = index.facets();
+
+        assertEquals(3, facets.getTotal());
+        assertEquals(1, facets.getStatus().get("OPEN"));
+        assertEquals(1, facets.getStatus().get("COMPLETED"));
+        assertFalse(facets.getSkills().containsKey("React"));
+        assertEquals(0, facets.getDeadlines().get("NONE"));
+        assertEquals(1, facets.getDeadlines().get("LATER"));
+    }
+
+    @Test
+    void remove_SubtractsProject() {
+        index.remove(11L);
+
+        ProjectFacetsDto facets = index.facets();
+
+        assertEquals(2, facets.getTotal());
+        assertEquals(1, facets.getSkills().get("Java"));
+        assertEquals(0, facets.getDeadlines().get("THIS_WEEK"));
+    }
+
+    @Test
+    void facetsFor_CountsOnlyGivenProjects() {
+        ProjectFacetsDto facets = index.facetsFor(List.of(11L, 12L, 404L));
+
+        assertEquals(2, facets.getTotal());
+        assertEquals(1, facets.getStatus().get("OPEN"));
+        assertEquals(1, facets.getSkills().get("Java"));
+        assertNull(facets.getSkills().get("React"));
+    }
+
+    private static Project project(Long id, Project.Status status, LocalDate deadline, Skill... skills) {
+        Project project = new Project();
+        project.setProjectId(id);
+        project.setStatus(status);
+        project.setDeadline(deadline != null ? Date.valueOf(deadline) : null);
+        project.setSkills(new HashSet<>(Set.of(skills)));
+        return project;
+    }
+
+    private static Skill skill(Long id, String name) {
+        Skill skill = new Skill();
+        skill.setSkillId(id);
+        skill.setName(name);
+        return skill;
+    }
+}
@@ -0,0 +1,133 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.ProjectImportResultDto;
+import com.campusconnect.entity.Project;
+import com.campusconnect.entity.Skill;
+import com.campusconnect.entity.User;
+import com.campusconnect.repository.ProjectImportJdbcRepository;
+import com.campusconnect.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectImportServiceTest {
+
+    @Mock private ProjectImportJdbcRepository projectImportJdbcRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private TagDictionary tagDictionary;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Spy private ObjectMapper objectMapper = new ObjectMapper();
+    @Mock private ProjectSearchIndex projectSearchIndex;
+    @Mock private ProjectRecommendationIndex projectRecommendationIndex;
+    @Mock private ProjectFacetIndex projectFacetIndex;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @InjectMocks private ProjectImportService service;
+
+    @Test
+    void importJson_WritesValidRowsInOneBatchAndReportsTheRest() throws Exception {
+        when(userRepository.findByEmailIn(anyCollection())).thenReturn(List.of(user(7L, "lead@campus.edu")));
+        when(tagDictionary.resolveSkills(anyCollection())).thenReturn(Set.of(skill(1L, "Java")));
+        when(projectImportJdbcRepository.insertProjects(anyList())).thenReturn(new long[]{100L});
+
+        ProjectImportResultDto result = service.importJson(stream("""
+                [
+                  {"title": "Robot Arm", "skills": ["java"], "leaderEmail": "LEAD@campus.edu", "deadline": "2030-01-31"},
+                  {"title": "", "leaderEmail": "lead@campus.edu"},
+                  {"title": "Ghost", "leaderEmail": "nobody@campus.edu"},
+                  {"title": "Bad status", "status": "DONE", "leaderEmail": "lead@campus.edu"}
+                ]
+                """));
+
+        assertEquals(4, result.getTotal());
+        assertEquals(1, result.getCreated());
+        assertEquals(100L, result.getRows().get(0).getProjectId());
+        assertEquals("Title is required", result.getRows().get(1).getError());
+        assertTrue(result.getRows().get(2).getError().startsWith("Leader not found"));
+        assertTrue(result.getRows().get(3).getError().startsWith("Invalid status"));
+
+        ArgumentCaptor<List<long[]>> skillPairs = ArgumentCaptor.forClass(List.class);
+        verify(projectImportJdbcRepository).insertProjectSkills(skillPairs.capture());
+        assertArrayEquals(new long[]{100L, 1L}, skillPairs.getValue().get(0));
+        verify(projectImportJdbcRepository).insertLeaders(anyList(), any());
+        verify(projectSearchIndex).index(any(Project.class));
+        verify(userRepository, times(1)).findByEmailIn(anyCollection());
+    }
+
+    @Test
+    void importCsv_ParsesQuotedFieldsAndSkillLists() throws Exception {
+        when(userRepository.findAllById(anyCollection())).thenReturn(List.of(user(7L, "lead@campus.edu")));
+        when(tagDictionary.resolveSkills(anyCollection())).thenReturn(Set.of(skill(1L, "Java"), skill(2L, "React")));
+        when(projectImportJdbcRepository.insertProjects(anyList())).thenReturn(new long[]{100L});
+
+        ProjectImportResultDto result = service.importCsv(stream(
+                "Title,Description,Members Required,Skills,leader_id\n"
+                        + "\"Smart, Campus\",\"Says \"\"hi\"\"\",4,Java;React,7\n"
+                        + "\n"));
+
+        assertEquals(1, result.getCreated());
+        ArgumentCaptor<List<Project>> projects = ArgumentCaptor.forClass(List.class);
+        verify(projectImportJdbcRepository).insertProjects(projects.capture());
+        Project project = projects.getValue().get(0);
+        assertEquals("Smart, Campus", project.getTitle());
+        assertEquals("Says \"hi\"", project.getDescription());
+        assertEquals(4, project.getMembersRequired());
+        assertEquals(2, project.getSkills().size());
+    }
+
+    @Test
+    void importJson_FailedBatchMarksItsRowsFailed() throws Exception {
+        when(userRepository.findByEmailIn(anyCollection())).thenReturn(List.of(user(7L, "lead@campus.edu")));
+        when(projectImportJdbcRepository.insertProjects(anyList())).thenThrow(new IllegalStateException("boom"));
+
+        ProjectImportResultDto result = service.importJson(stream(
+                "[{\"title\": \"A\", \"leaderEmail\": \"lead@campus.edu\"}]"));
+
+        assertEquals(0, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertTrue(result.getRows().get(0).getError().contains("boom"));
+        verifyNoInteractions(projectSearchIndex);
+    }
+
+    @Test
+    void importJson_RejectsNonArrayBody() {
+        assertThrows(IllegalArgumentException.class, () -> service.importJson(stream("{\"title\": \"A\"}")));
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static User user(Long id, String email) {
+        User user = new User();
+        user.setUserId(id);
+        user.setEmail(email);
+        return user;
+    }
+
+    private static Skill skill(Long id, String name) {
+        Skill skill = new Skill();
+        skill.setSkillId(id);
+        skill.setName(name);
+        return skill;
+    }
+}
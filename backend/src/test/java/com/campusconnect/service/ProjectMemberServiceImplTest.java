@@ -12,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.util.Optional;
@@ -25,6 +26,8 @@ class ProjectMemberServiceImplTest {
     @Mock private ProjectMemberRepository memberRepository;
     @Mock private ProjectRepository projectRepository;
     @Mock private UserRepository userRepository;
+    @Mock private ProjectRecommendationIndex projectRecommendationIndex;
+    @Mock private ApplicationEventPublisher eventPublisher;
     @InjectMocks private ProjectMemberServiceImpl service;
 
     @Test void removeMember_NotOwner_ThrowsAccessDenied() {
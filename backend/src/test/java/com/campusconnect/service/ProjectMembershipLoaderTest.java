@@ -0,0 +1,49 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.ProjectDto;
+import com.campusconnect.repository.ProjectMemberRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectMembershipLoaderTest {
+
+    @Mock private ProjectMemberRepository projectMemberRepository;
+    @InjectMocks private ProjectMembershipLoader loader;
+
+    @Test
+    void fillMemberIds_UsesSingleQueryForAllProjects() {
+        ProjectDto first = new ProjectDto();
+        first.setProjectId(1L);
+        ProjectDto second = new ProjectDto();
+        second.setProjectId(2L);
+
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, 10L});
+        rows.add(new Object[]{1L, 11L});
+        when(projectMemberRepository.findMemberPairsByProjectIds(anyCollection())).thenReturn(rows);
+
+        loader.fillMemberIds(List.of(first, second));
+
+        assertEquals(Set.of(10L, 11L), first.getMemberIds());
+        assertTrue(second.getMemberIds().isEmpty());
+        verify(projectMemberRepository, times(1)).findMemberPairsByProjectIds(anyCollection());
+    }
+
+    @Test
+    void fillMemberIds_EmptyListSkipsQuery() {
+        loader.fillMemberIds(new ArrayList<>());
+        verifyNoInteractions(projectMemberRepository);
+    }
+}
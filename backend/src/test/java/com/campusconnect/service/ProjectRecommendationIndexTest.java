@@ -0,0 +1,84 @@
+package com.campusconnect.service;
+
+import com.campusconnect.entity.Project;
+import com.campusconnect.entity.Skill;
+import com.campusconnect.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectRecommendationIndexTest {
+
+    private static final Skill JAVA = skill(1L, "Java");
+    private static final Skill REACT = skill(2L, "React");
+    private static final Skill ML = skill(3L, "Machine Learning");
+
+    private ProjectRecommendationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProjectRecommendationIndex();
+        index.index(project(10L, 5, 99L, JAVA, REACT), 1);
+        index.index(project(11L, 5, 99L, JAVA), 1);
+        index.index(project(12L, 3, 99L, ML), 1);
+    }
+
+    @Test
+    void recommend_RanksByWeightedSkillOverlap() {
+        List<Long> result = index.recommend(List.of(1L, 2L), List.of(), Set.of(), 7L, 10);
+        assertEquals(List.of(10L, 11L), result);
+    }
+
+    @Test
+    void recommend_MatchesInterestsAgainstSkillNames() {
+        List<Long> result = index.recommend(List.of(), List.of("machine learning"), Set.of(), 7L, 10);
+        assertEquals(List.of(12L), result);
+    }
+
+    @Test
+    void recommend_SkipsFullJoinedAndOwnProjects() {
+        index.updateMemberCount(11L, 5);
+        index.index(project(13L, 5, 7L, JAVA), 1);
+
+        List<Long> result = index.recommend(List.of(1L), List.of(), Set.of(10L), 7L, 10);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void recommend_DropsProjectsThatAreNoLongerOpen() {
+        Project closed = project(10L, 5, 99L, JAVA, REACT);
+        closed.setStatus(Project.Status.COMPLETED);
+        index.index(closed, 1);
+
+        assertEquals(List.of(11L), index.recommend(List.of(1L, 2L), List.of(), Set.of(), 7L, 10));
+    }
+
+    @Test
+    void recommend_ReturnsAtMostLimit() {
+        assertEquals(1, index.recommend(List.of(1L), List.of(), Set.of(), 7L, 1).size());
+    }
+
+    private static Skill skill(Long id, String name) {
+        Skill skill = new Skill();
+        skill.setSkillId(id);
+        skill.setName(name);
+        return skill;
+    }
+
+    private static Project project(Long id, int membersRequired, Long creatorId, Skill... skills) {
+        User creator = new User();
+        creator.setUserId(creatorId);
+        Project project = new Project();
+        project.setProjectId(id);
+        project.setMembersRequired(membersRequired);
+        project.setCreator(creator);
+        project.setSkills(new HashSet<>(List.of(skills)));
+        return project;
+    }
+}
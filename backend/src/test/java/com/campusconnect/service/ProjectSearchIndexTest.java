@@ -0,0 +1,107 @@
+package com.campusconnect.service;
+
+import com.campusconnect.entity.Project;
+import com.campusconnect.entity.Skill;
+import com.campusconnect.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectSearchIndexTest {
+
+    @Mock private ProjectRepository projectRepository;
+    @InjectMocks private ProjectSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index.index(project(1L, "Campus robotics club", "Build line following robots", "C++"));
+        index.index(project(2L, "Course planner", "Plan semesters with a web app", "React"));
+        index.index(project(3L, "Robot arm vision", "Computer vision for a robotic arm", "Python"));
+    }
+
+    @Test
+    void search_RanksMatchingProjects() {
+        List<Long> result = index.search("robotics", 10);
+        assertEquals(List.of(1L), result);
+    }
+
+    @Test
+    void search_MatchesLastTermAsPrefix() {
+        List<Long> result = index.search("rob", 10);
+        assertTrue(result.containsAll(List.of(1L, 3L)));
+        assertFalse(result.contains(2L));
+    }
+
+    @Test
+    void search_MultiTermPrefersProjectsMatchingMoreTerms() {
+        List<Long> result = index.search("vision python", 10);
+        assertEquals(3L, result.get(0));
+    }
+
+    @Test
+    void search_MatchesSkillNames() {
+        assertEquals(List.of(2L), index.search("react", 10));
+    }
+
+    @Test
+    void index_ReplacesPreviousTerms() {
+        index.index(project(2L, "Course scheduler", "Timetables", "Java"));
+        assertTrue(index.search("planner", 10).isEmpty());
+        assertEquals(List.of(2L), index.search("scheduler", 10));
+    }
+
+    @Test
+    void remove_DropsProjectFromResults() {
+        index.remove(1L);
+        assertTrue(index.search("robotics", 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void search_RespectsLimit() {
+        assertEquals(1, index.search("rob", 1).size());
+    }
+
+    @Test
+    void matches_ReturnsEveryHitWithoutLimit() {
+        assertEquals(Set.of(1L, 3L), Set.copyOf(index.matches("rob")));
+        assertTrue(index.matches("blockchain").isEmpty());
+    }
+
+    @Test
+    void rebuild_KeepsWritesThatLandWhileLoading() {
+        when(projectRepository.findAllWithSkills()).thenAnswer(invocation -> {
+            // Committed after the snapshot was read but before it is swapped in
+            index.index(project(4L, "Drone mapping", "Aerial survey", "Python"));
+            index.remove(1L);
+            return List.of(project(1L, "Campus robotics club", "Build line following robots", "C++"));
+        });
+
+        index.rebuild();
+
+        assertTrue(index.search("robotics", 10).isEmpty());
+        assertEquals(List.of(4L), index.search("drone", 10));
+        assertTrue(index.isReady());
+    }
+
+    private static Project project(Long id, String title, String description, String skillName) {
+        Skill skill = new Skill();
+        skill.setName(skillName);
+        Project project = new Project();
+        project.setProjectId(id);
+        project.setTitle(title);
+        project.setDescription(description);
+        project.setSkills(Set.of(skill));
+        return project;
+    }
+}
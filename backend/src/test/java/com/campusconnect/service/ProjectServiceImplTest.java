@@ -1,6 +1,9 @@
 package com.campusconnect.service;
 
 import com.campusconnect.dto.ProjectDto;
+import com.campusconnect.dto.ProjectFacetsDto;
+import com.campusconnect.dto.ProjectPageDto;
+import com.campusconnect.dto.ProjectSearchResultDto;
 import com.campusconnect.entity.Project;
 import com.campusconnect.entity.User;
 import com.campusconnect.mapper.ProjectMapper;
@@ -11,12 +14,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +37,14 @@ class ProjectServiceImplTest {
     @Mock private ProjectMemberRepository memberRepository;
     @Mock private UserRepository userRepository;
     @Mock private ProjectMapper projectMapper;
+    @Mock private ProjectMembershipLoader projectMembershipLoader;
+    @Mock private ProjectSkillLoader projectSkillLoader;
+    @Mock private ProjectSearchIndex projectSearchIndex;
+    @Mock private ProjectRecommendationIndex projectRecommendationIndex;
+    @Mock private ProjectFacetIndex projectFacetIndex;
+    @Mock private TagDictionary tagDictionary;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Spy private ProjectCatalogCache projectCatalogCache = new ProjectCatalogCache();
 
     @InjectMocks private ProjectServiceImpl service;
 
@@ -75,5 +94,106 @@ class ProjectServiceImplTest {
         assertEquals("AI Project", result.getTitle());
 
         verify(projectRepository).save(any(Project.class));
+        verify(projectMembershipLoader).fillMemberIds(any(ProjectDto.class));
+        verify(projectSearchIndex).index(any(Project.class));
+    }
+
+    @Test
+    void getProjectPage_ReturnsCursorWhenMoreRowsExist() {
+        ProjectDto newer = new ProjectDto(2L, "Newer", "", 1L, Project.Status.OPEN, new Timestamp(2000L), 3, null);
+        ProjectDto older = new ProjectDto(1L, "Older", "", 1L, Project.Status.OPEN, new Timestamp(1000L), 3, null);
+
+        when(projectRepository.findFirstPage(isNull(), isNull(), any())).thenReturn(List.of(newer, older));
+
+        ProjectPageDto page = service.getProjectPage(null, 1, null, null);
+
+        assertEquals(1, page.getItems().size());
+        assertEquals(2L, page.getItems().get(0).getProjectId());
+        assertNotNull(page.getNextCursor());
+        assertArrayEquals(new long[]{2000L, 2L}, ProjectServiceImpl.decodeCursor(page.getNextCursor()));
+        verify(projectSkillLoader).fillSkills(page.getItems());
+    }
+
+    @Test
+    void getProjectPage_UsesCursorPosition() {
+        String cursor = ProjectServiceImpl.encodeCursor(new Timestamp(5000L), 7L);
+        when(projectRepository.findPageAfter(eq(Project.Status.OPEN), eq("java"), eq(new Timestamp(5000L)), eq(7L), any()))
+                .thenReturn(List.of());
+
+        ProjectPageDto page = service.getProjectPage(cursor, 500, "open", "Java");
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+        assertEquals(ProjectServiceImpl.MAX_PAGE_SIZE, page.getLimit());
+    }
+
+    @Test
+    void getProjectPage_RejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> service.getProjectPage("not-a-cursor", 10, null, null));
+    }
+
+    @Test
+    void searchProjects_ReturnsProjectsInIndexRankOrder() {
+        ProjectDto first = new ProjectDto(3L, "Rover", "", 1L, Project.Status.OPEN, new Timestamp(1000L), 3, null);
+        ProjectDto second = new ProjectDto(8L, "Robotics Lab", "", 1L, Project.Status.OPEN, new Timestamp(2000L), 3, null);
+
+        when(projectSearchIndex.isReady()).thenReturn(true);
+        when(projectSearchIndex.search(eq("robotics"), anyInt())).thenReturn(List.of(8L, 3L));
+        when(projectRepository.findDtosByIds(List.of(8L, 3L))).thenReturn(List.of(first, second));
+
+        List<ProjectDto> result = service.searchProjects("robotics");
+
+        assertEquals(List.of(8L, 3L), result.stream().map(ProjectDto::getProjectId).toList());
+        verify(projectRepository, never())
+                .findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(any(), any());
+    }
+
+    @Test
+    void searchProjectsWithFacets_CountsEveryMatchNotJustReturnedItems() {
+        ProjectDto item = new ProjectDto(8L, "Robotics Lab", "", 1L, Project.Status.OPEN, new Timestamp(2000L), 3, null);
+        ProjectFacetsDto facets = new ProjectFacetsDto();
+
+        when(projectSearchIndex.isReady()).thenReturn(true);
+        when(projectSearchIndex.search(eq("robotics"), anyInt())).thenReturn(List.of(8L));
+        when(projectRepository.findDtosByIds(List.of(8L))).thenReturn(List.of(item));
+        when(projectSearchIndex.matches("robotics")).thenReturn(List.of(8L, 3L, 5L));
+        when(projectFacetIndex.facetsFor(List.of(8L, 3L, 5L))).thenReturn(facets);
+
+        ProjectSearchResultDto result = service.searchProjectsWithFacets("robotics");
+
+        assertEquals(1, result.getItems().size());
+        assertSame(facets, result.getFacets());
+    }
+
+    @Test
+    void getProjectsByStudent_UsesMembershipProjection() {
+        ProjectDto dto = new ProjectDto(4L, "Capstone", "desc", 1L, Project.Status.OPEN,
+                new Timestamp(1000L), 5, null);
+        when(projectRepository.findDtosByMemberUserId(2L)).thenReturn(List.of(dto));
+
+        List<ProjectDto> result = service.getProjectsByStudent(2L);
+
+        assertEquals(1, result.size());
+        assertEquals("OPEN", result.get(0).getStatus());
+        verify(projectSkillLoader).fillSkills(result);
+        verify(projectMembershipLoader).fillMemberIds(result);
+        verify(projectRepository, never()).findAll();
+    }
+
+    @Test
+    void joinProject_RefreshesRecommendationMemberCount() {
+        Project project = new Project();
+        project.setProjectId(10L);
+        project.setMembers(new HashSet<>());
+        User student = new User();
+        student.setUserId(2L);
+        when(projectRepository.findById(10L)).thenReturn(Optional.of(project));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(student));
+        when(memberRepository.countByProject_ProjectId(10L)).thenReturn(2L);
+
+        service.joinProject(10L, 2L);
+
+        assertTrue(project.getMembers().contains(student));
+        verify(projectRecommendationIndex).updateMemberCount(10L, 2);
     }
 }
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.RatingDistributionDto;
+import com.campusconnect.dto.RatingSummaryDto;
+import com.campusconnect.entity.Course;
+import com.campusconnect.entity.Professor;
+import com.campusconnect.entity.Rating;
+import com.campusconnect.entity.RatingAggregate;
+import com.campusconnect.entity.RatingAggregate.TargetType;
+import com.campusconnect.entity.RatingRollup;
+import com.campusconnect.repository.RatingAggregateJdbcRepository;
+import com.campusconnect.repository.RatingAggregateRepository;
+import com.campusconnect.repository.RatingRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RatingAggregateServiceTest {
+
+    @Mock private RatingAggregateRepository ratingAggregateRepository;
+    @Mock private RatingRollupRepository ratingRollupRepository;
+    @Mock private RatingAggregateJdbcRepository ratingAggregateJdbcRepository;
+    @Mock private RatingLeaderboard ratingLeaderboard;
+    @Mock private CourseDetailStatsUpdater courseDetailStatsUpdater;
+    @InjectMocks private RatingAggregateService service;
+
+    private static final LocalDate MARCH_2025 = LocalDate.of(2025, 3, 1);
+
+    @Test
+    void onRatingCreated_AddsToProfessorAndCourse() {
+        service.onRatingCreated(rating(4, 3L, 9L));
+
+        verify(ratingAggregateJdbcRepository).applyDelta(eq(TargetType.PROFESSOR), eq(3L), eq(4L), eq(1L), aryEq(new long[]{0, 0, 0, 1, 0}));
+        verify(ratingAggregateJdbcRepository).applyDelta(eq(TargetType.COURSE), eq(9L), eq(4L), eq(1L), aryEq(new long[]{0, 0, 0, 1, 0}));
+        verify(ratingLeaderboard).applyDelta(TargetType.PROFESSOR, 3L, 4L, 1L);
+        verify(ratingLeaderboard).applyDelta(TargetType.COURSE, 9L, 4L, 1L);
+        verify(courseDetailStatsUpdater).markCourse(9L);
+    }
+
+    @Test
+    void onRatingDeleted_SubtractsItsContribution() {
+        service.onRatingDeleted(rating(5, 3L, null));
+
+        verify(ratingAggregateJdbcRepository).applyDelta(eq(TargetType.PROFESSOR), eq(3L), eq(-5L), eq(-1L), aryEq(new long[]{0, 0, 0, 0, -1}));
+        verify(ratingAggregateJdbcRepository).applyRollupDelta(TargetType.PROFESSOR, 3L, MARCH_2025, 5, -1);
+        verifyNoMoreInteractions(ratingAggregateJdbcRepository);
+    }
+
+    @Test
+    void onRatingUpdated_MovesStarBucketWithoutChangingCount() {
+        service.onRatingUpdated(rating(2, null, 9L), 5);
+
+        verify(ratingAggregateJdbcRepository).applyDelta(eq(TargetType.COURSE), eq(9L), eq(-3L), eq(0L), aryEq(new long[]{0, 1, 0, 0, -1}));
+        verify(ratingAggregateJdbcRepository).applyRollupDelta(TargetType.COURSE, 9L, MARCH_2025, 5, -1);
+        verify(ratingAggregateJdbcRepository).applyRollupDelta(TargetType.COURSE, 9L, MARCH_2025, 2, 1);
+    }
+
+    @Test
+    void onRatingUpdated_SkipsUnchangedValue() {
+        service.onRatingUpdated(rating(4, 3L, 9L), 4);
+
+        verify(ratingAggregateJdbcRepository, never()).applyDelta(any(), anyLong(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void getSummary_ReturnsAverageAndHistogram() {
+        RatingAggregate aggregate = new RatingAggregate();
+        aggregate.setRatingSum(13);
+        aggregate.setRatingCount(3);
+        aggregate.setStar4(2);
+        aggregate.setStar5(1);
+        when(ratingAggregateRepository.findByTargetTypeAndTargetId(TargetType.PROFESSOR, 3L)).thenReturn(Optional.of(aggregate));
+
+        RatingSummaryDto summary = service.getSummary(TargetType.PROFESSOR, 3L);
+
+        assertEquals(13.0 / 3, summary.getAverage(), 1e-9);
+        assertEquals(3, summary.getCount());
+        assertEquals(2L, summary.getHistogram().get(4));
+        assertEquals(0L, summary.getHistogram().get(1));
+    }
+
+    @Test
+    void getDistribution_GroupsMonthlyRollupsIntoSemesters() {
+        when(ratingRollupRepository.findByTargetTypeAndTargetIdAndBucketMonthBetweenOrderByBucketMonth(
+                TargetType.PROFESSOR, 3L, LocalDate.of(2024, 1, 1), LocalDate.of(2025, 3, 1)))
+                .thenReturn(List.of(rollup(LocalDate.of(2024, 2, 1), 5, 2),
+                        rollup(LocalDate.of(2024, 9, 1), 3, 1),
+                        rollup(LocalDate.of(2024, 10, 1), 4, 1)));
+
+        RatingDistributionDto dto = service.getDistribution(TargetType.PROFESSOR, 3L, "2024-01", "2025-03", null);
+
+        assertEquals(4, dto.getCount());
+        assertEquals(17.0 / 4, dto.getAverage(), 1e-9);
+        assertEquals(2L, dto.getHistogram().get(5));
+        assertEquals(List.of("2024-SPRING", "2024-FALL", "2025-SPRING"),
+                dto.getTrend().stream().map(RatingDistributionDto.TrendPoint::getPeriod).toList());
+        assertEquals(3.5, dto.getTrend().get(1).getAverage(), 1e-9);
+        assertEquals(0, dto.getTrend().get(2).getCount());
+    }
+
+    @Test
+    void getDistribution_RejectsInvalidRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getDistribution(TargetType.COURSE, 9L, "2025-05", "2025-01", "MONTH"));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getDistribution(TargetType.COURSE, 9L, "2025-01", "2025-05", "WEEK"));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getDistribution(TargetType.COURSE, 9L, "Jan 2025", null, null));
+    }
+
+    @Test
+    void getAverage_IsZeroWithoutRatings() {
+        when(ratingAggregateRepository.findByTargetTypeAndTargetId(TargetType.COURSE, 9L)).thenReturn(Optional.empty());
+
+        assertEquals(0.0, service.getAverage(TargetType.COURSE, 9L));
+    }
+
+    @Test
+    void rebuildOnStartup_SkipsFullRebuildWhenTablesArePopulated() {
+        when(ratingAggregateJdbcRepository.isEmpty()).thenReturn(false);
+
+        service.rebuildOnStartup();
+
+        verify(ratingAggregateJdbcRepository, never()).rebuildAll();
+        verify(ratingAggregateJdbcRepository, never()).rebuildRollups();
+        verify(ratingLeaderboard).rebuild();
+        verifyNoInteractions(courseDetailStatsUpdater);
+    }
+
+    @Test
+    void rebuildOnStartup_SeedsEmptyTables() {
+        when(ratingAggregateJdbcRepository.isEmpty()).thenReturn(true);
+
+        service.rebuildOnStartup();
+
+        verify(ratingAggregateJdbcRepository).rebuildAll();
+        verify(ratingAggregateJdbcRepository).rebuildRollups();
+        verify(ratingLeaderboard).rebuild();
+        verify(courseDetailStatsUpdater).markAll();
+    }
+
+    private static RatingRollup rollup(LocalDate month, int star, long count) {
+        RatingRollup rollup = new RatingRollup();
+        rollup.setBucketMonth(month);
+        rollup.setStar(star);
+        rollup.setRatingCount(count);
+        return rollup;
+    }
+
+    private static Rating rating(int value, Long professorId, Long courseId) {
+        Rating rating = new Rating();
+        rating.setRatingValue(value);
+        rating.setCreatedAt(MARCH_2025.atTime(12, 0));
+        if (professorId != null) {
+            rating.setProfessor(new Professor(professorId));
+        }
+        if (courseId != null) {
+            Course course = new Course();
+            course.setCourseId(courseId);
+            rating.setCourse(course);
+        }
+        return rating;
+    }
+}
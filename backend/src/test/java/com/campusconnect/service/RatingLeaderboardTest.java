@@ -0,0 +1,146 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.LeaderboardEntryDto;
+import com.campusconnect.dto.LeaderboardPageDto;
+import com.campusconnect.entity.Professor;
+import com.campusconnect.entity.RatingAggregate.TargetType;
+import com.campusconnect.entity.University;
+import com.campusconnect.repository.CourseRepository;
+import com.campusconnect.repository.ProfessorRepository;
+import com.campusconnect.repository.RatingAggregateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RatingLeaderboardTest {
+
+    @Mock private RatingAggregateRepository ratingAggregateRepository;
+    @Mock private ProfessorRepository professorRepository;
+    @Mock private CourseRepository courseRepository;
+    @InjectMocks private RatingLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> professors = new ArrayList<>();
+        // A single 5-star rating must not outrank forty ratings averaging 4.5
+        professors.add(new Object[]{1L, 5L, 1L, "New Hire", 10L, "Computer Science"});
+        professors.add(new Object[]{2L, 180L, 40L, "Veteran", 10L, "computer science "});
+        professors.add(new Object[]{3L, 60L, 20L, "Elsewhere", 20L, "Physics"});
+        when(ratingAggregateRepository.findProfessorLeaderboardRows()).thenReturn(professors);
+        when(ratingAggregateRepository.findCourseLeaderboardRows()).thenReturn(new ArrayList<>());
+        leaderboard.rebuild();
+    }
+
+    @Test
+    void page_RanksByBayesianScoreNotRawAverage() {
+        LeaderboardPageDto page = leaderboard.page(TargetType.PROFESSOR, null, null, 0, 10);
+
+        assertEquals(3, page.getTotal());
+        assertEquals(List.of(2L, 1L, 3L), ids(page));
+        assertEquals(1, page.getItems().get(0).getRank());
+        assertEquals(4.5, page.getItems().get(0).getAverage(), 1e-9);
+    }
+
+    @Test
+    void page_FiltersByUniversityAndNormalizedDepartment() {
+        LeaderboardPageDto page = leaderboard.page(TargetType.PROFESSOR, 10L, "COMPUTER SCIENCE", 0, 10);
+
+        assertEquals(List.of(2L, 1L), ids(page));
+        assertTrue(leaderboard.page(TargetType.PROFESSOR, 20L, "Computer Science", 0, 10).getItems().isEmpty());
+    }
+
+    @Test
+    void page_PaginatesWithContinuousRanks() {
+        LeaderboardPageDto second = leaderboard.page(TargetType.PROFESSOR, null, null, 1, 2);
+
+        assertEquals(List.of(3L), ids(second));
+        assertEquals(3, second.getItems().get(0).getRank());
+        assertFalse(second.isHasMore());
+    }
+
+    @Test
+    void page_RefusesPagesBeyondTheOffsetLimit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> leaderboard.page(TargetType.PROFESSOR, null, null, RatingLeaderboard.MAX_OFFSET / 10 + 1, 10));
+        assertTrue(leaderboard.page(TargetType.PROFESSOR, null, null, 5, 10).getItems().isEmpty());
+    }
+
+    @Test
+    void rebuild_ReplaysDeltasAppliedWhileLoading() {
+        List<Object[]> snapshot = new ArrayList<>();
+        snapshot.add(new Object[]{3L, 60L, 20L, "Elsewhere", 20L, "Physics"});
+        when(ratingAggregateRepository.findProfessorLeaderboardRows()).thenAnswer(invocation -> {
+            // A rating that commits after its aggregate row was read
+            leaderboard.applyDelta(TargetType.PROFESSOR, 3L, 100L, 20L);
+            return snapshot;
+        });
+
+        leaderboard.rebuild();
+
+        LeaderboardPageDto page = leaderboard.page(TargetType.PROFESSOR, null, null, 0, 10);
+        assertEquals(List.of(3L), ids(page));
+        assertEquals(40, page.getItems().get(0).getCount());
+    }
+
+    @Test
+    void applyDelta_RepositionsExistingAndAddsNewTargets() {
+        leaderboard.applyDelta(TargetType.PROFESSOR, 3L, 100L, 20L);   // Elsewhere: 160 / 40 = 4.0
+
+        Professor professor = new Professor(4L);
+        professor.setName("Rookie");
+        professor.setUniversity(University.builder().universityId(20L).build());
+        when(professorRepository.findById(4L)).thenReturn(Optional.of(professor));
+        leaderboard.applyDelta(TargetType.PROFESSOR, 4L, 1L, 1L);
+
+        assertEquals(List.of(3L, 4L), ids(leaderboard.page(TargetType.PROFESSOR, 20L, null, 0, 10)));
+
+        leaderboard.applyDelta(TargetType.PROFESSOR, 4L, -1L, -1L);
+        assertEquals(List.of(3L), ids(leaderboard.page(TargetType.PROFESSOR, 20L, null, 0, 10)));
+    }
+
+    @Test
+    void refreshProfessor_MovesEntryBetweenGroups() {
+        Professor moved = new Professor(3L);
+        moved.setName("Elsewhere");
+        moved.setDepartment("Computer Science");
+        moved.setUniversity(University.builder().universityId(10L).build());
+
+        leaderboard.refreshProfessor(moved);
+
+        assertEquals(3, leaderboard.page(TargetType.PROFESSOR, 10L, null, 0, 10).getTotal());
+        assertEquals(0, leaderboard.page(TargetType.PROFESSOR, 20L, null, 0, 10).getTotal());
+    }
+
+    @Test
+    void refreshProfessor_MovesTheirCoursesToTheNewDepartment() {
+        List<Object[]> courses = new ArrayList<>();
+        courses.add(new Object[]{100L, 40L, 10L, "Mechanics", 20L, "Physics", 3L});
+        courses.add(new Object[]{101L, 30L, 10L, "Compilers", 10L, "Computer Science", 2L});
+        when(ratingAggregateRepository.findCourseLeaderboardRows()).thenReturn(courses);
+        leaderboard.rebuild();
+
+        Professor moved = new Professor(3L);
+        moved.setName("Elsewhere");
+        moved.setDepartment("Computer Science");
+        moved.setUniversity(University.builder().universityId(20L).build());
+        leaderboard.refreshProfessor(moved);
+
+        assertEquals(List.of(100L, 101L), ids(leaderboard.page(TargetType.COURSE, null, "computer science", 0, 10)));
+        assertEquals(0, leaderboard.page(TargetType.COURSE, null, "Physics", 0, 10).getTotal());
+    }
+
+    private static List<Long> ids(LeaderboardPageDto page) {
+        return page.getItems().stream().map(LeaderboardEntryDto::getTargetId).toList();
+    }
+}
@@ -2,21 +2,30 @@
 package com.campusconnect.service;
 
 import com.campusconnect.dto.RatingDto;
+import com.campusconnect.entity.Professor;
 import com.campusconnect.entity.Rating;
+import com.campusconnect.entity.RatingAggregate;
+import com.campusconnect.entity.ReviewOutbox;
 import com.campusconnect.entity.User;
 import com.campusconnect.repository.*;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.context.support.WithMockUser;
 
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +33,10 @@ class RatingServiceImplTest {
 
     @Mock private RatingRepository ratingRepository;
     @Mock private UserRepository userRepository;
+    @Mock private ProfessorRepository professorRepository;
+    @Mock private RatingAggregateService ratingAggregateService;
+    @Mock private ReviewOutboxRepository reviewOutboxRepository;
+    @Mock private CourseIdentityResolver courseIdentityResolver;
     @InjectMocks private RatingServiceImpl service;
 
     @Test
@@ -34,14 +47,112 @@ class RatingServiceImplTest {
         User user = new User();
         user.setUserId(1L);
         when(userRepository.findByEmail("user@campus.com")).thenReturn(Optional.of(user));
-        when(ratingRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(ratingRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
 
         RatingDto dto = new RatingDto();
         dto.setRatingValue(5);
 
         RatingDto result = service.createRating(dto);
         assert result != null;
+        verify(ratingAggregateService).onRatingCreated(any(Rating.class));
 
         SecurityContextHolder.clearContext();
     }
+
+    @Test
+    void createRating_RejectsDuplicateCourseRatingWithIndexedCheck() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("user@campus.com", null));
+        User user = new User();
+        user.setUserId(1L);
+        when(userRepository.findByEmail("user@campus.com")).thenReturn(Optional.of(user));
+        // CourseDetail 9 is backed by legacy Course 40, which holds the earlier rating
+        when(courseIdentityResolver.resolveForRating(9L)).thenReturn(new CourseIdentityResolver.CourseIds(9L, 40L));
+        when(ratingRepository.existsByUser_UserIdAndCourse_CourseId(1L, 40L)).thenReturn(true);
+
+        RatingDto dto = new RatingDto();
+        dto.setCourseId(9L);
+        dto.setRatingValue(4);
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> service.createRating(dto));
+        assertTrue(ex.getMessage().contains("already rated"));
+        verify(ratingRepository, never()).findAll();
+        verify(ratingRepository, never()).saveAndFlush(any());
+
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void createRating_MapsUniqueIndexViolationToAlreadyRated() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("user@campus.com", null));
+        User user = new User();
+        user.setUserId(1L);
+        when(userRepository.findByEmail("user@campus.com")).thenReturn(Optional.of(user));
+        when(ratingRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                "Duplicate entry '1-3' for key 'ratings." + Rating.UNIQUE_USER_PROFESSOR + "'"));
+        when(professorRepository.findById(3L)).thenReturn(Optional.of(new Professor(3L)));
+
+        RatingDto dto = new RatingDto();
+        dto.setProfessorId(3L);
+        dto.setRatingValue(5);
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> service.createRating(dto));
+        assertEquals("You have already rated this professor.", ex.getMessage());
+        verifyNoInteractions(ratingAggregateService);
+
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void createRating_QueuesReviewInOutboxInsteadOfCallingReviewService() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("user@campus.com", null));
+        User user = new User();
+        user.setUserId(1L);
+        when(userRepository.findByEmail("user@campus.com")).thenReturn(Optional.of(user));
+        when(professorRepository.findById(3L)).thenReturn(Optional.of(new Professor(3L)));
+        when(ratingRepository.saveAndFlush(any())).thenAnswer(i -> {
+            Rating saved = i.getArgument(0);
+            saved.setRatingId(50L);
+            return saved;
+        });
+
+        RatingDto dto = new RatingDto();
+        dto.setProfessorId(3L);
+        dto.setRatingValue(4);
+        dto.setComment("Clear lectures");
+        service.createRating(dto);
+
+        ArgumentCaptor<ReviewOutbox> outbox = ArgumentCaptor.forClass(ReviewOutbox.class);
+        verify(reviewOutboxRepository).save(outbox.capture());
+        assertEquals(50L, outbox.getValue().getRatingId());
+        assertEquals(1L, outbox.getValue().getUserId());
+        assertEquals(3L, outbox.getValue().getProfessorId());
+        assertEquals("Clear lectures", outbox.getValue().getContent());
+
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getAverageRatingForProfessor_ReadsAggregateInsteadOfRatings() {
+        when(professorRepository.existsById(3L)).thenReturn(true);
+        when(ratingAggregateService.getAverage(RatingAggregate.TargetType.PROFESSOR, 3L)).thenReturn(4.5);
+
+        assertEquals(4.5, service.getAverageRatingForProfessor(3L));
+        verifyNoInteractions(ratingRepository);
+    }
+
+    @Test
+    void getRatingSummaryForCourse_RejectsUnknownIdInsteadOfReadingRawId() {
+        when(courseIdentityResolver.findCourseIdOrThrow(8L)).thenThrow(new EntityNotFoundException("Course not found"));
+
+        assertThrows(EntityNotFoundException.class, () -> service.getRatingSummaryForCourse(8L));
+        verifyNoInteractions(ratingAggregateService);
+    }
+
+    @Test
+    void getRatingsByCourse_IsEmptyForUnratedCourseDetail() {
+        when(courseIdentityResolver.findCourseIdOrThrow(9L)).thenReturn(null);
+
+        assertTrue(service.getRatingsByCourse(9L).isEmpty());
+        verifyNoInteractions(ratingRepository);
+    }
 }
\ No newline at end of file
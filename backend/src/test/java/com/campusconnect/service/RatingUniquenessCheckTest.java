@@ -0,0 +1,52 @@
+package com.campusconnect.service;
+
+import com.campusconnect.entity.Rating;
+import com.campusconnect.repository.RatingUniquenessJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RatingUniquenessCheckTest {
+
+    @Mock private RatingUniquenessJdbcRepository ratingUniquenessJdbcRepository;
+    @Mock private RatingAggregateService ratingAggregateService;
+    @InjectMocks private RatingUniquenessCheck check;
+
+    @Test
+    void enforce_DoesNothingWhenBothIndexesExist() {
+        when(ratingUniquenessJdbcRepository.hasIndex(anyString())).thenReturn(true);
+
+        assertEquals(0, check.enforce());
+        verify(ratingUniquenessJdbcRepository, never()).mergeDuplicates(anyString());
+        verifyNoInteractions(ratingAggregateService);
+    }
+
+    @Test
+    void enforce_MergesDuplicatesAddsMissingIndexAndRebuildsAggregates() {
+        when(ratingUniquenessJdbcRepository.hasIndex(Rating.UNIQUE_USER_PROFESSOR)).thenReturn(true);
+        when(ratingUniquenessJdbcRepository.hasIndex(Rating.UNIQUE_USER_COURSE)).thenReturn(false, true);
+        when(ratingUniquenessJdbcRepository.mergeDuplicates("course_id")).thenReturn(2);
+
+        assertEquals(2, check.enforce());
+        verify(ratingUniquenessJdbcRepository).addUniqueIndex(Rating.UNIQUE_USER_COURSE, "course_id");
+        verify(ratingAggregateService).rebuild();
+    }
+
+    @Test
+    void enforce_FailsStartupWhenTheIndexCannotBeAdded() {
+        when(ratingUniquenessJdbcRepository.hasIndex(Rating.UNIQUE_USER_PROFESSOR)).thenReturn(false);
+        doThrow(new DuplicateKeyException("Duplicate entry"))
+                .when(ratingUniquenessJdbcRepository).addUniqueIndex(Rating.UNIQUE_USER_PROFESSOR, "professor_id");
+
+        assertThrows(IllegalStateException.class, () -> check.enforce());
+        verify(ratingUniquenessJdbcRepository, times(RatingUniquenessCheck.MAX_ATTEMPTS)).mergeDuplicates("professor_id");
+    }
+}
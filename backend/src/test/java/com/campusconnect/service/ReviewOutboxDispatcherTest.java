@@ -0,0 +1,94 @@
+package com.campusconnect.service;
+
+import com.campusconnect.entity.ReviewOutbox;
+import com.campusconnect.repository.ReviewOutboxJdbcRepository;
+import com.campusconnect.repository.ReviewOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewOutboxDispatcherTest {
+
+    @Mock private ReviewOutboxRepository reviewOutboxRepository;
+    @Mock private ReviewOutboxJdbcRepository reviewOutboxJdbcRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private CourseDetailStatsUpdater courseDetailStatsUpdater;
+    @Mock private ReviewSearchIndex reviewSearchIndex;
+    @InjectMocks private ReviewOutboxDispatcher dispatcher;
+
+    @Test
+    void dispatchBatch_InsertsAndDeletesClaimedRowsTogether() {
+        List<ReviewOutbox> batch = List.of(row(1L), row(2L));
+        batch.get(0).setCourseDetailId(40L);
+        when(reviewOutboxRepository.claimDue(eq(ReviewOutbox.Status.PENDING), any(), any())).thenReturn(batch);
+
+        assertEquals(2, dispatcher.dispatchBatch());
+
+        verify(reviewOutboxJdbcRepository).insertReviews(eq(batch), any());
+        verify(reviewOutboxRepository).deleteAllInBatch(batch);
+        verify(courseDetailStatsUpdater).markCourseDetail(40L);
+        verify(reviewSearchIndex).indexByRatingIds(List.of(10L, 20L));
+    }
+
+    @Test
+    void dispatchBatch_IsolatesFailingRowAndSchedulesRetry() {
+        ReviewOutbox good = row(1L);
+        ReviewOutbox bad = row(2L);
+        when(reviewOutboxRepository.claimDue(eq(ReviewOutbox.Status.PENDING), any(), any())).thenReturn(List.of(good, bad));
+        doThrow(new DataIntegrityViolationException("fk")).when(reviewOutboxJdbcRepository)
+                .insertReviews(argThat(rows -> rows.contains(bad)), any());
+        when(reviewOutboxRepository.claimById(1L, ReviewOutbox.Status.PENDING)).thenReturn(Optional.of(good));
+        when(reviewOutboxRepository.claimById(2L, ReviewOutbox.Status.PENDING)).thenReturn(Optional.of(bad));
+        when(reviewOutboxRepository.findById(2L)).thenReturn(Optional.of(bad));
+
+        dispatcher.dispatchBatch();
+
+        verify(reviewOutboxRepository).delete(good);
+        verify(reviewOutboxRepository, never()).delete(bad);
+        verify(reviewOutboxRepository).save(bad);
+        assertEquals(1, bad.getAttempts());
+        assertEquals("fk", bad.getLastError());
+        assertTrue(bad.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals(ReviewOutbox.Status.PENDING, bad.getStatus());
+    }
+
+    @Test
+    void dispatchBatch_ParksRowAfterMaxAttempts() {
+        ReviewOutbox bad = row(2L);
+        bad.setAttempts(ReviewOutboxDispatcher.MAX_ATTEMPTS - 1);
+        when(reviewOutboxRepository.claimDue(eq(ReviewOutbox.Status.PENDING), any(), any())).thenReturn(List.of(bad));
+        doThrow(new IllegalStateException("boom")).when(reviewOutboxJdbcRepository).insertReviews(anyList(), any());
+        when(reviewOutboxRepository.claimById(2L, ReviewOutbox.Status.PENDING)).thenReturn(Optional.of(bad));
+        when(reviewOutboxRepository.findById(2L)).thenReturn(Optional.of(bad));
+
+        dispatcher.dispatchBatch();
+
+        assertEquals(ReviewOutbox.Status.FAILED, bad.getStatus());
+    }
+
+    private static ReviewOutbox row(Long id) {
+        ReviewOutbox row = new ReviewOutbox();
+        row.setOutboxId(id);
+        row.setRatingId(id * 10);
+        row.setUserId(7L);
+        row.setProfessorId(3L);
+        row.setContent("Great");
+        return row;
+    }
+}
@@ -0,0 +1,84 @@
+package com.campusconnect.service;
+
+import com.campusconnect.dto.ReviewSearchHitDto;
+import com.campusconnect.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewSearchIndexTest {
+
+    @Mock private ReviewRepository reviewRepository;
+    @InjectMocks private ReviewSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        when(reviewRepository.findSearchRows()).thenReturn(List.of(
+                new Object[]{1L, 10L, 3L, "Fair grading", "The group project was huge but the curve helped.", now},
+                new Object[]{2L, 10L, null, "Attendance", "Attendance is mandatory; project work in groups.", now},
+                new Object[]{3L, 11L, 3L, "Other course", "Another group project here.", now}));
+        index.rebuild();
+    }
+
+    @Test
+    void search_MatchesPhraseOnlyWhenWordsAreAdjacent() {
+        List<ReviewSearchHitDto> hits = index.searchCourseDetail(10L, "\"group project\"", 10);
+
+        assertEquals(1, hits.size());
+        assertEquals(1L, hits.get(0).getReviewId());
+        assertTrue(hits.get(0).getSnippet().contains("<mark>group</mark> <mark>project</mark>"));
+    }
+
+    @Test
+    void search_ExpandsPrefixAndStaysWithinTarget() {
+        List<ReviewSearchHitDto> hits = index.searchCourseDetail(10L, "attend*", 10);
+        assertEquals(List.of(2L), hits.stream().map(ReviewSearchHitDto::getReviewId).toList());
+
+        List<ReviewSearchHitDto> professorHits = index.searchProfessor(3L, "project", 10);
+        assertEquals(2, professorHits.size());
+    }
+
+    @Test
+    void remove_DropsReviewFromResults() {
+        index.remove(1L);
+
+        assertTrue(index.searchCourseDetail(10L, "curve", 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void search_ReturnsNothingUntilFirstRebuild() {
+        ReviewSearchIndex cold = new ReviewSearchIndex();
+
+        assertTrue(cold.searchCourseDetail(10L, "project", 10).isEmpty());
+        assertFalse(cold.isReady());
+    }
+
+    @Test
+    void rebuild_KeepsWritesThatLandWhileLoading() {
+        LocalDateTime now = LocalDateTime.now();
+        when(reviewRepository.findSearchRows()).thenAnswer(invocation -> {
+            // Committed after the snapshot was read but before it is swapped in
+            index.remove(2L);
+            return List.of(
+                    new Object[]{1L, 10L, 3L, "Fair grading", "The group project was huge but the curve helped.", now},
+                    new Object[]{2L, 10L, null, "Attendance", "Attendance is mandatory; project work in groups.", now});
+        });
+
+        index.rebuild();
+
+        assertTrue(index.searchCourseDetail(10L, "attendance", 10).isEmpty());
+        assertEquals(1, index.size());
+    }
+}
@@ -2,10 +2,13 @@
 package com.campusconnect.service;
 
 import com.campusconnect.dto.ReviewDto;
+import com.campusconnect.dto.ReviewFeedItemDto;
+import com.campusconnect.dto.ReviewPageDto;
 import com.campusconnect.entity.CourseDetail;
 import com.campusconnect.entity.Review;
 import com.campusconnect.entity.User;
 import com.campusconnect.repository.CourseDetailRepository;
+import com.campusconnect.repository.ReviewHelpfulJdbcRepository;
 import com.campusconnect.repository.ReviewRepository;
 import com.campusconnect.repository.UserRepository;
 import org.junit.jupiter.api.Test;
@@ -16,9 +19,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +34,11 @@ class ReviewServiceImplTest {
     @Mock private ReviewRepository reviewRepository;
     @Mock private UserRepository userRepository;
     @Mock private CourseDetailRepository courseDetailRepository; // ADDED THIS
+    @Mock private CourseIdentityResolver courseIdentityResolver;
+    @Mock private CourseDetailStatsUpdater courseDetailStatsUpdater;
+    @Mock private HelpfulVoteCounter helpfulVoteCounter;
+    @Mock private ReviewHelpfulJdbcRepository reviewHelpfulJdbcRepository;
+    @Mock private ReviewSearchIndex reviewSearchIndex;
 
     @InjectMocks private ReviewServiceImpl service;
 
@@ -61,4 +73,53 @@ class ReviewServiceImplTest {
         // Clean up
         SecurityContextHolder.clearContext();
     }
-}
\ No newline at end of file
+
+    @Test
+    void markReviewHelpful_AddsPendingVoteWithoutSavingReview() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("user@campus.com", null));
+        User user = new User();
+        user.setUserId(1L);
+        Review review = new Review();
+        review.setReviewId(5L);
+        review.setHelpfulCount(3);
+
+        when(reviewRepository.findById(5L)).thenReturn(Optional.of(review));
+        when(userRepository.findByEmail("user@campus.com")).thenReturn(Optional.of(user));
+        when(helpfulVoteCounter.vote(5L, 1L)).thenReturn(true);
+        when(helpfulVoteCounter.pendingFor(5L)).thenReturn(1L);
+
+        ReviewDto result = service.markReviewHelpful(5L);
+
+        assert result.getHelpfulCount() == 4;
+        verify(reviewRepository, never()).save(any());
+    }
+
+    @Test
+    void getProfessorReviewFeed_ContinuesAfterCursor() {
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 10, 0, 0, 123456000);
+        ReviewFeedItemDto first = new ReviewFeedItemDto(9L, "t", "c", 4, now, now, 1L, "Ann", 5);
+        ReviewFeedItemDto second = new ReviewFeedItemDto(8L, "t", "c", 4, now, now, 2L, "Bob", 3);
+        when(reviewRepository.findProfessorFeedByHelpful(eq(3L), any())).thenReturn(List.of(first, second));
+
+        ReviewPageDto page = service.getProfessorReviewFeed(3L, "helpful", null, 1);
+
+        assertEquals(1, page.getItems().size());
+        assertTrue(page.isHasMore());
+
+        when(reviewRepository.findProfessorFeedByHelpfulAfter(eq(3L), eq(4), eq(9L), any())).thenReturn(List.of(second));
+        ReviewPageDto next = service.getProfessorReviewFeed(3L, "helpful", page.getNextCursor(), 1);
+
+        assertEquals(8L, next.getItems().get(0).getReviewId());
+        assertNull(next.getNextCursor());
+    }
+
+    @Test
+    void getCourseDetailReviewFeed_RejectsCursorFromOtherSort() {
+        String cursor = ReviewServiceImpl.encodeFeedCursor(ReviewServiceImpl.FeedSort.HELPFUL, "4", 9L);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getCourseDetailReviewFeed(1L, "newest", cursor, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getCourseDetailReviewFeed(1L, "oldest", null, 10));
+    }
+}
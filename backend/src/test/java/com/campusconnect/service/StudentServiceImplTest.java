@@ -5,6 +5,7 @@ import com.campusconnect.dto.UserDto;
 import com.campusconnect.entity.Project;
 import com.campusconnect.entity.User;
 import com.campusconnect.mapper.UserMapper;
+import com.campusconnect.repository.ProjectMemberRepository;
 import com.campusconnect.repository.ProjectRepository;
 import com.campusconnect.repository.UserRepository;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.HashSet;
 import java.util.Optional;
@@ -25,7 +27,13 @@ class StudentServiceImplTest {
 
     @Mock private UserRepository userRepository;
     @Mock private ProjectRepository projectRepository;
+    @Mock private ProjectMemberRepository projectMemberRepository;
+    @Mock private ProjectRecommendationIndex projectRecommendationIndex;
     @Mock private UserMapper userMapper;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private TeammateIndex teammateIndex;
+    @Mock private ProfileImageStore profileImageStore;
+    @Mock private ProfileThumbnailService profileThumbnailService;
     @InjectMocks private StudentServiceImpl service;
 
     @Test void joinProject_AddsStudentToProject() {
@@ -37,10 +45,12 @@ class StudentServiceImplTest {
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(student));
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(projectMemberRepository.countByProject_ProjectId(1L)).thenReturn(3L);
 
         service.joinProject(1L, 1L);
 
         assertTrue(project.getMembers().contains(student));
         verify(projectRepository).save(project);
+        verify(projectRecommendationIndex).updateMemberCount(1L, 3);
     }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.campusconnect.service;
+
+import com.campusconnect.entity.Interest;
+import com.campusconnect.entity.Skill;
+import com.campusconnect.repository.InterestRepository;
+import com.campusconnect.repository.SkillRepository;
+import com.campusconnect.repository.TagJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TagDictionaryTest {
+
+    @Mock private SkillRepository skillRepository;
+    @Mock private InterestRepository interestRepository;
+    @Mock private TagJdbcRepository tagJdbcRepository;
+    @InjectMocks private TagDictionary dictionary;
+
+    @Test
+    void resolveSkills_WarmCacheHitSkipsDatabase() {
+        when(skillRepository.findAll()).thenReturn(List.of(skill(1L, "Java")));
+        dictionary.warmUp();
+
+        Set<Skill> skills = dictionary.resolveSkills(List.of(" java ", "JAVA"));
+
+        assertEquals(1, skills.size());
+        assertEquals(1L, skills.iterator().next().getSkillId());
+        verify(skillRepository, never()).findByNameIn(anyCollection());
+        verifyNoInteractions(tagJdbcRepository);
+    }
+
+    @Test
+    void resolveSkills_MissesAreLoadedInOneQuery() {
+        when(skillRepository.findByNameIn(anyCollection()))
+                .thenReturn(List.of(skill(1L, "Java"), skill(2L, "Spring")));
+
+        Set<Skill> skills = dictionary.resolveSkills(Arrays.asList("Java", "Spring", "", null));
+
+        assertEquals(2, skills.size());
+        verify(skillRepository, times(1)).findByNameIn(anyCollection());
+        verifyNoInteractions(tagJdbcRepository);
+
+        // Second call is served from the cache
+        dictionary.resolveSkills(List.of("spring"));
+        verify(skillRepository, times(1)).findByNameIn(anyCollection());
+    }
+
+    @Test
+    void resolveInterests_UnknownNamesAreInsertedInBatch() {
+        when(interestRepository.findByNameIn(anyCollection())).thenReturn(List.of());
+        when(interestRepository.findLockedByNameIn(anyCollection()))
+                .thenReturn(List.of(interest(5L, "AI"), interest(6L, "Robotics")));
+
+        Set<Interest> interests = dictionary.resolveInterests(List.of("AI", "Robotics"));
+
+        assertEquals(2, interests.size());
+        verify(tagJdbcRepository).insertInterestsIfAbsent(List.of("AI", "Robotics"));
+    }
+
+    @Test
+    void resolveSkills_UnresolvedNameThrows() {
+        when(skillRepository.findByNameIn(anyCollection())).thenReturn(List.of());
+        when(skillRepository.findLockedByNameIn(anyCollection())).thenReturn(List.of());
+
+        assertThrows(IllegalStateException.class, () -> dictionary.resolveSkills(List.of("Go")));
+    }
+
+    @Test
+    void resolveSkills_TooLongNameIsRejectedBeforeInsert() {
+        String tooLong = "x".repeat(TagDictionary.MAX_NAME_LENGTH + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> dictionary.resolveSkills(List.of("Java", tooLong)));
+        verifyNoInteractions(skillRepository, tagJdbcRepository);
+    }
+
+    private static Skill skill(Long id, String name) {
+        Skill skill = new Skill();
+        skill.setSkillId(id);
+        skill.setName(name);
+        return skill;
+    }
+
+    private static Interest interest(Long id, String name) {
+        Interest interest = new Interest();
+        interest.setInterestId(id);
+        interest.setName(name);
+        return interest;
+    }
+}
@@ -0,0 +1,129 @@
+package com.campusconnect.service;
+
+import com.campusconnect.entity.Skill;
+import com.campusconnect.entity.User;
+import com.campusconnect.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TeammateIndexTest {
+
+    @Mock private UserRepository userRepository;
+    @InjectMocks private TeammateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findTeammateIndexRows()).thenReturn(List.of(
+                new Object[]{1L, "Ada Lovelace", User.Role.STUDENT, "Computer Science", User.Year.Junior, User.Availability.Available},
+                new Object[]{2L, "Alan Turing", User.Role.STUDENT, "Mathematics", User.Year.Senior, User.Availability.Busy},
+                new Object[]{3L, "Admin Person", User.Role.ADMIN, "Computer Science", null, null}));
+        when(userRepository.findUserSkillNameRows()).thenReturn(List.of(
+                new Object[]{1L, "Machine Learning"}, new Object[]{2L, "Java"}, new Object[]{3L, "Java"}));
+        when(userRepository.findUserInterestNameRows()).thenReturn(List.<Object[]>of(new Object[]{2L, "Cryptography"}));
+        index.rebuild();
+    }
+
+    @Test
+    void search_OnlyReturnsStudents() {
+        assertArrayEquals(new int[]{1, 2}, index.search(null, null, null, null, null, null).toArray());
+        assertArrayEquals(new int[]{2}, index.search(null, null, null, null, "java", null).toArray());
+    }
+
+    @Test
+    void search_IntersectsFiltersAndMatchesWordPrefixes() {
+        assertArrayEquals(new int[]{1}, index.search("mach", "comp sci", "junior", "all", null, null).toArray());
+        assertArrayEquals(new int[]{2}, index.search("crypto", null, null, "busy", null, null).toArray());
+        assertTrue(index.search("ada", null, "senior", null, null, null).isEmpty());
+    }
+
+    @Test
+    void index_ReplacesPreviousProfile() {
+        User ada = new User();
+        ada.setUserId(1L);
+        ada.setName("Ada Lovelace");
+        ada.setRole(User.Role.STUDENT);
+        ada.setYear(User.Year.Senior);
+        Skill rust = new Skill();
+        rust.setName("Rust");
+        ada.setSkills(Set.of(rust));
+
+        index.index(ada);
+
+        assertArrayEquals(new int[]{1, 2}, index.search(null, null, "senior", null, null, null).toArray());
+        assertTrue(index.search("machine", null, null, null, null, null).isEmpty());
+        index.remove(1L);
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void search_ShortPrefixesMatchEveryTokenTheyStart() {
+        for (long id = 10; id < 90; id++) {
+            User user = new User();
+            user.setUserId(id);
+            user.setName("Jo" + id);
+            user.setRole(User.Role.STUDENT);
+            index.index(user);
+        }
+
+        // 80 distinct "jo.." name tokens plus Alan's "java" skill
+        assertEquals(81, index.search("j", null, null, null, null, null).cardinality());
+        assertEquals(80, index.search("jo", null, null, null, null, null).cardinality());
+        assertEquals(10, index.search("jo1", null, null, null, null, null).cardinality());
+
+        index.remove(2L);
+        assertEquals(80, index.search("j", null, null, null, null, null).cardinality());
+    }
+
+    @Test
+    void search_FallsBackToDatabaseUntilFirstRebuild() {
+        TeammateIndex cold = new TeammateIndex();
+        ReflectionTestUtils.setField(cold, "userRepository", userRepository);
+        when(userRepository.searchTeammateIds(User.Role.STUDENT, "%50\\%%", null, User.Year.Junior, null, "java", null))
+                .thenReturn(List.of(4L, 9L));
+
+        assertArrayEquals(new int[]{4, 9}, cold.search("50%", "all", "junior", null, " Java ", null).toArray());
+        assertTrue(cold.search(null, null, "ninth", null, null, null).isEmpty());
+        assertFalse(cold.isReady());
+    }
+
+    @Test
+    void index_SkipsUserIdsBeyondIntRange() {
+        User user = new User();
+        user.setUserId(Integer.MAX_VALUE + 1L);
+        user.setName("Grace Hopper");
+        user.setRole(User.Role.STUDENT);
+
+        index.index(user);
+        index.remove(Integer.MAX_VALUE + 1L);
+
+        assertEquals(3, index.size());
+        assertTrue(index.search("grace", null, null, null, null, null).isEmpty());
+    }
+
+    @Test
+    void rebuild_KeepsChangesThatLandWhileLoading() {
+        when(userRepository.findTeammateIndexRows()).thenAnswer(invocation -> {
+            // Committed after the snapshot was read but before it is swapped in
+            index.remove(2L);
+            return List.<Object[]>of(
+                    new Object[]{1L, "Ada Lovelace", User.Role.STUDENT, "Computer Science", User.Year.Junior, User.Availability.Available},
+                    new Object[]{2L, "Alan Turing", User.Role.STUDENT, "Mathematics", User.Year.Senior, User.Availability.Busy});
+        });
+
+        index.rebuild();
+
+        assertArrayEquals(new int[]{1}, index.search(null, null, null, null, null, null).toArray());
+    }
+}
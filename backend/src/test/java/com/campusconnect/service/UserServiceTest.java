@@ -1,10 +1,11 @@
 // 20. UserServiceTest.java
 package com.campusconnect.service;
 
+import com.campusconnect.dto.TeammatePageDto;
 import com.campusconnect.dto.UserDto;
 import com.campusconnect.entity.User;
-import com.campusconnect.repository.ProjectMemberRepository;
 import com.campusconnect.repository.UserRepository;
+import com.campusconnect.util.RoaringBitmap;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -12,7 +13,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -21,26 +21,57 @@ import static org.mockito.Mockito.*;
 class UserServiceTest {
 
     @Mock private UserRepository userRepository;
-    @Mock private ProjectMemberRepository projectMemberRepository;
+    @Mock private ProjectCountLoader projectCountLoader;
+    @Mock private TagDictionary tagDictionary;
+    @Mock private TeammateIndex teammateIndex;
+    @Mock private ProfileImageStore profileImageStore;
+    @Mock private ProfileThumbnailService profileThumbnailService;
+    @Mock private PresenceTracker presenceTracker;
     @InjectMocks private UserService service;
 
-    @Test void getTeammates_OnlyReturnsStudents() {
-        User student = new User(); student.setRole(User.Role.STUDENT);
-        User admin = new User(); admin.setRole(User.Role.ADMIN);
+    @Test void getTeammates_LoadsIndexMatchesInIdOrder() {
+        User first = new User(); first.setUserId(3L); first.setRole(User.Role.STUDENT);
+        User second = new User(); second.setUserId(7L); second.setRole(User.Role.STUDENT);
 
-        when(userRepository.findAll()).thenReturn(List.of(student, admin));
+        when(teammateIndex.search(null, null, null, null, null, null)).thenReturn(RoaringBitmap.of(3, 7));
+        when(userRepository.findAllWithProfileByIds(List.of(3L, 7L))).thenReturn(List.of(second, first));
 
         List<UserDto> result = service.getTeammates(null, null, null, null);
-        assertEquals(1, result.size());
+        assertEquals(List.of(3L, 7L), result.stream().map(UserDto::getUserId).toList());
+        verify(userRepository, never()).findAll();
     }
 
-    @Test void updateLastSeen_UpdatesTimestamp() {
-        User user = new User();
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    @Test void getTeammatePage_LoadsOnlyRequestedPage() {
+        User third = new User(); third.setUserId(9L); third.setRole(User.Role.STUDENT);
 
+        when(teammateIndex.search("java", null, null, null, null, null)).thenReturn(RoaringBitmap.of(3, 7, 9));
+        when(userRepository.findAllWithProfileByIds(List.of(9L))).thenReturn(List.of(third));
+
+        TeammatePageDto page = service.getTeammatePage("java", null, null, null, null, null, 1, 2);
+        assertEquals(3, page.getTotal());
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+    }
+
+    @Test void getTeammates_LoadsLargeMatchSetsInChunks() {
+        int[] ids = new int[UserService.TEAMMATE_LOAD_CHUNK + 1];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i + 1;
+        }
+        when(teammateIndex.search(null, null, null, null, null, null)).thenReturn(RoaringBitmap.of(ids));
+        when(userRepository.findAllWithProfileByIds(anyCollection())).thenReturn(List.of());
+
+        service.getTeammates(null, null, null, null);
+
+        verify(userRepository).findAllWithProfileByIds(argThat(chunk -> chunk.size() == UserService.TEAMMATE_LOAD_CHUNK));
+        verify(userRepository).findAllWithProfileByIds(List.of((long) ids.length));
+    }
+
+    @Test void updateLastSeen_RecordsHeartbeatWithoutTouchingUserRow() {
         service.updateLastSeen(1L);
 
-        assertNotNull(user.getLastSeen());
-        verify(userRepository).save(user);
+        verify(presenceTracker).touch(1L);
+        verify(userRepository, never()).findById(any());
+        verify(userRepository, never()).save(any());
     }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ import * as PopoverPrimitive from "@radix-ui/react-popover";
 import { cn } from "./ui/utils";
 import { ScrollArea } from "./ui/scroll-area";
 import { useCurrentUser } from "../hooks/useCurrentUser";
+import { profileImageSrc } from "../utils/profileImage";
 import { useNotifications } from "../hooks/useNotifications";
 
 interface LayoutProps {
@@ -247,7 +248,7 @@ export function Layout({ onLogout }: LayoutProps) {
               className="h-9 w-9 cursor-pointer hover:ring-2 hover:ring-primary transition-all"
               onClick={() => navigate("/profile")}
             >
-              <AvatarImage src={currentUser?.avatar} />
+              <AvatarImage src={profileImageSrc(currentUser?.profileImageUrl, 64) ?? currentUser?.avatar} />
               <AvatarFallback className="bg-primary text-primary-foreground text-sm font-medium">
                 {userInitials}
               </AvatarFallback>
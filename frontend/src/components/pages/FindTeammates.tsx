@@ -5,7 +5,7 @@ import { Loader2 } from 'lucide-react';
 import { Card } from '../ui/card';
 import { Button } from '../ui/button';
 import { Badge } from '../ui/badge';
-import { Avatar, AvatarFallback } from '../ui/avatar';
+import { Avatar, AvatarFallback, AvatarImage } from '../ui/avatar';
 import { Input } from '../ui/input';
 import { 
   Search, Filter, MapPin, Briefcase, 
@@ -20,6 +20,7 @@ import {
 } from '../ui/dialog';
 import { Select, SelectContent, SelectItem, SelectTrigger, SelectValue } from '../ui/select';
 import { getCurrentUserId } from '../../utils/auth';
+import { profileImageSrc } from '../../utils/profileImage';
 
 interface FindTeammatesProps {
   onNavigate: (page: string) => void;
@@ -32,6 +33,7 @@ interface Teammate {
   year?: string;
   location?: string;
   bio?: string;
+  profileImageUrl?: string;
   skills?: Array<{ skillId: number; name: string }>;
   interests?: Array<{ interestId: number; name: string }>;
   projectCount: number;
@@ -50,13 +52,19 @@ interface ProjectDto {
   status?: string;
 }
 
+const TEAMMATE_PAGE_SIZE = 24;
+
 export function FindTeammates({ onNavigate }: FindTeammatesProps) {
   const [searchQuery, setSearchQuery] = useState('');
   const [selectedMajor, setSelectedMajor] = useState<string>('all');
   const [selectedYear, setSelectedYear] = useState<string>('all');
   const [selectedAvailability, setSelectedAvailability] = useState<string>('all');
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [teammates, setTeammates] = useState<Teammate[]>([]);
+  const [page, setPage] = useState(0);
+  const [total, setTotal] = useState(0);
+  const [hasMore, setHasMore] = useState(false);
   const [majors, setMajors] = useState<string[]>([]);
   const [inviteDialogOpen, setInviteDialogOpen] = useState(false);
   const [selectedTeammate, setSelectedTeammate] = useState<Teammate | null>(null);
@@ -77,23 +85,32 @@ export function FindTeammates({ onNavigate }: FindTeammatesProps) {
     }
   }, [inviteDialogOpen, userId]);
 
-  const fetchTeammates = async () => {
-    setLoading(true);
+  // Page 0 replaces the list (new filters); later pages are appended by "Load more"
+  const fetchTeammates = async (pageToLoad = 0) => {
+    if (pageToLoad === 0) {
+      setLoading(true);
+    } else {
+      setLoadingMore(true);
+    }
     try {
       const params = new URLSearchParams();
       if (searchQuery.trim()) params.append('search', searchQuery.trim());
       if (selectedMajor !== 'all') params.append('major', selectedMajor);
       if (selectedYear !== 'all') params.append('year', selectedYear);
       if (selectedAvailability !== 'all') params.append('availability', selectedAvailability);
+      params.append('page', String(pageToLoad));
+      params.append('size', String(TEAMMATE_PAGE_SIZE));
 
       const res = await axiosClient.get(`/users/teammates?${params.toString()}`);
-      const data = res.data || [];
+      const data = res.data?.items || [];
 
       // Transform to display format
       const transformed: Teammate[] = data.map((user: any) => {
-        // Determine online status (if lastSeen is within last 5 minutes, consider online)
+        // Online status comes from the server's presence tracker; fall back to lastSeen within 5 minutes
         let status: 'online' | 'offline' = 'offline';
-        if (user.lastSeen) {
+        if (typeof user.online === 'boolean') {
+          status = user.online ? 'online' : 'offline';
+        } else if (user.lastSeen) {
           const lastSeenTime = new Date(user.lastSeen).getTime();
           const now = Date.now();
           const minutesSinceLastSeen = (now - lastSeenTime) / (1000 * 60);
@@ -118,11 +135,15 @@ export function FindTeammates({ onNavigate }: FindTeammatesProps) {
         };
       });
 
-      setTeammates(transformed);
+      const loaded = pageToLoad === 0 ? transformed : [...teammates, ...transformed];
+      setTeammates(loaded);
+      setPage(pageToLoad);
+      setTotal(res.data?.total ?? loaded.length);
+      setHasMore(Boolean(res.data?.hasMore));
 
       // Extract unique majors for filter
       const uniqueMajors = Array.from(new Set(
-        transformed
+        loaded
           .map(t => t.major)
           .filter((m): m is string => m !== undefined && m !== null)
       )).sort();
@@ -130,9 +151,14 @@ export function FindTeammates({ onNavigate }: FindTeammatesProps) {
     } catch (error) {
       console.error('Failed to fetch teammates:', error);
       toast.error('Failed to load teammates');
-      setTeammates([]);
+      if (pageToLoad === 0) {
+        setTeammates([]);
+        setTotal(0);
+        setHasMore(false);
+      }
     } finally {
       setLoading(false);
+      setLoadingMore(false);
     }
   };
 
@@ -284,7 +310,7 @@ export function FindTeammates({ onNavigate }: FindTeammatesProps) {
       <div className="grid grid-cols-2 sm:grid-cols-4 gap-4">
         <Card className="p-4 rounded-xl shadow-sm border-border">
           <p className="text-muted-foreground text-sm mb-1">Total Students</p>
-          <p className="text-2xl">{filteredTeammates.length}</p>
+          <p className="text-2xl">{total}</p>
         </Card>
         <Card className="p-4 rounded-xl shadow-sm border-border">
           <p className="text-muted-foreground text-sm mb-1">Available</p>
@@ -334,6 +360,7 @@ export function FindTeammates({ onNavigate }: FindTeammatesProps) {
                 <div className="flex items-center gap-3">
                   <div className="relative">
                     <Avatar className="h-12 w-12">
+                      <AvatarImage src={profileImageSrc(teammate.profileImageUrl, 64)} />
                       <AvatarFallback className="bg-primary/10 text-primary">
                         {getAvatarInitials(teammate.name)}
                       </AvatarFallback>
@@ -441,6 +468,15 @@ export function FindTeammates({ onNavigate }: FindTeammatesProps) {
       </div>
       )}
 
+      {hasMore && (
+        <div className="flex justify-center">
+          <Button variant="outline" onClick={() => fetchTeammates(page + 1)} disabled={loadingMore}>
+            {loadingMore && <Loader2 className="h-4 w-4 mr-2 animate-spin" />}
+            Load more
+          </Button>
+        </div>
+      )}
+
       {/* Invite Dialog */}
       <Dialog open={inviteDialogOpen} onOpenChange={setInviteDialogOpen}>
         <DialogContent className="sm:max-w-[500px]">
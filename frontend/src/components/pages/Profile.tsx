@@ -13,6 +13,7 @@ import {
 import { useCurrentUser, User } from '../../hooks/useCurrentUser';
 import { getCurrentUserId, getUserRole, isTokenValid } from "../../utils/auth";
 import axiosClient from '../../api/axiosClient';
+import { profileImageSrc } from '../../utils/profileImage';
 import { toast } from 'sonner';
 
 interface ProfileProps {
@@ -233,36 +234,12 @@ export function Profile({ onNavigate }: ProfileProps) {
           <div className="flex flex-col items-center md:items-start">
             <Avatar className="h-32 w-32 mb-4">
               {(() => {
-                const profileImage = (user as User).profileImage;
+                const profileImageUrl = (user as User).profileImageUrl;
                 const avatar = user.avatar;
                 
-                // If profileImage exists (from backend), use it
-                if (profileImage) {
-                  if (typeof profileImage === 'string') {
-                    // Already a string (URL or base64)
-                    return <AvatarImage src={profileImage} />;
-                  } else if (Array.isArray(profileImage) && profileImage.length > 0) {
-                    // Byte array from backend - convert to base64
-                    try {
-                      const uint8Array = new Uint8Array(profileImage);
-                      // Use chunking for large arrays to avoid stack overflow
-                      const chunkSize = 0x8000; // 32KB chunks
-                      let binaryString = '';
-                      for (let i = 0; i < uint8Array.length; i += chunkSize) {
-                        const chunk = uint8Array.subarray(i, i + chunkSize);
-                        binaryString += String.fromCharCode.apply(null, Array.from(chunk));
-                      }
-                      const base64 = btoa(binaryString);
-                      return <AvatarImage src={`data:image/jpeg;base64,${base64}`} />;
-                    } catch (error) {
-                      console.error('Error converting profile image:', error);
-                      return (
-                        <AvatarFallback className="bg-primary/10 text-primary text-4xl">
-                          {userInitials}
-                        </AvatarFallback>
-                      );
-                    }
-                  }
+                // If a stored profile image exists, load it from the backend (cached as immutable)
+                if (profileImageUrl) {
+                  return <AvatarImage src={profileImageSrc(profileImageUrl, 256)} />;
                 }
                 
                 // If avatar exists, use it
@@ -40,7 +40,7 @@ export interface User {
   userId?: number;
   name: string;
   avatar?: string;
-  profileImage?: number[] | string; // Can be byte array or base64 string
+  profileImageUrl?: string; // Backend path of the stored image, e.g. /api/profile-images/{sha256}
   email: string;
   role?: string; // 'STUDENT', 'PROFESSOR', 'ADMIN'
   major?: string;
@@ -0,0 +1,12 @@
+import axiosClient from "../api/axiosClient";
+
+// Thumbnail sizes the backend generates for avatars
+export type AvatarSize = 32 | 64 | 256;
+
+// Absolute URL of a stored profile image, resized to `size` px; undefined if the user has none
+export const profileImageSrc = (profileImageUrl: string | undefined, size: AvatarSize): string | undefined => {
+  if (!profileImageUrl) return undefined;
+  const url = new URL(profileImageUrl, axiosClient.defaults.baseURL);
+  url.searchParams.set("size", String(size));
+  return url.toString();
+};